@@ -0,0 +1,87 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link org.chocosolver.solver.constraints.extension.nary.PropCompactTable}:
+ * posting time and filtering after an instantiation.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class CompactTableBenchmark {
+
+    @Param({"5"})
+    public int arity;
+
+    @Param({"20"})
+    public int dsize;
+
+    @Param({"1000", "100000"})
+    public int nbTuples;
+
+    private Model model;
+    private IntVar[] vars;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws ContradictionException {
+        model = build();
+        vars = (IntVar[]) model.getHook("vars");
+        model.getEnvironment().worldPush();
+        model.getSolver().propagate();
+        next = 0;
+    }
+
+    private Model build() {
+        Model m = new Model();
+        IntVar[] xs = m.intVarArray("X", arity, 0, dsize - 1, false);
+        m.table(xs, Models.randomTuples(arity, dsize, nbTuples, 0L), "CT+").post();
+        m.addHook("vars", xs);
+        return m;
+    }
+
+    @Benchmark
+    public Model post() {
+        return build();
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        IntVar var = vars[next % arity];
+        int val = (next / arity) % dsize;
+        next++;
+        model.getEnvironment().worldPush();
+        boolean ok = true;
+        try {
+            var.instantiateTo(val, Cause.Null);
+            model.getSolver().propagate();
+        } catch (ContradictionException ce) {
+            ok = false;
+        }
+        model.getEnvironment().worldPop();
+        return ok;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.copy.EnvironmentCopying;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link EnvironmentTrailing} and {@link EnvironmentCopying} on the models of {@link SearchBenchmark}.
+ * Since both environments lead to the same search tree, the search is stopped after a fixed number of nodes
+ * and running times only differ by the cost of saving and restoring backtrackable data.
+ * Model creation is excluded from the measure.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class EnvironmentBenchmark {
+
+    @Param({"trailing", "copying"})
+    public String environment;
+
+    @Param({"queens", "golomb", "jobshop"})
+    public String problem;
+
+    @Param({"20000"})
+    public long nodes;
+
+    private Model model;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        IEnvironment env;
+        switch (environment) {
+            case "trailing":
+                env = new EnvironmentBuilder().fromFlat().build();
+                break;
+            case "copying":
+                env = new EnvironmentCopying();
+                break;
+            default:
+                throw new IllegalArgumentException(environment);
+        }
+        switch (problem) {
+            case "queens":
+                model = Models.nqueens(env, 16, "BC");
+                break;
+            case "golomb":
+                model = Models.golombRuler(env, 10);
+                break;
+            case "jobshop":
+                model = Models.jobshop(env, 6, 6, 0L);
+                break;
+            default:
+                throw new IllegalArgumentException(problem);
+        }
+        model.getSolver().limitNode(nodes);
+    }
+
+    @Benchmark
+    public long solve() {
+        Solver solver = model.getSolver();
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) ;
+        return solver.getNodeCount();
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures domain modifications of
+ * {@link org.chocosolver.solver.variables.impl.BitsetIntVarImpl} (enumerated domain) and
+ * {@link org.chocosolver.solver.variables.impl.IntervalIntVarImpl} (bounded domain).
+ * Modifications are done in a new world which is popped at the end of each invocation.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class IntVarBenchmark {
+
+    @Param({"bitset", "interval"})
+    public String domain;
+
+    @Param({"1024"})
+    public int size;
+
+    private IEnvironment environment;
+    private PropagationEngine engine;
+    private IntVar var;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Model model = new Model();
+        var = model.intVar("X", 0, size - 1, "interval".equals(domain));
+        environment = model.getEnvironment();
+        engine = model.getSolver().getEngine();
+        environment.worldPush();
+    }
+
+    @Benchmark
+    public int removeValue() throws ContradictionException {
+        environment.worldPush();
+        // values are removed from the bounds, so that both domain types are impacted
+        for (int i = 0; i < size / 2 - 1; i++) {
+            var.removeValue(i, Cause.Null);
+            var.removeValue(size - 1 - i, Cause.Null);
+        }
+        engine.ignoreModifications();
+        int s = var.getDomainSize();
+        environment.worldPop();
+        return s;
+    }
+
+    @Benchmark
+    public int updateBounds() throws ContradictionException {
+        environment.worldPush();
+        for (int i = 1; i < size / 2; i++) {
+            var.updateBounds(i, size - 1 - i, Cause.Null);
+        }
+        engine.ignoreModifications();
+        int s = var.getDomainSize();
+        environment.worldPop();
+        return s;
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+import java.util.Random;
+
+/**
+ * A factory dedicated to the creation of the models used in benchmarks.
+ * All models are built in a deterministic way (fixed seeds), so that two runs are comparable.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public class Models {
+
+    private Models() {
+    }
+
+    /**
+     * Creates a n-Queen problem with one allDifferent constraint and binary constraints.
+     * The variables can be accessed though the hook name "vars".
+     * @param n number of queens (or size of the chessboard)
+     * @param algo allDifferent's algorithm
+     * @return a solve-ready model
+     */
+    public static Model nqueens(int n, String algo) {
+        return nqueens(new EnvironmentBuilder().fromFlat().build(), n, algo);
+    }
+
+    /**
+     * Creates a n-Queen problem with one allDifferent constraint and binary constraints.
+     * The variables can be accessed though the hook name "vars".
+     * @param environment backtracking environment of the model
+     * @param n number of queens (or size of the chessboard)
+     * @param algo allDifferent's algorithm
+     * @return a solve-ready model
+     */
+    public static Model nqueens(IEnvironment environment, int n, String algo) {
+        Model model = new Model(environment, "Queens-" + n);
+        IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+        model.addHook("vars", vars);
+        model.allDifferent(vars, algo).post();
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                model.arithm(vars[i], "!=", vars[j], "+", k).post();
+            }
+        }
+        model.getSolver().setSearch(Search.minDomLBSearch(vars));
+        return model;
+    }
+
+    /**
+     * Creates a Golomb ruler problem of size m.
+     * The variables can be accessed though the hook name "ticks".
+     * @param m size of the rule
+     * @return a solve-ready model
+     */
+    public static Model golombRuler(int m) {
+        return golombRuler(new EnvironmentBuilder().fromFlat().build(), m);
+    }
+
+    /**
+     * Creates a Golomb ruler problem of size m.
+     * The variables can be accessed though the hook name "ticks".
+     * @param environment backtracking environment of the model
+     * @param m size of the rule
+     * @return a solve-ready model
+     */
+    public static Model golombRuler(IEnvironment environment, int m) {
+        Model model = new Model(environment, "Golomb-" + m);
+        int ub = (m < 31) ? (1 << (m + 1)) - 1 : 9999;
+        IntVar[] ticks = model.intVarArray("a", m, 0, ub, false);
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, ub, false);
+        model.addHook("ticks", ticks);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+                model.arithm(diffs[k], "-", ticks[m - 1], "<=", -((m - 1 - j + i) * (m - j + i)) / 2).post();
+                model.arithm(diffs[k], "<=", ticks[m - 1], "-", ((m - 1 - j + i) * (m - j + i)) / 2).post();
+            }
+        }
+        model.allDifferent(diffs, "BC").post();
+        if (m > 2) {
+            model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        }
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(ticks));
+        return model;
+    }
+
+    /**
+     * Creates a random job-shop problem with <i>j</i> jobs and <i>m</i> machines.
+     * Each job visits every machine once, in a random order, with a random duration in [1,9].
+     * Machines are modelled with cumulative constraints of capacity 1.
+     * The variables can be accessed though the hook name "starts".
+     * @param j number of jobs
+     * @param m number of machines
+     * @param seed seed for random generation
+     * @return a solve-ready model
+     */
+    public static Model jobshop(int j, int m, long seed) {
+        return jobshop(new EnvironmentBuilder().fromFlat().build(), j, m, seed);
+    }
+
+    /**
+     * Creates a random job-shop problem with <i>j</i> jobs and <i>m</i> machines.
+     * Each job visits every machine once, in a random order, with a random duration in [1,9].
+     * Machines are modelled with cumulative constraints of capacity 1.
+     * The variables can be accessed though the hook name "starts".
+     * @param environment backtracking environment of the model
+     * @param j number of jobs
+     * @param m number of machines
+     * @param seed seed for random generation
+     * @return a solve-ready model
+     */
+    public static Model jobshop(IEnvironment environment, int j, int m, long seed) {
+        Random rnd = new Random(seed);
+        Model model = new Model(environment, "JobShop-" + j + "x" + m);
+        int[][] durations = new int[j][m];
+        int[][] machines = new int[j][m];
+        int horizon = 0;
+        for (int i = 0; i < j; i++) {
+            for (int k = 0; k < m; k++) {
+                durations[i][k] = 1 + rnd.nextInt(9);
+                machines[i][k] = k;
+                horizon += durations[i][k];
+            }
+            // shuffle the route of job i
+            for (int k = m - 1; k > 0; k--) {
+                int r = rnd.nextInt(k + 1);
+                int t = machines[i][k];
+                machines[i][k] = machines[i][r];
+                machines[i][r] = t;
+            }
+        }
+        IntVar[] starts = new IntVar[j * m];
+        Task[][] tasksPerMachine = new Task[m][j];
+        IntVar makespan = model.intVar("makespan", 0, horizon, true);
+        for (int i = 0; i < j; i++) {
+            for (int k = 0; k < m; k++) {
+                IntVar s = model.intVar("S_" + i + "_" + k, 0, horizon, true);
+                starts[i * m + k] = s;
+                tasksPerMachine[machines[i][k]][i] = model.taskVar(s, durations[i][k]);
+                if (k > 0) {
+                    model.arithm(starts[i * m + k - 1], "+", model.intVar(durations[i][k - 1]), "<=", s).post();
+                }
+            }
+            model.arithm(starts[i * m + m - 1], "<=", makespan, "-", durations[i][m - 1]).post();
+        }
+        IntVar one = model.intVar(1);
+        IntVar[] heights = new IntVar[j];
+        for (int i = 0; i < j; i++) {
+            heights[i] = one;
+        }
+        for (int k = 0; k < m; k++) {
+            model.cumulative(tasksPerMachine[k], heights, one).post();
+        }
+        model.addHook("starts", starts);
+        model.setObjective(Model.MINIMIZE, makespan);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(starts), Search.inputOrderLBSearch(makespan));
+        return model;
+    }
+
+    /**
+     * Creates random feasible tuples of arity <i>arity</i>, with values in [0,<i>dsize</i>-1].
+     * @param arity arity of the tuples
+     * @param dsize domain size
+     * @param n number of tuples
+     * @param seed seed for random generation
+     * @return a set of feasible tuples
+     */
+    public static Tuples randomTuples(int arity, int dsize, int n, long seed) {
+        Random rnd = new Random(seed);
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < n; i++) {
+            int[] t = new int[arity];
+            for (int k = 0; k < arity; k++) {
+                t[k] = rnd.nextInt(dsize);
+            }
+            tuples.add(t);
+        }
+        return tuples;
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.propagation.AdaptivePropagationEngine;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link org.chocosolver.solver.propagation.PropagationEngine#propagate()}:
+ * each invocation pushes a world, instantiates one variable to its lower bound,
+ * reaches a fix point and then pops the world.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class PropagationBenchmark {
+
+    @Param({"queens", "golomb", "jobshop"})
+    public String problem;
+
+    @Param({"static", "adaptive"})
+    public String engine;
+
+    private Model model;
+    private IntVar[] vars;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws ContradictionException {
+        switch (problem) {
+            case "queens":
+                model = Models.nqueens(64, "AC");
+                vars = (IntVar[]) model.getHook("vars");
+                break;
+            case "golomb":
+                model = Models.golombRuler(11);
+                vars = (IntVar[]) model.getHook("ticks");
+                break;
+            case "jobshop":
+                model = Models.jobshop(10, 10, 0L);
+                vars = (IntVar[]) model.getHook("starts");
+                break;
+            default:
+                throw new IllegalArgumentException(problem);
+        }
+        if (engine.equals("adaptive")) {
+            model.getSolver().setEngine(new AdaptivePropagationEngine(model));
+        }
+        model.getEnvironment().worldPush();
+        model.getSolver().propagate();
+        next = 0;
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        Solver solver = model.getSolver();
+        IntVar var = vars[next];
+        next = (next + 1) % vars.length;
+        model.getEnvironment().worldPush();
+        boolean ok = true;
+        try {
+            var.instantiateTo(var.getLB(), Cause.Null);
+            solver.propagate();
+        } catch (ContradictionException ce) {
+            ok = false;
+        }
+        model.getEnvironment().worldPop();
+        return ok;
+    }
+}
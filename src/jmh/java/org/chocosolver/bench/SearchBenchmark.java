@@ -0,0 +1,76 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.propagation.AdaptivePropagationEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Solver#searchLoop()} on standard models.
+ * The search is stopped after a fixed number of nodes, to make running time depend only on
+ * the speed of the solver, not on the solving time of a problem.
+ * Model creation is excluded from the measure.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    @Param({"queens", "golomb", "jobshop"})
+    public String problem;
+
+    @Param({"static", "adaptive"})
+    public String engine;
+
+    @Param({"20000"})
+    public long nodes;
+
+    private Model model;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        switch (problem) {
+            case "queens":
+                model = Models.nqueens(16, "BC");
+                break;
+            case "golomb":
+                model = Models.golombRuler(10);
+                break;
+            case "jobshop":
+                model = Models.jobshop(6, 6, 0L);
+                break;
+            default:
+                throw new IllegalArgumentException(problem);
+        }
+        if (engine.equals("adaptive")) {
+            model.getSolver().setEngine(new AdaptivePropagationEngine(model));
+        }
+        model.getSolver().limitNode(nodes);
+    }
+
+    @Benchmark
+    public long solve() {
+        Solver solver = model.getSolver();
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) ;
+        return solver.getNodeCount();
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link org.chocosolver.solver.constraints.nary.sum.PropSum}
+ * and {@link org.chocosolver.solver.constraints.nary.sum.PropScalar}:
+ * each invocation instantiates half of the variables, one after the other,
+ * reaching a fix point after each instantiation.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class SumBenchmark {
+
+    @Param({"sum", "scalar"})
+    public String type;
+
+    @Param({"10", "100"})
+    public int n;
+
+    private Model model;
+    private IntVar[] vars;
+
+    @Setup(Level.Trial)
+    public void setup() throws ContradictionException {
+        model = new Model();
+        vars = model.intVarArray("X", n, 0, 10, true);
+        if ("sum".equals(type)) {
+            model.sum(vars, "=", 5 * n).post();
+        } else {
+            Random rnd = new Random(0L);
+            int[] coeffs = new int[n];
+            int s = 0;
+            for (int i = 0; i < n; i++) {
+                coeffs[i] = 1 + rnd.nextInt(10);
+                s += coeffs[i];
+            }
+            model.scalar(vars, coeffs, "=", 5 * s).post();
+        }
+        model.getEnvironment().worldPush();
+        model.getSolver().propagate();
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        model.getEnvironment().worldPush();
+        boolean ok = true;
+        try {
+            for (int i = 0; i < n / 2; i++) {
+                vars[i].instantiateTo(i % 2 == 0 ? vars[i].getLB() : vars[i].getUB(), Cause.Null);
+                model.getSolver().propagate();
+            }
+        } catch (ContradictionException ce) {
+            ok = false;
+        }
+        model.getEnvironment().worldPop();
+        return ok;
+    }
+}
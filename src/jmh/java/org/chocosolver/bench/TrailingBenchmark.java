@@ -0,0 +1,114 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.bench;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBool;
+import org.chocosolver.memory.IStateDouble;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.copy.EnvironmentCopying;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IEnvironment#worldPush()} and {@link IEnvironment#worldPop()}
+ * on the trails built by {@link EnvironmentBuilder} and on {@link EnvironmentCopying}.
+ * Each invocation goes down <i>depth</i> worlds, modifying <i>updates</i> stored values per world,
+ * and then comes back to the initial world.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class TrailingBenchmark {
+
+    @Param({"flat", "chunk", "contiguous", "copying"})
+    public String trail;
+
+    @Param({"100"})
+    public int depth;
+
+    @Param({"10", "1000"})
+    public int updates;
+
+    private IEnvironment environment;
+    private IStateInt[] ints;
+    private IStateLong[] longs;
+    private IStateDouble[] doubles;
+    private IStateBool[] bools;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (trail) {
+            case "flat":
+                environment = new EnvironmentBuilder().fromFlat().build();
+                break;
+            case "chunk":
+                environment = new EnvironmentBuilder().fromChunk().build();
+                break;
+            case "contiguous":
+                environment = new EnvironmentBuilder().fromContiguous().build();
+                break;
+            case "copying":
+                environment = new EnvironmentCopying();
+                break;
+            default:
+                throw new IllegalArgumentException(trail);
+        }
+        ints = new IStateInt[updates];
+        longs = new IStateLong[updates];
+        doubles = new IStateDouble[updates];
+        bools = new IStateBool[updates];
+        for (int i = 0; i < updates; i++) {
+            ints[i] = environment.makeInt(0);
+            longs[i] = environment.makeLong(0);
+            doubles[i] = environment.makeFloat(0.);
+            bools[i] = environment.makeBool(false);
+        }
+    }
+
+    @Benchmark
+    public int pushAndPopInt() {
+        int w = environment.getWorldIndex();
+        for (int d = 1; d <= depth; d++) {
+            environment.worldPush();
+            for (int i = 0; i < updates; i++) {
+                ints[i].add(1);
+            }
+        }
+        environment.worldPopUntil(w);
+        return ints[0].get();
+    }
+
+    @Benchmark
+    public int pushAndPopAll() {
+        int w = environment.getWorldIndex();
+        for (int d = 1; d <= depth; d++) {
+            environment.worldPush();
+            for (int i = 0; i < updates; i++) {
+                ints[i].add(1);
+                longs[i].set(longs[i].get() + 1L);
+                doubles[i].set(doubles[i].get() + 1.);
+                bools[i].set((d & 1) == 1);
+            }
+        }
+        environment.worldPopUntil(w);
+        return ints[0].get();
+    }
+}
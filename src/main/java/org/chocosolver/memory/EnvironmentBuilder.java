@@ -11,6 +11,7 @@ package org.chocosolver.memory;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.chunck.*;
+import org.chocosolver.memory.trailing.trail.contiguous.ContiguousTrail;
 import org.chocosolver.memory.trailing.trail.flatten.*;
 
 /**
@@ -202,4 +203,19 @@ public class EnvironmentBuilder {
         setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
         return this;
     }
-}
\ No newline at end of file
+
+    /**
+     * Build an environment where integers, longs, doubles and booleans share
+     * one contiguous trail of primitives, see {@link ContiguousTrail}
+     * @return {@code this}
+     */
+    public EnvironmentBuilder fromContiguous(){
+        ContiguousTrail trail = new ContiguousTrail(worldsize, worldnumber, loadfactor);
+        setTrail((IStoredBoolTrail) trail);
+        setTrail((IStoredIntTrail) trail);
+        setTrail((IStoredDoubleTrail) trail);
+        setTrail((IStoredLongTrail) trail);
+        setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
+        return this;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copy;
+
+import org.chocosolver.memory.IStateDoubleVector;
+
+/**
+ * A class implementing a backtrackable vector of double, restored by copy.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public final class CopyDoubleVector extends IStateDoubleVector {
+
+    /**
+     * Set to <tt>true</tt> when this was created during search: its former values are then trailed,
+     * since the environment only copies data created in the root world
+     */
+    private final boolean trailed;
+
+    /**
+     * Constructs a copied vector of double.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    public CopyDoubleVector(EnvironmentCopying env, int initialSize, double initialValue) {
+        super(env, initialSize, initialValue);
+        trailed = !env.add(this);
+    }
+
+    @Override
+    public double quickSet(int index, double val) {
+        assert (rangeCheck(index));
+        final double oldValue = elementData[index];
+        if (trailed && Double.compare(oldValue, val) != 0 && environment.getWorldIndex() > 0) {
+            environment.save(() -> elementData[index] = oldValue);
+        }
+        elementData[index] = val;
+        return oldValue;
+    }
+
+    /**
+     * Copy the size and the elements of this vector into <i>segment</i>, from <i>pos</i>
+     *
+     * @return the position following the copy
+     */
+    int save(long[] segment, int pos) {
+        int s = size.get();
+        segment[pos++] = s;
+        for (int i = 0; i < s; i++) {
+            segment[pos++] = Double.doubleToRawLongBits(elementData[i]);
+        }
+        return pos;
+    }
+
+    /**
+     * Restore the elements of this vector from <i>segment</i>, from <i>pos</i>
+     *
+     * @return the position following the copy
+     */
+    int restore(long[] segment, int pos) {
+        int s = (int) segment[pos++];
+        for (int i = 0; i < s; i++) {
+            elementData[i] = Double.longBitsToDouble(segment[pos++]);
+        }
+        return pos;
+    }
+
+    /**
+     * @return number of longs required to copy this vector
+     */
+    int saveSize() {
+        return size.get() + 1;
+    }
+}
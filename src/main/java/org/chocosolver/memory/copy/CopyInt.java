@@ -0,0 +1,56 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copy;
+
+import org.chocosolver.memory.IStateInt;
+
+/**
+ * A class implementing backtrackable int, restored by copy.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class CopyInt extends IStateInt {
+
+    /**
+     * Set to <tt>true</tt> when this was created during search: its former values are then trailed,
+     * since the environment only copies data created in the root world
+     */
+    private final boolean trailed;
+
+    /**
+     * Constructs a copied int with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    public CopyInt(final EnvironmentCopying env, final int i) {
+        super(env, i);
+        trailed = !env.add(this, i);
+        timeStamp = env.getTimeStamp();
+    }
+
+    /**
+     * Modifies the value, the former one is restored from the copy made by the environment,
+     * or from the trail if this was created during search.
+     */
+    @Override
+    public final void set(final int y) {
+        if (trailed && y != currentValue) {
+            final int ts = environment.getTimeStamp();
+            if (timeStamp != ts && environment.getWorldIndex() > 0) {
+                final int v = currentValue;
+                environment.save(() -> _set(v, -1));
+                timeStamp = ts;
+            }
+        }
+        currentValue = y;
+    }
+}
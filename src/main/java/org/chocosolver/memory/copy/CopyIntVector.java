@@ -0,0 +1,104 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copy;
+
+import org.chocosolver.memory.IStateIntVector;
+
+import java.util.Arrays;
+
+/**
+ * A class implementing a backtrackable vector of int, restored by copy.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public final class CopyIntVector extends IStateIntVector {
+
+    /**
+     * Set to <tt>true</tt> when this was created during search: its former values are then trailed,
+     * since the environment only copies data created in the root world
+     */
+    private final boolean trailed;
+
+    /**
+     * Constructs a copied vector of int.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    public CopyIntVector(EnvironmentCopying env, int initialSize, int initialValue) {
+        super(env, initialSize, initialValue);
+        trailed = !env.add(this);
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (minCapacity > oldCapacity) {
+            elementData = Arrays.copyOf(elementData, Math.max(minCapacity, (oldCapacity * 3) / 2 + 1));
+        }
+    }
+
+    @Override
+    public void add(int i) {
+        int newsize = size.get() + 1;
+        ensureCapacity(newsize);
+        size.set(newsize);
+        elementData[newsize - 1] = i;
+    }
+
+    @Override
+    public int set(int index, int val) {
+        if (rangeCheck(index)) {
+            return quickSet(index, val);
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    public int quickSet(int index, int val) {
+        assert (rangeCheck(index));
+        final int oldValue = elementData[index];
+        if (trailed && oldValue != val && environment.getWorldIndex() > 0) {
+            environment.save(() -> elementData[index] = oldValue);
+        }
+        elementData[index] = val;
+        return oldValue;
+    }
+
+    /**
+     * Copy the size and the elements of this vector into <i>segment</i>, from <i>pos</i>
+     *
+     * @return the position following the copy
+     */
+    int save(int[] segment, int pos) {
+        int s = size.get();
+        segment[pos] = s;
+        System.arraycopy(elementData, 0, segment, pos + 1, s);
+        return pos + 1 + s;
+    }
+
+    /**
+     * Restore the elements of this vector from <i>segment</i>, from <i>pos</i>
+     *
+     * @return the position following the copy
+     */
+    int restore(int[] segment, int pos) {
+        int s = segment[pos];
+        System.arraycopy(segment, pos + 1, elementData, 0, s);
+        return pos + 1 + s;
+    }
+
+    /**
+     * @return number of ints required to copy this vector
+     */
+    int saveSize() {
+        return size.get() + 1;
+    }
+}
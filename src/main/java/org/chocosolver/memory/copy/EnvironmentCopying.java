@@ -0,0 +1,382 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copy;
+
+import org.chocosolver.memory.AbstractEnvironment;
+import org.chocosolver.memory.IStateBool;
+import org.chocosolver.memory.IStateDouble;
+import org.chocosolver.memory.IStateDoubleVector;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.trailing.trail.flatten.OperationTrail;
+
+import java.util.Arrays;
+
+/**
+ * An environment which restores backtrackable data by copy instead of trailing.
+ * <p>
+ * On {@link #worldPush()}, the values of all the backtrackable integers, longs, doubles, booleans and vectors
+ * created in the root world, that is while the model is built, are copied into two contiguous segments
+ * (one of ints, one of longs).
+ * On {@link #worldPop()}, they are all restored from the last copy.
+ * Hence, a modification costs nothing more than an assignment, while pushing and popping a world costs
+ * a number of operations proportional to the number of backtrackable data, whatever the number of modifications.
+ * This suits models whose state is small or mostly modified between two choice points
+ * (for instance, big bitset domains or cumulative profiles),
+ * whereas trailing (see {@link org.chocosolver.memory.trailing.EnvironmentTrailing}) suits models where few
+ * data are modified between two choice points.
+ * </p>
+ * <p>
+ * Operations saved with {@link #save(IOperation)} are still trailed, which makes this environment a hybrid one.
+ * So are the data created during search (for instance, by a constraint posted temporarily):
+ * they are never copied, hence they do not increase the cost of pushing a world, even once they are not used anymore.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class EnvironmentCopying extends AbstractEnvironment {
+
+    /**
+     * Initial number of data of each type
+     */
+    private static final int SIZE = 64;
+
+    /**
+     * Number of marks per world: number of data of each type, then tops of the two segments
+     */
+    private static final int STRIDE = 8;
+
+    private CopyInt[] ints = new CopyInt[SIZE];
+    private int nInts;
+    private CopyBool[] bools = new CopyBool[SIZE];
+    private int nBools;
+    private CopyIntVector[] intVectors = new CopyIntVector[SIZE];
+    private int nIntVectors;
+    private CopyLong[] longs = new CopyLong[SIZE];
+    private int nLongs;
+    private CopyDouble[] doubles = new CopyDouble[SIZE];
+    private int nDoubles;
+    private CopyDoubleVector[] doubleVectors = new CopyDoubleVector[SIZE];
+    private int nDoubleVectors;
+
+    /**
+     * Copies of ints, booleans (as 0/1) and vectors of ints
+     */
+    private int[] intSegment = new int[SIZE];
+    private int intTop;
+
+    /**
+     * Copies of longs, doubles (as raw bits) and vectors of doubles
+     */
+    private long[] longSegment = new long[SIZE];
+    private int longTop;
+
+    /**
+     * For each world, the number of data of each type copied and the start of its copies in each segment
+     */
+    private int[] marks = new int[STRIDE * SIZE];
+
+    /**
+     * Data created during search, whose history is simulated,
+     * that is, which are restored to their initial value when this world is popped
+     */
+    private Object[] fakeObjects = new Object[0];
+    private long[] fakeValues = new long[0];
+    private int[] fakeWorlds = new int[0];
+    private int nFakes;
+
+    /**
+     * Trail of operations
+     */
+    private final OperationTrail operationTrail = new OperationTrail(SIZE, SIZE, 2);
+
+    @Override
+    public void worldPush() {
+        timestamp++;
+        int m = STRIDE * currentWorld;
+        if (m + STRIDE > marks.length) {
+            marks = Arrays.copyOf(marks, marks.length * 2);
+        }
+        marks[m] = nInts;
+        marks[m + 1] = nBools;
+        marks[m + 2] = nIntVectors;
+        marks[m + 3] = nLongs;
+        marks[m + 4] = nDoubles;
+        marks[m + 5] = nDoubleVectors;
+        marks[m + 6] = intTop;
+        marks[m + 7] = longTop;
+        int is = nInts + nBools;
+        for (int i = 0; i < nIntVectors; i++) {
+            is += intVectors[i].saveSize();
+        }
+        if (intTop + is > intSegment.length) {
+            intSegment = Arrays.copyOf(intSegment, Math.max(intSegment.length * 2, intTop + is));
+        }
+        int ls = nLongs + nDoubles;
+        for (int i = 0; i < nDoubleVectors; i++) {
+            ls += doubleVectors[i].saveSize();
+        }
+        if (longTop + ls > longSegment.length) {
+            longSegment = Arrays.copyOf(longSegment, Math.max(longSegment.length * 2, longTop + ls));
+        }
+        final int[] iseg = intSegment;
+        int p = intTop;
+        for (int i = 0; i < nInts; i++) {
+            iseg[p++] = ints[i].get();
+        }
+        for (int i = 0; i < nBools; i++) {
+            iseg[p++] = bools[i].get() ? 1 : 0;
+        }
+        for (int i = 0; i < nIntVectors; i++) {
+            p = intVectors[i].save(iseg, p);
+        }
+        intTop = p;
+        final long[] lseg = longSegment;
+        p = longTop;
+        for (int i = 0; i < nLongs; i++) {
+            lseg[p++] = longs[i].get();
+        }
+        for (int i = 0; i < nDoubles; i++) {
+            lseg[p++] = Double.doubleToRawLongBits(doubles[i].get());
+        }
+        for (int i = 0; i < nDoubleVectors; i++) {
+            p = doubleVectors[i].save(lseg, p);
+        }
+        longTop = p;
+        currentWorld++;
+        operationTrail.worldPush(currentWorld);
+    }
+
+    @Override
+    public void worldPop() {
+        timestamp++;
+        operationTrail.worldPop(currentWorld);
+        currentWorld--;
+        assert currentWorld >= 0;
+        final int w = currentWorld;
+        int m = STRIDE * w;
+        final int[] iseg = intSegment;
+        int p = marks[m + 6];
+        for (int i = 0, n = marks[m]; i < n; i++) {
+            ints[i]._set(iseg[p++], w);
+        }
+        for (int i = 0, n = marks[m + 1]; i < n; i++) {
+            bools[i]._set(iseg[p++] != 0, w);
+        }
+        for (int i = 0, n = marks[m + 2]; i < n; i++) {
+            p = intVectors[i].restore(iseg, p);
+        }
+        final long[] lseg = longSegment;
+        p = marks[m + 7];
+        for (int i = 0, n = marks[m + 3]; i < n; i++) {
+            longs[i]._set(lseg[p++], w);
+        }
+        for (int i = 0, n = marks[m + 4]; i < n; i++) {
+            doubles[i]._set(Double.longBitsToDouble(lseg[p++]), w);
+        }
+        for (int i = 0, n = marks[m + 5]; i < n; i++) {
+            p = doubleVectors[i].restore(lseg, p);
+        }
+        intTop = marks[m + 6];
+        longTop = marks[m + 7];
+        while (nFakes > 0 && fakeWorlds[nFakes - 1] > w) {
+            nFakes--;
+            resetFake(fakeObjects[nFakes], fakeValues[nFakes], w);
+            fakeObjects[nFakes] = null;
+        }
+    }
+
+    @Override
+    public void worldCommit() {
+        if (currentWorld == 0) {
+            throw new IllegalStateException("Commit in world 0?");
+        }
+        operationTrail.worldCommit(currentWorld);
+        currentWorld--;
+        // the current values are kept, the last copies are forgotten
+        int m = STRIDE * currentWorld;
+        intTop = marks[m + 6];
+        longTop = marks[m + 7];
+        // data created in the committed world are now created in the current one
+        for (int i = nFakes - 1; i >= 0 && fakeWorlds[i] > currentWorld; i--) {
+            fakeWorlds[i] = currentWorld;
+        }
+        if (currentWorld == 0) {
+            Arrays.fill(fakeObjects, 0, nFakes, null);
+            nFakes = 0;
+        }
+    }
+
+    @Override
+    public IStateInt makeInt() {
+        return makeInt(0);
+    }
+
+    @Override
+    public IStateInt makeInt(final int initialValue) {
+        return new CopyInt(this, initialValue);
+    }
+
+    @Override
+    public IStateBool makeBool(final boolean initialValue) {
+        return new CopyBool(this, initialValue);
+    }
+
+    @Override
+    public IStateIntVector makeIntVector(final int size, final int initialValue) {
+        return new CopyIntVector(this, size, initialValue);
+    }
+
+    @Override
+    public IStateDoubleVector makeDoubleVector(final int size, final double initialValue) {
+        return new CopyDoubleVector(this, size, initialValue);
+    }
+
+    @Override
+    public IStateDouble makeFloat() {
+        return makeFloat(Double.NaN);
+    }
+
+    @Override
+    public IStateDouble makeFloat(final double initialValue) {
+        return new CopyDouble(this, initialValue);
+    }
+
+    @Override
+    public IStateLong makeLong() {
+        return makeLong(0);
+    }
+
+    @Override
+    public IStateLong makeLong(final long init) {
+        return new CopyLong(this, init);
+    }
+
+    @Override
+    public void save(IOperation operation) {
+        operationTrail.savePreviousState(operation);
+    }
+
+    /**
+     * Register <i>v</i> to be copied on each {@link #worldPush()}, if it is created in the root world.
+     *
+     * @return <tt>false</tt> if <i>v</i> is created during search, and should thus be trailed
+     */
+    boolean add(CopyInt v, int initialValue) {
+        if (currentWorld > 0) {
+            addFake(v, initialValue);
+            return false;
+        }
+        if (nInts == ints.length) {
+            ints = Arrays.copyOf(ints, nInts * 2);
+        }
+        ints[nInts++] = v;
+        return true;
+    }
+
+    boolean add(CopyBool v, boolean initialValue) {
+        if (currentWorld > 0) {
+            addFake(v, initialValue ? 1L : 0L);
+            return false;
+        }
+        if (nBools == bools.length) {
+            bools = Arrays.copyOf(bools, nBools * 2);
+        }
+        bools[nBools++] = v;
+        return true;
+    }
+
+    boolean add(CopyLong v, long initialValue) {
+        if (currentWorld > 0) {
+            addFake(v, initialValue);
+            return false;
+        }
+        if (nLongs == longs.length) {
+            longs = Arrays.copyOf(longs, nLongs * 2);
+        }
+        longs[nLongs++] = v;
+        return true;
+    }
+
+    boolean add(CopyDouble v, double initialValue) {
+        if (currentWorld > 0) {
+            addFake(v, Double.doubleToRawLongBits(initialValue));
+            return false;
+        }
+        if (nDoubles == doubles.length) {
+            doubles = Arrays.copyOf(doubles, nDoubles * 2);
+        }
+        doubles[nDoubles++] = v;
+        return true;
+    }
+
+    boolean add(CopyIntVector v) {
+        if (currentWorld > 0) {
+            return false;
+        }
+        if (nIntVectors == intVectors.length) {
+            intVectors = Arrays.copyOf(intVectors, nIntVectors * 2);
+        }
+        intVectors[nIntVectors++] = v;
+        return true;
+    }
+
+    boolean add(CopyDoubleVector v) {
+        if (currentWorld > 0) {
+            return false;
+        }
+        if (nDoubleVectors == doubleVectors.length) {
+            doubleVectors = Arrays.copyOf(doubleVectors, nDoubleVectors * 2);
+        }
+        doubleVectors[nDoubleVectors++] = v;
+        return true;
+    }
+
+    /**
+     * @return number of data copied on each {@link #worldPush()}
+     */
+    int getNbCopiedData() {
+        return nInts + nBools + nIntVectors + nLongs + nDoubles + nDoubleVectors;
+    }
+
+    /**
+     * Record <i>o</i> when its history has to be simulated
+     */
+    private void addFake(Object o, long initialValue) {
+        if (fakeHistoryNeeded()) {
+            if (nFakes == fakeObjects.length) {
+                int c = nFakes * 2 + 1;
+                fakeObjects = Arrays.copyOf(fakeObjects, c);
+                fakeValues = Arrays.copyOf(fakeValues, c);
+                fakeWorlds = Arrays.copyOf(fakeWorlds, c);
+            }
+            fakeObjects[nFakes] = o;
+            fakeValues[nFakes] = initialValue;
+            fakeWorlds[nFakes] = currentWorld;
+            nFakes++;
+        }
+    }
+
+    private static void resetFake(Object o, long value, int w) {
+        if (o instanceof CopyInt) {
+            ((CopyInt) o)._set((int) value, w);
+        } else if (o instanceof CopyBool) {
+            ((CopyBool) o)._set(value != 0L, w);
+        } else if (o instanceof CopyLong) {
+            ((CopyLong) o)._set(value, w);
+        } else {
+            ((CopyDouble) o)._set(Double.longBitsToDouble(value), w);
+        }
+    }
+}
@@ -182,10 +182,23 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         System.arraycopy(tmp, 0, trails, 0, tmp.length);
     }
 
+    /**
+     * Add <i>trail</i> to the trails to manage, unless it is already managed
+     * (a trail can store several kinds of data).
+     */
+    private void addTrail(IStorage trail) {
+        for (int i = 0; i < trailSize; i++) {
+            if (trails[i] == trail) {
+                return;
+            }
+        }
+        increaseTrail();
+        trails[trailSize++] = trail;
+    }
+
     public void setIntTrail(IStoredIntTrail itrail){
         if(intTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = intTrail = itrail;
+            addTrail(intTrail = itrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -201,8 +214,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setLongTrail(IStoredLongTrail ltrail){
         if(longTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = longTrail = ltrail;
+            addTrail(longTrail = ltrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -217,8 +229,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setBoolTrail(IStoredBoolTrail btrail){
         if(boolTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = boolTrail = btrail;
+            addTrail(boolTrail = btrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -233,8 +244,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setDoubleTrail(IStoredDoubleTrail dtrail){
         if(doubleTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = doubleTrail = dtrail;
+            addTrail(doubleTrail = dtrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -249,8 +259,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setOperationTrail(IOperationTrail otrail){
         if(operationTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = operationTrail = otrail;
+            addTrail(operationTrail = otrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
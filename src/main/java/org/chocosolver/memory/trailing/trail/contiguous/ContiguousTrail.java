@@ -0,0 +1,255 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail.contiguous;
+
+import org.chocosolver.memory.trailing.StoredBool;
+import org.chocosolver.memory.trailing.StoredDouble;
+import org.chocosolver.memory.trailing.StoredInt;
+import org.chocosolver.memory.trailing.StoredLong;
+import org.chocosolver.memory.trailing.trail.IStoredBoolTrail;
+import org.chocosolver.memory.trailing.trail.IStoredDoubleTrail;
+import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
+import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
+
+/**
+ * A trail for integers, longs, doubles and booleans, which stores all updates in one contiguous segment of longs.
+ * <p>
+ * Each update takes two consecutive slots of the segment: the former value (an integer, a long, the raw bits of
+ * a double or 0/1 for a boolean) and a header made of the type of the update and the former timestamp.
+ * A stack of offsets gives the start of each world in the segment.
+ * Thus, whatever the types of the stored objects, restoring a world is a single backward scan of the segment,
+ * and the trail allocates nothing but when its capacity is exceeded.
+ * </p>
+ * <p>
+ * The same instance is meant to be declared as the int, long, double and bool trails of an environment,
+ * see {@link org.chocosolver.memory.EnvironmentBuilder#fromContiguous()}.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class ContiguousTrail implements IStoredIntTrail, IStoredLongTrail, IStoredDoubleTrail, IStoredBoolTrail {
+
+    private static final long INT = 0L;
+    private static final long LONG = 1L << 32;
+    private static final long DOUBLE = 2L << 32;
+    private static final long BOOL = 3L << 32;
+    private static final long TYPE = 3L << 32;
+    private static final long STAMP = 0xFFFFFFFFL;
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * Former values and headers (type and former timestamp) of the updates,
+     * the <i>l</i>th update being stored at <i>2l</i> and <i>2l + 1</i>.
+     */
+    private long[] segment;
+
+    /**
+     * Stack of the objects updated.
+     */
+    private Object[] objects;
+
+    /**
+     * Points the level of the last entry.
+     */
+    private int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Constructs a trail with predefined size.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public ContiguousTrail(int nUpdates, int nWorlds, double loadfactor) {
+        currentLevel = 0;
+        segment = new long[2 * nUpdates];
+        objects = new Object[nUpdates];
+        worldStartLevels = new int[nWorlds];
+        this.loadfactor = loadfactor;
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            resizeWorldCapacity((int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        final long[] seg = segment;
+        final Object[] objs = objects;
+        int level = currentLevel;
+        while (level > wsl) {
+            level--;
+            final long value = seg[2 * level];
+            final long header = seg[2 * level + 1];
+            final int stamp = (int) (header & STAMP);
+            switch ((int) ((header & TYPE) >>> 32)) {
+                case 0:
+                    ((StoredInt) objs[level])._set((int) value, stamp);
+                    break;
+                case 1:
+                    ((StoredLong) objs[level])._set(value, stamp);
+                    break;
+                case 2:
+                    ((StoredDouble) objs[level])._set(Double.longBitsToDouble(value), stamp);
+                    break;
+                default:
+                    ((StoredBool) objs[level])._set(value != 0L, stamp);
+                    break;
+            }
+        }
+        currentLevel = level;
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        final int startLevel = worldStartLevels[worldIndex];
+        final int prevWorld = worldIndex - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            final Object o = objects[level];
+            final long header = segment[2 * level + 1];
+            // update the stamp of the object (current stamp refers to a world that no longer exists)
+            switch ((int) ((header & TYPE) >>> 32)) {
+                case 0:
+                    ((StoredInt) o).overrideTimeStamp(prevWorld);
+                    break;
+                case 1:
+                    ((StoredLong) o).overrideTimeStamp(prevWorld);
+                    break;
+                case 2:
+                    ((StoredDouble) o).overrideTimeStamp(prevWorld);
+                    break;
+                default:
+                    ((StoredBool) o).overrideTimeStamp(prevWorld);
+                    break;
+            }
+            if ((int) (header & STAMP) != prevWorld) {
+                // shift the update if needed
+                if (writeIdx != level) {
+                    objects[writeIdx] = o;
+                    segment[2 * writeIdx] = segment[2 * level];
+                    segment[2 * writeIdx + 1] = header;
+                }
+                writeIdx++;
+            }  //else:writeIdx is not incremented and the update will be discarded (since a good one is in prevWorld)
+        }
+        currentLevel = writeIdx;
+    }
+
+    @Override
+    public void savePreviousState(StoredInt v, int oldValue, int oldStamp) {
+        save(v, oldValue, INT, oldStamp);
+    }
+
+    @Override
+    public void savePreviousState(StoredLong v, long oldValue, int oldStamp) {
+        save(v, oldValue, LONG, oldStamp);
+    }
+
+    @Override
+    public void savePreviousState(StoredDouble v, double oldValue, int oldStamp) {
+        save(v, Double.doubleToRawLongBits(oldValue), DOUBLE, oldStamp);
+    }
+
+    @Override
+    public void savePreviousState(StoredBool v, boolean oldValue, int oldStamp) {
+        save(v, oldValue ? 1L : 0L, BOOL, oldStamp);
+    }
+
+    @Override
+    public void buildFakeHistory(StoredInt v, int initValue, int olderStamp) {
+        buildFakeHistory(v, initValue, INT, olderStamp);
+    }
+
+    @Override
+    public void buildFakeHistory(StoredLong v, long initValue, int olderStamp) {
+        buildFakeHistory(v, initValue, LONG, olderStamp);
+    }
+
+    @Override
+    public void buildFakeHistory(StoredDouble v, double initValue, int olderStamp) {
+        buildFakeHistory(v, Double.doubleToRawLongBits(initValue), DOUBLE, olderStamp);
+    }
+
+    @Override
+    public void buildFakeHistory(StoredBool v, boolean initValue, int olderStamp) {
+        buildFakeHistory(v, initValue ? 1L : 0L, BOOL, olderStamp);
+    }
+
+    /**
+     * Push an update on the segment
+     */
+    private void save(Object o, long value, long type, int stamp) {
+        objects[currentLevel] = o;
+        segment[2 * currentLevel] = value;
+        segment[2 * currentLevel + 1] = type | (stamp & STAMP);
+        currentLevel++;
+        if (currentLevel == objects.length) {
+            resizeUpdateCapacity();
+        }
+    }
+
+    private void buildFakeHistory(Object o, long initValue, long type, int olderStamp) {
+        // from world 0 to fromStamp (excluded), create a fake history based on initValue
+        // kind a copy of the current elements
+        // first save the current state on the top of the stack
+        save(o, initValue, type, olderStamp - 1);
+        // second: ensures capacities
+        while (currentLevel + olderStamp > objects.length) {
+            resizeUpdateCapacity();
+        }
+        int i1, f, s = currentLevel;
+        for (int w = olderStamp; w > 1; w--) {
+            f = worldStartLevels[w];
+            i1 = f + w - 1;
+            s -= f;
+            System.arraycopy(objects, f, objects, i1, s);
+            System.arraycopy(segment, 2 * f, segment, 2 * i1, 2 * s);
+            objects[i1 - 1] = o;
+            segment[2 * (i1 - 1)] = initValue;
+            segment[2 * (i1 - 1) + 1] = type | ((w - 2) & STAMP);
+            worldStartLevels[w] += w - 1;
+            currentLevel++;
+            s = f;
+        }
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) (objects.length * loadfactor);
+        final Object[] tmp1 = new Object[newCapacity];
+        System.arraycopy(objects, 0, tmp1, 0, objects.length);
+        objects = tmp1;
+        final long[] tmp2 = new long[2 * newCapacity];
+        System.arraycopy(segment, 0, tmp2, 0, segment.length);
+        segment = tmp2;
+    }
+
+    private void resizeWorldCapacity(int newWorldCapacity) {
+        final int[] tmp = new int[newWorldCapacity];
+        System.arraycopy(worldStartLevels, 0, tmp, 0, worldStartLevels.length);
+        worldStartLevels = tmp;
+    }
+}
@@ -24,6 +24,7 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.chocosolver.sat.SatSolver.*;
 
@@ -114,6 +115,11 @@ public class PropNogoods extends Propagator<IntVar> {
      */
     private boolean initialized = false;
 
+    /**
+     * Observer of learnt clauses, may be null
+     */
+    private Consumer<int[]> learntObserver;
+
     /**
      * Create a (unique) propagator for no-goods recording and propagation.
      *
@@ -530,6 +536,9 @@ public class PropNogoods extends Propagator<IntVar> {
      * @param lits clause
      */
     public void addLearnt(int... lits) {
+        if (learntObserver != null) {
+            learntObserver.accept(lits.clone());
+        }
         sat_.learnClause(lits);
         // early deductions of learnt clause may lead to incorrect behavior on backtrack
         // since early deduction is not backtrackable.
@@ -557,6 +566,51 @@ public class PropNogoods extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * Set an observer which is informed of each clause added with {@link #addLearnt(int...)}.
+     * The observer receives a copy of the literals of the clause.
+     * Literals can be decoded with {@link #getVariable(int)}, {@link #getValue(int)},
+     * {@link #isEquality(int)} and {@link #isPositive(int)}.
+     *
+     * @param observer an observer of learnt clauses, or <tt>null</tt> to remove the current one
+     */
+    public void setLearntObserver(Consumer<int[]> observer) {
+        this.learntObserver = observer;
+    }
+
+    /**
+     * @param lit a literal created with {@link #Literal(IntVar, int, boolean)}, or its negation
+     * @return the variable the literal is based on
+     */
+    public IntVar getVariable(int lit) {
+        int pos = lit2pos[var(lit)];
+        return initialized ? vars[pos] : add_var.get(pos);
+    }
+
+    /**
+     * @param lit a literal created with {@link #Literal(IntVar, int, boolean)}, or its negation
+     * @return the value the literal is based on
+     */
+    public int getValue(int lit) {
+        return ivalue(lit2val[var(lit)]);
+    }
+
+    /**
+     * @param lit a literal created with {@link #Literal(IntVar, int, boolean)}, or its negation
+     * @return <tt>true</tt> if the literal encodes '=', <tt>false</tt> if it encodes '&le;'.
+     */
+    public boolean isEquality(int lit) {
+        return iseq(lit2val[var(lit)]);
+    }
+
+    /**
+     * @param lit a literal created with {@link #Literal(IntVar, int, boolean)}, or its negation
+     * @return <tt>false</tt> if the literal is negated, <tt>true</tt> otherwise.
+     */
+    public boolean isPositive(int lit) {
+        return sign(lit);
+    }
+
     private void storeEarlyDeductions() {
         for (int i = 0; i < sat_.touched_variables_.size(); ++i) {
             int lit = sat_.touched_variables_.get(i);
@@ -78,6 +78,8 @@ public class DefaultSettings implements Settings {
 
     private byte hybridEngine = 0b00;
 
+    private boolean adaptiveEngine = false;
+
     private int nbMaxLearnt = 100_000;
 
     private int maxLearntCardinlity = Integer.MAX_VALUE / 100;
@@ -86,6 +88,10 @@ public class DefaultSettings implements Settings {
 
     private int dominancePerimeter = 4;
 
+    private int coreLBD = 2;
+
+    private int tier2LBD = 6;
+
     private boolean explainGlobalFailureInSum = true;
 
     private Function<Model, Solver> initSolver = Solver::new;
@@ -339,6 +345,17 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public boolean enableAdaptivePropagatorOrdering() {
+        return adaptiveEngine;
+    }
+
+    @Override
+    public Settings setAdaptivePropagatorOrdering(boolean adaptive) {
+        this.adaptiveEngine = adaptive;
+        return this;
+    }
+
     @Override
     public int getNbMaxLearntClauses() {
         return nbMaxLearnt;
@@ -383,6 +400,28 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public int getLearntClausesCoreLBD() {
+        return coreLBD;
+    }
+
+    @Override
+    public Settings setLearntClausesCoreLBD(int n) {
+        this.coreLBD = n;
+        return this;
+    }
+
+    @Override
+    public int getLearntClausesTier2LBD() {
+        return tier2LBD;
+    }
+
+    @Override
+    public Settings setLearntClausesTier2LBD(int n) {
+        this.tier2LBD = n;
+        return this;
+    }
+
     @Override
     public boolean explainGlobalFailureInSum() {
         return explainGlobalFailureInSum;
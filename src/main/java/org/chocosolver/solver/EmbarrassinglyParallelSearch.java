@@ -0,0 +1,548 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.real.RealConstraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.move.MoveWorkStealing;
+import org.chocosolver.solver.search.loop.parallel.Cube;
+import org.chocosolver.solver.search.loop.parallel.CubeStrategy;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+import org.chocosolver.util.objects.IntMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A class to split the search tree of a problem over many threads, following the
+ * Embarrassingly Parallel Search (EPS) approach [1].
+ * </p>
+ * <p>
+ * The search tree is first decomposed, on the first model, into consistent sub-problems (called {@link Cube}s):
+ * the declared search strategy is applied (in a depth-first way) until a given depth is reached
+ * and the path of decisions leading to each node at that depth, which has not been proven inconsistent
+ * by propagation, is recorded.
+ * Then, cubes are handed out to workers, one per model, through a work queue.
+ * A worker replays a cube on its model (see {@link CubeStrategy}) and explores the sub-tree with its own strategy.
+ * </p>
+ * <p>
+ * Solutions found by workers are streamed back through a single {@link Stream}.
+ * When dealing with an optimization problem, only improving solutions are streamed and
+ * the bound of each new solution is shared with all workers.
+ * Once all cubes have been explored, the last streamed solution is guaranteed to be the optimal one
+ * (unless the search was stopped before its end, see {@link #isSearchCompleted()}).
+ * </p>
+ * <p>
+ * Since sub-trees can be very unbalanced, work stealing can be enabled (see {@link #enableWorkStealing()}):
+ * when the work queue is empty, idle workers request work and busy workers give away the right branch
+ * of the oldest open decision of their decision path (see {@link MoveWorkStealing}).
+ * The stolen branch is added to the work queue as a cube, and replayed by an idle worker on its own model.
+ * With a decomposition depth of 0, this runs a parallel depth-first search based on work stealing only.
+ * In that case, restarts and LNS declared on solvers are ignored.
+ * </p>
+ * <p>
+ * <b>Important:</b>
+ * <ul>
+ * <li>all models must be the same, that is, variables must be declared in the same order, and
+ * should declare the same search strategy, based on integer variables only,</li>
+ * <li>since each model is reset before exploring a cube, stop criteria declared on solvers are ignored,</li>
+ * <li>when dealing with optimization problems, the objective variable <b>HAS</b> to be declared eagerly with
+ * {@link Model#setObjective(boolean, Variable)}.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <pre> {@code
+ * EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(6);
+ * for (int i = 0; i < 4; i++) {
+ *     eps.addModel(makeModel());
+ * }
+ * eps.streamSolutions().forEach(s -> System.out.println(s));
+ * }</pre>
+ * </p>
+ * [1]: J.-C. Régin, M. Rezgui and A. Malapert, Embarrassingly Parallel Search, CP-13.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public class EmbarrassinglyParallelSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /** List of {@link Model}s to be executed in parallel. */
+    private final List<Model> models;
+
+    /** Number of decisions of each cube */
+    private final int depth;
+
+    /** Cubes not explored yet */
+    private final Queue<Cube> cubes;
+
+    /** Number of cubes generated by the decomposition */
+    private int nbCubes;
+
+    /** Solutions found by workers and not consumed yet */
+    private final BlockingQueue<Solution> solutions;
+
+    /** Marks the end of the resolution in {@link #solutions} */
+    private Solution end;
+
+    /** Set to <tt>true</tt> to stop all workers */
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+    /** Stores whether or not the resolution has been started */
+    private boolean isStarted = false;
+
+    /** Number of solutions found */
+    private final AtomicLong solutionCount = new AtomicLong();
+
+    /** Value of the best solution found so far, when dealing with an optimization problem */
+    private Integer best;
+
+    /** The first error thrown by a worker, if any */
+    private volatile Throwable failure;
+
+    /** Set to <tt>true</tt> to let idle workers steal work from busy ones */
+    private boolean workStealing = false;
+
+    /** Number of workers which have not ended yet */
+    private final AtomicInteger running = new AtomicInteger();
+
+    /** Number of workers exploring a cube */
+    private final AtomicInteger busy = new AtomicInteger();
+
+    /** Number of workers waiting for work */
+    private final AtomicInteger idle = new AtomicInteger();
+
+    /** Number of cubes given away by busy workers */
+    private final AtomicLong nbSteals = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new EmbarrassinglyParallelSearch.
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     *
+     * @param depth number of decisions of each cube, at most 2<sup>depth</sup> cubes are generated
+     */
+    public EmbarrassinglyParallelSearch(int depth) {
+        if (depth < 0) {
+            throw new SolverException("The decomposition depth must be positive or null.");
+        }
+        this.models = new ArrayList<>();
+        this.depth = depth;
+        this.cubes = new ConcurrentLinkedQueue<>();
+        this.solutions = new LinkedBlockingQueue<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>
+     * Adds a model to the list of models to run in parallel, each model is explored by a dedicated worker.
+     * The first model added is also used to decompose the problem.
+     * </p>
+     * <p>
+     * <b>Important:</b> the populating process is not managed by this EmbarrassinglyParallelSearch
+     * and should be done externally, with a dedicated method for example.
+     * </p>
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * Adds <i>nb</i> models built by <i>factory</i> to the list of models to run in parallel.
+     * The models are built in parallel, so <i>factory</i> may be called concurrently:
+     * each call must return a new populated model, which shares no mutable object with the other ones.
+     *
+     * @param factory builds a populated model on each call
+     * @param nb      number of models to add
+     */
+    public void addModels(Supplier<Model> factory, int nb) {
+        IntStream.range(0, nb).parallel()
+                .mapToObj(i -> factory.get())
+                .collect(Collectors.toList())
+                .forEach(this::addModel);
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this EmbarrassinglyParallelSearch
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Enables work stealing: when the work queue is empty, idle workers steal work from busy ones.
+     * This method must be called before the resolution.
+     *
+     * @see MoveWorkStealing
+     */
+    public void enableWorkStealing() {
+        if (isStarted) {
+            throw new SolverException("Work stealing must be enabled before the resolution.");
+        }
+        this.workStealing = true;
+    }
+
+    /**
+     * <p>
+     * Decomposes the problem into cubes, then starts the workers and returns the stream of solutions they find:
+     * all solutions when dealing with a satisfaction problem, improving solutions otherwise.
+     * Each solution records all variables of the model of the worker which found it.
+     * Since models are the same, the values can be read using the variables of any model.
+     * </p>
+     * <p>
+     * Workers are running in the background: closing the stream (see {@link Stream#close()}) or calling {@link #stop()}
+     * stops them.
+     * This method can be called only once.
+     * </p>
+     *
+     * @return a stream of solutions
+     * @throws SolverException if no model has been added or if this method has already been called.
+     */
+    public Stream<Solution> streamSolutions() {
+        if (isStarted) {
+            throw new SolverException("An EmbarrassinglyParallelSearch can only be run once.");
+        }
+        isStarted = true;
+        check();
+        end = new Solution(models.get(0));
+        CubeStrategy[] strategies = prepare();
+        decompose(models.get(0), strategies[0]);
+        execute(strategies);
+        Spliterator<Solution> it = new Spliterator<Solution>() {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Solution> action) {
+                Solution solution;
+                try {
+                    solution = solutions.take();
+                } catch (InterruptedException e) {
+                    terminated.set(true);
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                if (solution == end) {
+                    solutions.add(end); // the end remains reachable
+                    if (failure != null) {
+                        throw new SolverException("A worker of the EmbarrassinglyParallelSearch failed: " + failure);
+                    }
+                    return false;
+                }
+                action.accept(solution);
+                return true;
+            }
+
+            @Override
+            public Spliterator<Solution> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT;
+            }
+
+        };
+        return StreamSupport.stream(it, false).onClose(this::stop);
+    }
+
+    /**
+     * Stops the workers as soon as possible.
+     */
+    public void stop() {
+        terminated.set(true);
+    }
+
+    /**
+     * @return the number of cubes generated by the decomposition
+     */
+    public int getNbCubes() {
+        return nbCubes;
+    }
+
+    /**
+     * @return the number of cubes given away by busy workers to idle ones
+     */
+    public long getNbSteals() {
+        return nbSteals.get();
+    }
+
+    /**
+     * @return the number of solutions found so far (when dealing with an optimization problem,
+     * only improving solutions are counted)
+     */
+    public long getSolutionCount() {
+        return solutionCount.get();
+    }
+
+    /**
+     * @return the number of workers which have not ended yet
+     */
+    public int getNbRunningWorkers() {
+        return running.get();
+    }
+
+    /**
+     * @return <tt>true</tt> if all cubes have been fully explored, that is, every worker has ended
+     * and the search was neither stopped nor failed.
+     * When dealing with an optimization problem, this means that the last solution found is optimal.
+     */
+    public boolean isSearchCompleted() {
+        return isStarted && running.get() == 0 && !terminated.get() && failure == null && cubes.isEmpty();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void check() {
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the EmbarrassinglyParallelSearch.");
+        }
+        int nbVars = models.get(0).getNbVars();
+        for (int i = 1; i < models.size(); i++) {
+            if (models.get(i).getNbVars() != nbVars) {
+                throw new SolverException("EmbarrassinglyParallelSearch requires models to declare the same variables.");
+            }
+        }
+        if (models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            Variable objective = models.get(0).getObjective();
+            if (objective == null) {
+                throw new UnsupportedOperationException("No objective has been defined");
+            }
+            if ((objective.getTypeAndKind() & Variable.INT) == 0) {
+                throw new UnsupportedOperationException("EmbarrassinglyParallelSearch only supports integer objective");
+            }
+        }
+        for (Constraint c : models.get(0).getCstrs()) {
+            if (c instanceof RealConstraint) {
+                throw new UnsupportedOperationException("" +
+                        "Ibex is not multithread safe, EmbarrassinglyParallelSearch cannot be used");
+            }
+        }
+    }
+
+    /**
+     * Plug a {@link CubeStrategy} in each model, wrapping the declared strategy (or the default one),
+     * and a {@link MoveWorkStealing} if work stealing is enabled
+     */
+    @SuppressWarnings("unchecked")
+    private CubeStrategy[] prepare() {
+        CubeStrategy[] strategies = new CubeStrategy[models.size()];
+        for (int i = 0; i < models.size(); i++) {
+            Model model = models.get(i);
+            Solver solver = model.getSolver();
+            // variables declared before configuration are the ones shared
+            Variable[] shared = model.getVars();
+            AbstractStrategy<Variable> strategy = solver.getSearch();
+            if (strategy == null) {
+                strategy = model.getSettings().makeDefaultSearch(model);
+            }
+            strategies[i] = new CubeStrategy(model, shared, strategy);
+            if (workStealing) {
+                solver.setMove(new MoveWorkStealing(strategies[i], shared,
+                        () -> idle.get() > 0 && cubes.isEmpty(), this::onSteal));
+            } else {
+                solver.setSearch(strategies[i]);
+            }
+        }
+        return strategies;
+    }
+
+    /**
+     * Decompose the problem into cubes, applying <i>strategy</i> on <i>model</i>.
+     * The state of the model is restored on exit.
+     */
+    private void decompose(Model model, CubeStrategy strategy) {
+        Solver solver = model.getSolver();
+        IEnvironment environment = model.getEnvironment();
+        Variable[] vars = model.getVars();
+        IntMap vid2idx = new IntMap(vars.length * 3 / 2 + 1, -1);
+        for (int i = 0; i < vars.length; i++) {
+            vid2idx.put(vars[i].getId(), i);
+        }
+        environment.worldPush();
+        try {
+            solver.propagate();
+            if (strategy.init()) {
+                split(solver, strategy, vid2idx, 0);
+            }
+        } catch (ContradictionException ignored) {
+            // the problem has no solution
+        }
+        environment.worldPop();
+        solver.getDecisionPath().synchronize();
+        nbCubes = cubes.size();
+    }
+
+    /**
+     * Explore the search tree in a depth-first way, pushing decisions in the decision path of <i>solver</i>,
+     * until <i>depth</i> is reached or no more decision can be computed, then record the decision path as a cube.
+     */
+    private void split(Solver solver, AbstractStrategy<Variable> strategy, IntMap vid2idx, int level) {
+        DecisionPath path = solver.getDecisionPath();
+        Decision decision = level < depth ? strategy.getDecision() : null;
+        if (decision == null) {
+            cubes.add(Cube.of(path, path.size() - 1, vid2idx, false));
+            return;
+        }
+        if (!(decision instanceof IntDecision)) {
+            throw new SolverException("EmbarrassinglyParallelSearch only supports decisions on integer variables.");
+        }
+        path.pushDecision(decision);
+        while (decision.hasNext()) {
+            solver.getEnvironment().worldPush();
+            path.buildNext();
+            try {
+                path.apply();
+                solver.propagate();
+                split(solver, strategy, vid2idx, level + 1);
+            } catch (ContradictionException ignored) {
+                // inconsistent sub-problem, skip it
+            }
+            solver.getEnvironment().worldPop();
+        }
+        path.synchronize();
+    }
+
+    /**
+     * Start one worker per model in the background
+     */
+    private void execute(CubeStrategy[] strategies) {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        running.set(models.size());
+        for (int i = 0; i < models.size(); i++) {
+            int w = i;
+            forkJoinPool.execute(() -> {
+                try {
+                    work(models.get(w), strategies[w]);
+                } catch (Throwable t) {
+                    failure = t;
+                    terminated.set(true);
+                } finally {
+                    if (running.decrementAndGet() == 0) {
+                        solutions.add(end);
+                        forkJoinPool.shutdown();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Explore cubes, one at a time, until there is no more cube to explore or the search is stopped.
+     * When work stealing is enabled, a worker only ends when no cube is left and no other worker is busy,
+     * since busy workers may give work away.
+     */
+    private void work(Model model, CubeStrategy strategy) {
+        Solver solver = model.getSolver();
+        while (!terminated.get()) {
+            busy.incrementAndGet(); // before polling, so that busy == 0 implies that no more cube can be added
+            Cube cube = cubes.poll();
+            if (cube != null) {
+                solver.reset();
+                strategy.setCube(cube);
+                solver.addStopCriterion((Criterion) terminated::get);
+                shareBound(model);
+                while (solver.solve()) {
+                    onSolution(model);
+                }
+                busy.decrementAndGet();
+            } else {
+                busy.decrementAndGet();
+                if (!workStealing || (busy.get() == 0 && cubes.isEmpty())) {
+                    break;
+                }
+                idle.incrementAndGet();
+                LockSupport.parkNanos(50_000);
+                idle.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Add a cube given away by a busy worker to the work queue
+     */
+    private void onSteal(Cube cube) {
+        nbSteals.incrementAndGet();
+        cubes.add(cube);
+    }
+
+    /**
+     * Post the value of the best solution found so far as a bound of the objective of <i>model</i>
+     */
+    private synchronized void shareBound(Model model) {
+        if (best != null) {
+            if (model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
+                model.getSolver().getObjectiveManager().updateBestLB(best);
+            } else if (model.getResolutionPolicy() == ResolutionPolicy.MINIMIZE) {
+                model.getSolver().getObjectiveManager().updateBestUB(best);
+            }
+        }
+    }
+
+    private synchronized void onSolution(Model model) {
+        ResolutionPolicy policy = model.getResolutionPolicy();
+        if (policy != ResolutionPolicy.SATISFACTION) {
+            int value = ((IntVar) model.getObjective()).getValue();
+            if (best != null
+                    && (policy == ResolutionPolicy.MAXIMIZE ? value <= best : value >= best)) {
+                // another worker found a better solution in the meantime
+                return;
+            }
+            best = value;
+            models.forEach(this::shareBound);
+        }
+        solutionCount.incrementAndGet();
+        solutions.add(new Solution(model).record());
+    }
+}
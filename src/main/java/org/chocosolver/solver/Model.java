@@ -33,6 +33,14 @@ import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -945,6 +953,84 @@ public class Model implements IModel {
     //////////////////////////////////////////// RELATED TO I/O ////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Write a compact binary snapshot of <code>this</code> model in <i>os</i>:
+     * the domains of the variables, the parameters of the constraints and the objective.
+     * The model can then be read back with {@link #loadSnapshot(Path)}, which creates the variables
+     * and calls the modeling factories again.
+     * <p>
+     * Only some variables and constraints can be stored:
+     * integer and boolean variables, offset, minus, scale and not views,
+     * <code>arithm</code>, <code>member</code>, <code>notMember</code>, <code>allDifferent</code>,
+     * <code>sum</code>, <code>scalar</code>, <code>table</code> (restored with the "CT+" algorithm),
+     * <code>mddc</code>, <code>element</code> over integer values, and their reification.
+     * <p>
+     * The solver, the settings, the environment and the hooks are not part of the snapshot:
+     * search strategies, limits and monitors have to be declared again on the model read.
+     *
+     * @param os where to write the snapshot
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the resolution has started, or if a variable or a constraint cannot be stored
+     */
+    public void saveSnapshot(OutputStream os) throws IOException {
+        ModelSnapshot.write(this, os);
+    }
+
+    /**
+     * Write a compact binary snapshot of <code>this</code> model in the file <i>path</i>,
+     * see {@link #saveSnapshot(OutputStream)}.
+     *
+     * @param path a file, created or truncated
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the resolution has started, or if a variable or a constraint cannot be stored
+     */
+    public void saveSnapshot(Path path) throws IOException {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(path))) {
+            saveSnapshot(os);
+        }
+    }
+
+    /**
+     * Read a model from a snapshot written by {@link #saveSnapshot(Path)}.
+     * The file is memory-mapped, and the model gets default settings.
+     *
+     * @param path a snapshot file
+     * @return the model read
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the file is not a valid snapshot
+     */
+    public static Model loadSnapshot(Path path) throws IOException {
+        return loadSnapshot(path, new DefaultSettings());
+    }
+
+    /**
+     * Read a model from a snapshot written by {@link #saveSnapshot(Path)}.
+     * The file is memory-mapped.
+     *
+     * @param path     a snapshot file
+     * @param settings settings of the model read
+     * @return the model read
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the file is not a valid snapshot
+     */
+    public static Model loadSnapshot(Path path, Settings settings) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return loadSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), settings);
+        }
+    }
+
+    /**
+     * Read a model from a snapshot written by {@link #saveSnapshot(OutputStream)}.
+     *
+     * @param buffer   a buffer positioned at the beginning of a snapshot, left unchanged
+     * @param settings settings of the model read
+     * @return the model read
+     * @throws SolverException if the buffer does not contain a valid snapshot
+     */
+    public static Model loadSnapshot(ByteBuffer buffer, Settings settings) {
+        return ModelSnapshot.read(buffer, settings);
+    }
+
     /**
      * Return a string describing the CSP defined in <code>this</code> model.
      */
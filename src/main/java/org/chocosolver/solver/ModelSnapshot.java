@@ -0,0 +1,567 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Arithmetic;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.ReificationConstraint;
+import org.chocosolver.solver.constraints.binary.element.PropElement;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.TuplesFactory;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTable;
+import org.chocosolver.solver.constraints.extension.nary.PropLargeMDDC;
+import org.chocosolver.solver.constraints.nary.alldifferent.AllDifferent;
+import org.chocosolver.solver.constraints.nary.sum.PropSum;
+import org.chocosolver.solver.constraints.nary.sum.SumConstraint;
+import org.chocosolver.solver.constraints.unary.Member;
+import org.chocosolver.solver.constraints.unary.NotMember;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.impl.BitsetArrayIntVarImpl;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.BoolVarImpl;
+import org.chocosolver.solver.variables.impl.FixedBoolVarImpl;
+import org.chocosolver.solver.variables.impl.FixedIntVarImpl;
+import org.chocosolver.solver.variables.impl.IntervalIntVarImpl;
+import org.chocosolver.solver.variables.impl.RangeSetIntVarImpl;
+import org.chocosolver.solver.variables.view.BoolNotView;
+import org.chocosolver.solver.variables.view.MinusView;
+import org.chocosolver.solver.variables.view.OffsetView;
+import org.chocosolver.solver.variables.view.ScaleView;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.objects.IntMap;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot of a posted model.
+ * <p>
+ * The snapshot is an explicit description of the model, restricted to a fixed set of variables and constraints:
+ * <ul>
+ *     <li>variables are stored by their domain: boolean, bounded, enumerated and constant integer variables,
+ *     and offset, minus, scale and not views,</li>
+ *     <li>constraints are stored by the parameters of the factory which creates them:
+ *     <code>arithm</code>, <code>member</code>, <code>notMember</code>, <code>allDifferent</code>,
+ *     <code>sum</code> and <code>scalar</code>, <code>table</code> (with the "CT+" algorithm),
+ *     <code>mddc</code>, <code>element</code> over integer values, and their reification,</li>
+ *     <li>the objective, if any.</li>
+ * </ul>
+ * Any other variable or constraint makes the writing fail.
+ * Reading a snapshot creates the variables in the same order, then calls the factories again:
+ * no class is looked up by name, and no object is allocated otherwise.
+ * Tuples are written once, even if shared by many constraints, and read back in bulk.
+ * <p>
+ * The format is made of a header (magic number and version), the name of the model,
+ * the variables, the constraints and the objective.
+ * Variables are referenced by their index in the model.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+final class ModelSnapshot {
+
+    private static final long MAGIC = 0x43484F434F534E50L; // CHOCOSNP
+    private static final int VERSION = 2;
+
+    private static final byte BOOL = 1, BOUNDED = 2, ENUMERATED = 3, CONSTANT = 4, BOOL_CONSTANT = 5,
+            OFFSET_VIEW = 6, MINUS_VIEW = 7, SCALE_VIEW = 8, NOT_VIEW = 9;
+
+    private static final byte ARITHM = 1, MEMBER = 2, NOT_MEMBER = 3, ALL_DIFFERENT = 4, SUM = 5, TABLE = 6,
+            MDDC = 7, ELEMENT = 8, REIFICATION = 9;
+
+    private ModelSnapshot() {
+    }
+
+    /**
+     * Write a snapshot of <i>model</i> in <i>os</i>
+     *
+     * @param model a model, not being solved
+     * @param os    where to write the snapshot
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if a variable or a constraint of the model cannot be stored
+     */
+    static void write(Model model, OutputStream os) throws IOException {
+        if (model.getSolver().getSearchState() != SearchState.NEW || model.getEnvironment().getWorldIndex() != 0) {
+            throw new SolverException("A snapshot can only be taken before the resolution starts");
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        new Writer(model, out).write();
+        out.flush();
+    }
+
+    /**
+     * Read a model from a snapshot
+     *
+     * @param buffer   a buffer positioned at the beginning of the snapshot, for instance a memory-mapped file
+     * @param settings the settings of the model
+     * @return the model
+     * @throws SolverException if the snapshot is not valid
+     */
+    static Model read(ByteBuffer buffer, Settings settings) {
+        try {
+            return new Reader(buffer.duplicate().order(ByteOrder.BIG_ENDIAN), settings).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new SolverException("Not a valid snapshot: " + e);
+        }
+    }
+
+    private static SolverException unsupported(Object o) {
+        return new SolverException(o + " cannot be stored in a snapshot");
+    }
+
+    //***********************************************************************************
+    // WRITER
+    //***********************************************************************************
+
+    private static final class Writer {
+
+        private final Model model;
+        private final DataOutputStream out;
+        /**
+         * Map (variable id - index of the variable in the model)
+         */
+        private final IntMap indices;
+        /**
+         * Tuples already written, with their index
+         */
+        private final Map<Tuples, Integer> tuples = new IdentityHashMap<>();
+
+        Writer(Model model, DataOutputStream out) {
+            this.model = model;
+            this.out = out;
+            this.indices = new IntMap(model.getNbVars() * 3 / 2 + 1, -1);
+        }
+
+        void write() throws IOException {
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            string(model.getName());
+            Variable[] vars = model.getVars();
+            out.writeInt(vars.length);
+            for (int i = 0; i < vars.length; i++) {
+                variable(vars[i]);
+                indices.put(vars[i].getId(), i);
+            }
+            Constraint[] cstrs = model.getCstrs();
+            out.writeInt(cstrs.length);
+            for (Constraint c : cstrs) {
+                constraint(c);
+            }
+            out.writeByte(model.getResolutionPolicy().ordinal());
+            if (model.getObjective() != null) {
+                ref(model.getObjective());
+            }
+        }
+
+        private void variable(Variable v) throws IOException {
+            if (v instanceof OffsetView) {
+                out.writeByte(OFFSET_VIEW);
+                ref(((OffsetView) v).getVariable());
+                out.writeInt(((OffsetView) v).cste);
+            } else if (v instanceof MinusView) {
+                out.writeByte(MINUS_VIEW);
+                ref(((MinusView) v).getVariable());
+            } else if (v instanceof ScaleView) {
+                out.writeByte(SCALE_VIEW);
+                ref(((ScaleView) v).getVariable());
+                out.writeInt(((ScaleView) v).cste);
+            } else if (v instanceof BoolNotView) {
+                out.writeByte(NOT_VIEW);
+                ref(((BoolNotView) v).getVariable());
+            } else if (v instanceof FixedBoolVarImpl) {
+                out.writeByte(BOOL_CONSTANT);
+                string(v.getName());
+                out.writeInt(((IntVar) v).getValue());
+            } else if (v instanceof FixedIntVarImpl) {
+                out.writeByte(CONSTANT);
+                string(v.getName());
+                out.writeInt(((IntVar) v).getValue());
+            } else if (v instanceof BoolVarImpl) {
+                out.writeByte(BOOL);
+                string(v.getName());
+            } else if (v instanceof IntervalIntVarImpl) {
+                out.writeByte(BOUNDED);
+                string(v.getName());
+                out.writeInt(((IntVar) v).getLB());
+                out.writeInt(((IntVar) v).getUB());
+            } else if (v instanceof BitsetIntVarImpl || v instanceof BitsetArrayIntVarImpl
+                    || v instanceof RangeSetIntVarImpl) {
+                out.writeByte(ENUMERATED);
+                string(v.getName());
+                IntVar var = (IntVar) v;
+                int n = 0;
+                DisposableRangeIterator rit = var.getRangeIterator(true);
+                while (rit.hasNext()) {
+                    n++;
+                    rit.next();
+                }
+                rit.dispose();
+                out.writeInt(n);
+                rit = var.getRangeIterator(true);
+                while (rit.hasNext()) {
+                    out.writeInt(rit.min());
+                    out.writeInt(rit.max());
+                    rit.next();
+                }
+                rit.dispose();
+            } else {
+                throw unsupported(v);
+            }
+        }
+
+        private void constraint(Constraint c) throws IOException {
+            Propagator<?> p = c.getPropagators().length == 1 ? c.getPropagator(0) : null;
+            if (c instanceof ReificationConstraint) {
+                out.writeByte(REIFICATION);
+                ref(((ReificationConstraint) c).getBool());
+                constraint(((ReificationConstraint) c).getTrueConstraint());
+            } else if (c instanceof Arithmetic) {
+                Arithmetic a = (Arithmetic) c;
+                out.writeByte(ARITHM);
+                refs(a.getVariables());
+                out.writeByte(a.getOperator1().ordinal());
+                out.writeByte(a.getOperator2().ordinal());
+                out.writeInt(a.getConstant());
+            } else if (c instanceof Member || c instanceof NotMember) {
+                boolean member = c instanceof Member;
+                out.writeByte(member ? MEMBER : NOT_MEMBER);
+                ref(member ? ((Member) c).getVariable() : ((NotMember) c).getVariable());
+                int[] values = member ? ((Member) c).getValues() : ((NotMember) c).getValues();
+                out.writeBoolean(values != null);
+                if (values != null) {
+                    ints(values);
+                } else {
+                    out.writeInt(member ? ((Member) c).getLowerBound() : ((NotMember) c).getLowerBound());
+                    out.writeInt(member ? ((Member) c).getUpperBound() : ((NotMember) c).getUpperBound());
+                }
+            } else if (c instanceof AllDifferent) {
+                out.writeByte(ALL_DIFFERENT);
+                refs(((AllDifferent) c).getVariables());
+                string(((AllDifferent) c).getConsistency());
+            } else if (c instanceof SumConstraint && p instanceof PropSum) {
+                PropSum sum = (PropSum) p;
+                out.writeByte(SUM);
+                refs(sum.getVars());
+                ints(sum.getCoefficients());
+                out.writeByte(sum.getOperator().ordinal());
+                out.writeInt(sum.getBound());
+            } else if (p instanceof PropCompactTable) {
+                out.writeByte(TABLE);
+                refs(p.getVars());
+                tuples(((PropCompactTable) p).getTuples());
+            } else if (p instanceof PropLargeMDDC) {
+                out.writeByte(MDDC);
+                refs(p.getVars());
+                int[][] transitions = ((PropLargeMDDC) p).getMDD().getTransitions();
+                out.writeInt(transitions.length);
+                for (int[] t : transitions) {
+                    out.writeInt(t[0]);
+                    out.writeInt(t[1]);
+                    out.writeInt(t[2]);
+                }
+            } else if (p instanceof PropElement) {
+                PropElement element = (PropElement) p;
+                out.writeByte(ELEMENT);
+                refs(p.getVars());
+                ints(element.getValues());
+                out.writeInt(element.getOffset());
+            } else {
+                throw unsupported(c);
+            }
+        }
+
+        private void tuples(Tuples t) throws IOException {
+            Integer idx = tuples.get(t);
+            if (idx != null) {
+                out.writeInt(idx);
+                return;
+            }
+            out.writeInt(tuples.size());
+            tuples.put(t, tuples.size());
+            out.writeBoolean(t.isFeasible());
+            out.writeBoolean(t.allowUniversalValue());
+            out.writeInt(t.allowUniversalValue() ? t.getStarValue() : 0);
+            out.writeInt(t.arity());
+            out.writeInt(t.nbTuples());
+            for (int i = 0; i < t.nbTuples(); i++) {
+                for (int j = 0; j < t.arity(); j++) {
+                    out.writeInt(t.get(i, j));
+                }
+            }
+        }
+
+        private void ref(Variable v) throws IOException {
+            int idx = indices.get(v.getId());
+            if (idx < 0) {
+                throw unsupported(v);
+            }
+            out.writeInt(idx);
+        }
+
+        private void refs(Variable[] vs) throws IOException {
+            out.writeInt(vs.length);
+            for (Variable v : vs) {
+                ref(v);
+            }
+        }
+
+        private void ints(int[] values) throws IOException {
+            out.writeInt(values.length);
+            for (int v : values) {
+                out.writeInt(v);
+            }
+        }
+
+        private void string(String s) throws IOException {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    //***********************************************************************************
+    // READER
+    //***********************************************************************************
+
+    private static final class Reader {
+
+        private final ByteBuffer in;
+        private final Settings settings;
+        private Model model;
+        private IntVar[] vars;
+        private final List<Tuples> tuples = new ArrayList<>();
+
+        Reader(ByteBuffer in, Settings settings) {
+            this.in = in;
+            this.settings = settings;
+        }
+
+        Model read() {
+            if (in.getLong() != MAGIC) {
+                throw new SolverException("Not a snapshot");
+            }
+            int version = in.getInt();
+            if (version != VERSION) {
+                throw new SolverException("Unsupported snapshot version: " + version);
+            }
+            model = new Model(string(), settings);
+            vars = new IntVar[in.getInt()];
+            for (int i = 0; i < vars.length; i++) {
+                vars[i] = variable();
+            }
+            for (int i = in.getInt(); i > 0; i--) {
+                Constraint c = constraint();
+                if (c != null) {
+                    c.post();
+                }
+            }
+            ResolutionPolicy policy = ResolutionPolicy.values()[in.get()];
+            if (policy != ResolutionPolicy.SATISFACTION) {
+                model.setObjective(policy == ResolutionPolicy.MAXIMIZE, ref());
+            }
+            return model;
+        }
+
+        private IntVar variable() {
+            byte kind = in.get();
+            switch (kind) {
+                case OFFSET_VIEW:
+                    return model.intOffsetView(ref(), in.getInt());
+                case MINUS_VIEW:
+                    return model.intMinusView(ref());
+                case SCALE_VIEW:
+                    return model.intScaleView(ref(), in.getInt());
+                case NOT_VIEW:
+                    return model.boolNotView(bool(ref()));
+                case BOOL_CONSTANT:
+                    return model.boolVar(string(), in.getInt() == 1);
+                case CONSTANT:
+                    return model.intVar(string(), in.getInt());
+                case BOOL:
+                    return model.boolVar(string());
+                case BOUNDED:
+                    return model.intVar(string(), in.getInt(), in.getInt(), true);
+                case ENUMERATED: {
+                    String name = string();
+                    int n = in.getInt();
+                    int[] bounds = new int[2 * n];
+                    in.asIntBuffer().get(bounds);
+                    skip(bounds.length);
+                    if (n == 1) {
+                        return model.intVar(name, bounds[0], bounds[1], false);
+                    }
+                    int size = 0;
+                    for (int i = 0; i < n; i++) {
+                        size += bounds[2 * i + 1] - bounds[2 * i] + 1;
+                    }
+                    int[] values = new int[size];
+                    for (int i = 0, k = 0; i < n; i++) {
+                        for (int v = bounds[2 * i]; v <= bounds[2 * i + 1]; v++) {
+                            values[k++] = v;
+                        }
+                    }
+                    return model.intVar(name, values);
+                }
+                default:
+                    throw new SolverException("Unknown kind of variable: " + kind);
+            }
+        }
+
+        /**
+         * @return the constraint to post, or <i>null</i> if it is already posted (reification)
+         */
+        private Constraint constraint() {
+            byte kind = in.get();
+            switch (kind) {
+                case REIFICATION: {
+                    BoolVar bool = bool(ref());
+                    Constraint c = constraint();
+                    if (c == null) {
+                        throw new SolverException("Nested reification");
+                    }
+                    c.reifyWith(bool);
+                    return null;
+                }
+                case ARITHM: {
+                    IntVar[] vs = refs();
+                    Operator op1 = Operator.values()[in.get()];
+                    Operator op2 = Operator.values()[in.get()];
+                    int cste = in.getInt();
+                    if (vs.length == 1) {
+                        return model.arithm(vs[0], op1.toString(), cste);
+                    }
+                    return model.arithm(vs[0], op1.toString(), vs[1], op2.toString(), cste);
+                }
+                case MEMBER:
+                case NOT_MEMBER: {
+                    IntVar var = ref();
+                    boolean values = in.get() != 0;
+                    if (values) {
+                        int[] vs = ints();
+                        return kind == MEMBER ? model.member(var, vs) : model.notMember(var, vs);
+                    }
+                    int lb = in.getInt();
+                    int ub = in.getInt();
+                    return kind == MEMBER ? model.member(var, lb, ub) : model.notMember(var, lb, ub);
+                }
+                case ALL_DIFFERENT: {
+                    IntVar[] vs = refs();
+                    return model.allDifferent(vs, string());
+                }
+                case SUM: {
+                    IntVar[] vs = refs();
+                    int[] coeffs = ints();
+                    Operator op = Operator.values()[in.get()];
+                    return model.scalar(vs, coeffs, op.toString(), in.getInt());
+                }
+                case TABLE: {
+                    IntVar[] vs = refs();
+                    return model.table(vs, tuples(), "CT+");
+                }
+                case MDDC: {
+                    IntVar[] vs = refs();
+                    int[][] transitions = new int[in.getInt()][3];
+                    for (int[] t : transitions) {
+                        t[0] = in.getInt();
+                        t[1] = in.getInt();
+                        t[2] = in.getInt();
+                    }
+                    return model.mddc(vs, new MultivaluedDecisionDiagram(vs, transitions));
+                }
+                case ELEMENT: {
+                    IntVar[] vs = refs();
+                    int[] values = ints();
+                    return model.element(vs[0], values, vs[1], in.getInt());
+                }
+                default:
+                    throw new SolverException("Unknown kind of constraint: " + kind);
+            }
+        }
+
+        private Tuples tuples() {
+            int idx = in.getInt();
+            if (idx < tuples.size()) {
+                return tuples.get(idx);
+            }
+            if (idx != tuples.size()) {
+                throw new SolverException("Unknown tuples: " + idx);
+            }
+            boolean feasible = in.get() != 0;
+            boolean universal = in.get() != 0;
+            int star = in.getInt();
+            int arity = in.getInt();
+            int n = in.getInt();
+            IntBuffer values = in.asIntBuffer();
+            values.limit(n * arity);
+            Tuples t = TuplesFactory.read(values, arity, feasible);
+            skip(n * arity);
+            if (universal) {
+                t.setUniversalValue(star);
+            }
+            tuples.add(t);
+            return t;
+        }
+
+        private IntVar ref() {
+            return vars[in.getInt()];
+        }
+
+        private IntVar[] refs() {
+            IntVar[] vs = new IntVar[in.getInt()];
+            for (int i = 0; i < vs.length; i++) {
+                vs[i] = ref();
+            }
+            return vs;
+        }
+
+        private static BoolVar bool(IntVar var) {
+            if (!var.isBool()) {
+                throw new SolverException(var + " is not a boolean variable");
+            }
+            return (BoolVar) var;
+        }
+
+        private int[] ints() {
+            int[] values = new int[in.getInt()];
+            in.asIntBuffer().get(values);
+            skip(values.length);
+            return values;
+        }
+
+        private String string() {
+            byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void skip(int nbInts) {
+            in.position(in.position() + nbInts * Integer.BYTES);
+        }
+    }
+}
@@ -14,6 +14,11 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.search.loop.parallel.NogoodExchange;
+import org.chocosolver.solver.search.loop.parallel.NogoodSharing;
+import org.chocosolver.solver.search.loop.parallel.SolutionExchange;
+import org.chocosolver.solver.search.loop.parallel.SolutionSharing;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainBest;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
@@ -33,6 +38,9 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -71,6 +79,16 @@ import static org.chocosolver.solver.search.strategy.Search.setVarSearch;
  *
  * </p>
  * <p>
+ *     Optionally, models can cooperate by sharing the nogoods they learn (see {@link #enableNogoodSharing(int)}).
+ *     In that case, the models are required to be the same.
+ * </p>
+ * <p>
+ *     When dealing with an optimization problem with models which declare the same variables,
+ *     the incumbent solution is also shared: models running a Large Neighborhood Search
+ *     (see {@link org.chocosolver.solver.search.loop.move.MoveLNS}) restart their neighborhoods
+ *     around the best solution found by any model, instead of their own one.
+ * </p>
+ * <p>
  *     Note that the similarity of the models declared is not required.
  *     However, when dealing with an optimization problem, keep in mind that the cut on the objective variable's value
  *     is propagated among all models, so different objectives may lead to wrong results.
@@ -88,6 +106,8 @@ import static org.chocosolver.solver.search.strategy.Search.setVarSearch;
  * for (int i = 0; i < n; i++) {
  *      pares.addModel(modeller());
  * }
+ * // or, to build the models in parallel:
+ * // pares.addModels(() -> modeller(), n);
  * pares.solve();
  * IOutputFactory.printSolutions(pares.getBestModel());
  * </code>
@@ -125,6 +145,15 @@ public class ParallelPortfolio {
     /** Point to (one of) the solver(s) which found a solution */
     private Model finder;
 
+    /** Maximum number of literals of a nogood to be shared among models, 0 means no sharing */
+    private int nogoodSharingMaxSize = 0;
+
+    /** Maximum number of nogoods stored in the exchange buffer */
+    private int nogoodSharingCapacity;
+
+    /** Incumbent solution shared with models running a LNS, <tt>null</tt> when there is none */
+    private SolutionExchange solutionExchange;
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -178,6 +207,56 @@ public class ParallelPortfolio {
         this.models.add(model);
     }
 
+    /**
+     * Adds <i>nb</i> models built by <i>factory</i> to the list of models to run in parallel.
+     * The models are built in parallel, so <i>factory</i> may be called concurrently:
+     * each call must return a new populated model, which shares no mutable object with the other ones.
+     *
+     * @param factory builds a populated model on each call
+     * @param nb      number of models to add
+     */
+    public void addModels(Supplier<Model> factory, int nb) {
+        IntStream.range(0, nb).parallel()
+                .mapToObj(i -> factory.get())
+                .collect(Collectors.toList())
+                .forEach(this::addModel);
+    }
+
+    /**
+     * <p>
+     * Enables cooperation between models: nogoods learnt by a model are shared with the other ones.
+     * Nogoods are published in a lock-free buffer, when they are recorded in the nogood store of a model
+     * (for instance, by {@link Solver#setNoGoodRecordingFromRestarts()}),
+     * and are imported by the other models on restarts.
+     * Only nogoods with at most <i>maxSize</i> literals are shared.
+     * </p>
+     * <p>
+     *     <b>Important:</b> all models must be the same, that is, variables must be declared in the same order.
+     *     This is checked, based on the number and the names of the variables, on the first resolution.
+     *     This method must be called before the first resolution.
+     * </p>
+     * @param maxSize maximum number of literals of a nogood to be shared
+     * @param capacity maximum number of nogoods stored in the exchange buffer
+     */
+    public void enableNogoodSharing(int maxSize, int capacity) {
+        if (isPrepared) {
+            throw new SolverException("Nogood sharing must be enabled before the first resolution.");
+        }
+        this.nogoodSharingMaxSize = maxSize;
+        this.nogoodSharingCapacity = capacity;
+    }
+
+    /**
+     * Enables cooperation between models: nogoods with at most <i>maxSize</i> literals
+     * learnt by a model are shared with the other ones.
+     * The exchange buffer can store up to 65536 nogoods.
+     * @param maxSize maximum number of literals of a nogood to be shared
+     * @see #enableNogoodSharing(int, int)
+     */
+    public void enableNogoodSharing(int maxSize) {
+        enableNogoodSharing(maxSize, 1 << 16);
+    }
+
     /**
      * Run the solve() instruction of every model of the portfolio in parallel.
      *
@@ -309,6 +388,11 @@ public class ParallelPortfolio {
     private void prepare(){
         isPrepared = true;
         check();
+        // variables declared before configuration are the ones shared
+        Variable[][] shared = new Variable[models.size()][];
+        for (int i = 0; i < models.size(); i++) {
+            shared[i] = models.get(i).getVars();
+        }
         for(int i=0;i<models.size();i++){
             Solver s = models.get(i).getSolver();
             s.addStopCriterion((Criterion) () -> getSolverTerminated().get());
@@ -317,6 +401,27 @@ public class ParallelPortfolio {
                 configureModel(i);
             }
         }
+        if (models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION && sameVariables(shared)) {
+            SolutionExchange exchange = new SolutionExchange();
+            boolean lns = false;
+            for (int i = 0; i < models.size(); i++) {
+                Solver s = models.get(i).getSolver();
+                if (s.getMove() instanceof MoveLNS) {
+                    s.plugMonitor(new SolutionSharing(s, exchange, i));
+                    lns = true;
+                }
+            }
+            if (lns) {
+                solutionExchange = exchange;
+            }
+        }
+        if (nogoodSharingMaxSize > 0) {
+            NogoodExchange exchange = new NogoodExchange(nogoodSharingCapacity);
+            for (int i = 0; i < models.size(); i++) {
+                models.get(i).getSolver().plugMonitor(
+                        new NogoodSharing(models.get(i), shared[i], exchange, i, nogoodSharingMaxSize));
+            }
+        }
     }
 
     private synchronized void updateFromSolution(Model m){
@@ -334,6 +439,9 @@ public class ParallelPortfolio {
             if(solverVal == bestVal){
                 getSolutionFound().set(true);
                 finder = m;
+                if (solutionExchange != null) {
+                    solutionExchange.publish(models.indexOf(m), new Solution(m).record());
+                }
                 if (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
                     models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestLB(bestVal));
                 }else {
@@ -343,6 +451,26 @@ public class ParallelPortfolio {
         }
     }
 
+    /**
+     * @param shared variables declared by each model
+     * @return <tt>true</tt> if all models declare the same variables, with the same names and identifiers,
+     * in the same order
+     */
+    private static boolean sameVariables(Variable[][] shared) {
+        for (int i = 1; i < shared.length; i++) {
+            if (shared[i].length != shared[0].length) {
+                return false;
+            }
+            for (int j = 0; j < shared[0].length; j++) {
+                if (shared[i][j].getId() != shared[0][j].getId()
+                        || !shared[i][j].getName().equals(shared[0][j].getName())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     private void configureModel(int workerID) {
         Model worker = getModels().get(workerID);
         Solver solver = worker.getSolver();
@@ -458,6 +586,19 @@ public class ParallelPortfolio {
         if (models.size() == 0) {
             throw new SolverException("No model found in the ParallelPortfolio.");
         }
+        if (nogoodSharingMaxSize > 0) {
+            Variable[] vars = models.get(0).getVars();
+            for (int i = 1; i < models.size(); i++) {
+                Variable[] others = models.get(i).getVars();
+                boolean same = vars.length == others.length;
+                for (int j = 0; same && j < vars.length; j++) {
+                    same = vars[j].getName().equals(others[j].getName());
+                }
+                if (!same) {
+                    throw new SolverException("Nogood sharing requires models to declare the same variables in the same order.");
+                }
+            }
+        }
         if(models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
             Variable objective = models.get(0).getObjective();
             if (objective == null) {
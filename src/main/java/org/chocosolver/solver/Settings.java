@@ -83,6 +83,8 @@ public interface Settings {
                 "constraints.check", this.checkDeclaredConstraints()).toString()));
         this.setHybridizationOfPropagationEngine(Byte.valueOf(properties.getOrDefault(
                 "propagationEngine.hybridization", this.enableHybridizationOfPropagationEngine()).toString()));
+        this.setAdaptivePropagatorOrdering(Boolean.valueOf(properties.getOrDefault(
+                "propagationEngine.adaptive", this.enableAdaptivePropagatorOrdering()).toString()));
         this.setNbMaxLearntClauses(Integer.valueOf(properties.getOrDefault(
                 "learnt.nbMax", this.getNbMaxLearntClauses()).toString()));
         this.setRatioForClauseStoreReduction(Float.valueOf(properties.getOrDefault(
@@ -91,6 +93,10 @@ public interface Settings {
                 "learnt.maxCard", this.getMaxLearntClauseCardinality()).toString()));
         this.setLearntClausesDominancePerimeter(Integer.valueOf(properties.getOrDefault(
                 "learnt.dominance", this.getLearntClausesDominancePerimeter()).toString()));
+        this.setLearntClausesCoreLBD(Integer.valueOf(properties.getOrDefault(
+                "learnt.lbd.core", this.getLearntClausesCoreLBD()).toString()));
+        this.setLearntClausesTier2LBD(Integer.valueOf(properties.getOrDefault(
+                "learnt.lbd.tier2", this.getLearntClausesTier2LBD()).toString()));
         this.explainGlobalFailureInSum(Boolean.valueOf(properties.getOrDefault(
                 "learnt.sum.global", this.explainGlobalFailureInSum()).toString()));
         return this;
@@ -153,10 +159,13 @@ public interface Settings {
         properties.setProperty("propagators.swap", Boolean.toString(swapOnPassivate()));
         properties.setProperty("constraints.check", Boolean.toString(checkDeclaredConstraints()));
         properties.setProperty("propagationEngine.hybridization", Byte.toString(enableHybridizationOfPropagationEngine()));
+        properties.setProperty("propagationEngine.adaptive", Boolean.toString(enableAdaptivePropagatorOrdering()));
         properties.setProperty("learnt.nbMax", Integer.toString(this.getNbMaxLearntClauses()));
         properties.setProperty("learnt.ratio", Float.toString(this.getRatioForClauseStoreReduction()));
         properties.setProperty("learnt.maxCard", Integer.toString(this.getMaxLearntClauseCardinality()));
         properties.setProperty("learnt.dominance", Integer.toString(this.getLearntClausesDominancePerimeter()));
+        properties.setProperty("learnt.lbd.core", Integer.toString(this.getLearntClausesCoreLBD()));
+        properties.setProperty("learnt.lbd.tier2", Integer.toString(this.getLearntClausesTier2LBD()));
         properties.setProperty("learnt.sum.global", Boolean.toString(this.explainGlobalFailureInSum()));
         return properties;
     }
@@ -494,6 +503,23 @@ public interface Settings {
      */
     Settings setHybridizationOfPropagationEngine(byte hybrid);
 
+    /**
+     * @return <i>true</i> if propagators are ordered wrt to their cost measured at run time,
+     * <i>false</i> if they are ordered wrt to their static priority
+     * @see org.chocosolver.solver.propagation.AdaptivePropagationEngine
+     */
+    boolean enableAdaptivePropagatorOrdering();
+
+    /**
+     * Define how the propagation engine orders propagators.
+     * @param adaptive When set to <i>true</i>, an {@link org.chocosolver.solver.propagation.AdaptivePropagationEngine}
+     *                 is used: propagators are ordered wrt to their cost measured at run time,
+     *                 and the expensive ones are postponed until the cheap ones reach a fix point.
+     *                 When set to <i>false</i>, propagators are ordered wrt to their static priority.
+     * @return the current instance
+     */
+    Settings setAdaptivePropagatorOrdering(boolean adaptive);
+
     /**
      * @return maximum number of learnt clauses to store. When reached, a reduction is applied.
      * @see #setNbMaxLearntClauses(int)
@@ -579,6 +605,46 @@ public interface Settings {
      */
     Settings setLearntClausesDominancePerimeter(int n);
 
+    /**
+     * Learnt clauses are retained in three tiers, depending on their literal block distance (LBD),
+     * that is the number of distinct decision levels of their literals when learnt.
+     * Clauses whose LBD is less than or equal to this value belong to the core tier and are never removed.
+     * @return maximum LBD of core learnt clauses
+     * @see #getLearntClausesTier2LBD()
+     */
+    int getLearntClausesCoreLBD();
+
+    /**
+     * Learnt clauses are retained in three tiers, depending on their literal block distance (LBD),
+     * that is the number of distinct decision levels of their literals when learnt.
+     * Clauses whose LBD is less than or equal to <i>n</i> belong to the core tier and are never removed.
+     * @param n maximum LBD of core learnt clauses
+     * @see #setLearntClausesTier2LBD(int)
+     * @return the current instance
+     */
+    Settings setLearntClausesCoreLBD(int n);
+
+    /**
+     * Learnt clauses which are not in the core tier and
+     * whose LBD is less than or equal to this value belong to the tier-2:
+     * they are kept as long as they take part in conflict analysis between two reductions of the store,
+     * otherwise they are moved to the local tier, where clauses are removed wrt to their activity.
+     * @return maximum LBD of tier-2 learnt clauses
+     * @see #getLearntClausesCoreLBD()
+     */
+    int getLearntClausesTier2LBD();
+
+    /**
+     * Learnt clauses which are not in the core tier and
+     * whose LBD is less than or equal to <i>n</i> belong to the tier-2:
+     * they are kept as long as they take part in conflict analysis between two reductions of the store,
+     * otherwise they are moved to the local tier, where clauses are removed wrt to their activity.
+     * @param n maximum LBD of tier-2 learnt clauses
+     * @see #setLearntClausesCoreLBD(int)
+     * @return the current instance
+     */
+    Settings setLearntClausesTier2LBD(int n);
+
     /**
      * @return <i>true</i> if additional clauses can be learned from sum's global failure
      */
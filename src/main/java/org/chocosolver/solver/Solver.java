@@ -16,7 +16,10 @@ import org.chocosolver.solver.learn.AbstractEventObserver;
 import org.chocosolver.solver.objective.IBoundsManager;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
+import org.chocosolver.solver.propagation.AdaptivePropagationEngine;
 import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.propagation.PropagationProfiler;
+import org.chocosolver.solver.propagation.ProfilingPropagationEngine;
 import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.loop.Reporting;
@@ -208,7 +211,8 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     protected Solver(Model aModel) {
         mModel = aModel;
-        engine = new PropagationEngine(mModel);
+        engine = mModel.getSettings().enableAdaptivePropagatorOrdering() ?
+                new AdaptivePropagationEngine(mModel) : new PropagationEngine(mModel);
         exception = new ContradictionException();
         eventObserver = AbstractEventObserver.SILENT_OBSERVER;
         objectivemanager = ObjectiveFactory.SAT();
@@ -920,6 +924,27 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         }
     }
 
+    /**
+     * Enables the profiling of the propagation: the propagation engine is replaced by a
+     * {@link ProfilingPropagationEngine}, which records, for each propagator, the number of calls,
+     * of fine events received, of domain modifications caused and of failures raised, and the time spent in it.
+     * Statistics are reset with the other measures,
+     * and can be printed with {@link PropagationProfiler#printReport(PrintStream, int)}.
+     * <p>
+     * Like {@link #setEngine(PropagationEngine)}, this must be called before any propagation,
+     * or after a call to {@link #reset()}.
+     * When not called, profiling costs nothing.
+     * </p>
+     * @return the statistics on propagators, also available through {@link MeasuresRecorder#getPropagationProfiler()}
+     * @exception SolverException is already initialized.
+     */
+    public PropagationProfiler profilePropagation() {
+        PropagationProfiler profiler = new PropagationProfiler();
+        setEngine(new ProfilingPropagationEngine(mModel, profiler));
+        mMeasures.setPropagationProfiler(profiler);
+        return profiler;
+    }
+
     /**
      * Completes (or not) the declared search strategy with one over all variables
      * @param isComplete set to true to complete the current search strategy
@@ -160,6 +160,34 @@ public class Arithmetic extends Constraint {
 		}
 	}
 
+	/**
+	 * @return the variables of this constraint
+	 */
+	public IntVar[] getVariables() {
+		return vars;
+	}
+
+	/**
+	 * @return the first operator of this constraint
+	 */
+	public Operator getOperator1() {
+		return op1;
+	}
+
+	/**
+	 * @return the second operator of this constraint, {@link Operator#NONE} if there is only one variable
+	 */
+	public Operator getOperator2() {
+		return op2;
+	}
+
+	/**
+	 * @return the constant of this constraint
+	 */
+	public int getConstant() {
+		return cste;
+	}
+
 	@Override
 	public Constraint makeOpposite(){
 		Model model = vars[0].getModel();
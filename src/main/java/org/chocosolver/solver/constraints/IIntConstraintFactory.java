@@ -68,6 +68,7 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.cumulative.Disjunctive;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
@@ -1190,6 +1191,64 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         ref().cumulative(tasks, h, ref().intVar(capacity), false, Cumulative.Filter.NAIVETIME).post();
     }
 
+    /**
+     * Creates a disjunctive constraint (unary resource): Enforces that the tasks do not overlap.
+     *
+     * Task duration should be >= 0
+     * Discards tasks whose duration is equal to zero
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        BoolVar[] presences = new BoolVar[tasks.length];
+        Arrays.fill(presences, ref().boolVar(true));
+        return disjunctive(tasks, presences);
+    }
+
+    /**
+     * Creates a disjunctive constraint (unary resource) over optional tasks:
+     * Enforces that the tasks that are present do not overlap.
+     * The time variables of an absent task are not constrained.
+     *
+     * Task duration should be >= 0
+     * Discards tasks whose duration is equal to zero
+     *
+     * @param tasks     Task objects containing start, duration and end variables
+     * @param presences boolean variables, set to true when the task is present on the resource
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks, BoolVar[] presences) {
+        if (tasks.length != presences.length) {
+            throw new SolverException("Tasks and presences arrays should have same size");
+        }
+        int nbUseFull = 0;
+        for (int i = 0; i < tasks.length; i++) {
+            if (presences[i].getUB() > 0 && tasks[i].getDuration().getUB() > 0) {
+                nbUseFull++;
+            }
+        }
+        if (nbUseFull == 0) {
+            return ref().trueConstraint();
+        }
+        // remove tasks that have no impact on resource consumption
+        if (nbUseFull < tasks.length) {
+            Task[] T2 = new Task[nbUseFull];
+            BoolVar[] P2 = new BoolVar[nbUseFull];
+            int idx = 0;
+            for (int i = 0; i < tasks.length; i++) {
+                if (presences[i].getUB() > 0 && tasks[i].getDuration().getUB() > 0) {
+                    T2[idx] = tasks[i];
+                    P2[idx] = presences[i];
+                    idx++;
+                }
+            }
+            tasks = T2;
+            presences = P2;
+        }
+        return new Disjunctive(tasks, presences);
+    }
+
     /**
      * Creates a diffN constraint. Constrains each rectangle<sub>i</sub>, given by their origins X<sub>i</sub>,Y<sub>i</sub>
      * and sizes width<sub>i</sub>,height<sub>i</sub>, to be non-overlapping.
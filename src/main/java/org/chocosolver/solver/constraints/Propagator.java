@@ -776,6 +776,26 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return reactToFineEvt;
     }
 
+    /**
+     * Indicates whether this propagator is idempotent, that is, a call to it always reaches its own fixpoint,
+     * even when some of its variables are views over other ones of its variables.
+     * <p>
+     * Whatever the answer, a propagator is not scheduled on a single modification it directly causes on a variable.
+     * But, when it is not idempotent, it is scheduled when it modifies a variable several times,
+     * and on modifications forwarded by views
+     * (for instance, when it modifies a variable whose view is in its scope),
+     * since the cause of such modifications is the view.
+     * When it is idempotent, any modification made while it is executed is considered as caused by it,
+     * and successive modifications of a variable keep it as their cause, which saves these redundant calls.
+     * </p>
+     * Override this method to return <tt>true</tt> only if the property holds.
+     *
+     * @return <tt>true</tt> if this propagator is idempotent, <tt>false</tt> by default
+     */
+    public boolean isIdempotent() {
+        return false;
+    }
+
     @Override
     public String toString() {
         StringBuilder st = new StringBuilder();
@@ -902,8 +922,17 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      * @return 0 if already scheduled, its priority otherwise
      */
     public int doSchedule(CircularQueue<Propagator>[] queues){
+        return doSchedule(queues, priority.priority);
+    }
+
+    /**
+     * Apply scheduling instruction
+     * @param queues array of queues in which this can be scheduled
+     * @param prio index of the queue in which this is scheduled
+     * @return 0 if already scheduled, <i>prio</i> otherwise
+     */
+    public int doSchedule(CircularQueue<Propagator>[] queues, int prio){
         if(!scheduled) {
-            int prio = priority.priority;
             queues[prio].addLast(this);
             schedule();
             return prio;
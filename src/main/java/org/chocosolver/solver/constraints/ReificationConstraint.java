@@ -115,6 +115,20 @@ public class ReificationConstraint extends Constraint {
         return propReif.isEntailed();
     }
 
+    /**
+     * @return the boolean variable of the reification
+     */
+    public BoolVar getBool() {
+        return bool;
+    }
+
+    /**
+     * @return the constraint to apply if the boolean variable is true
+     */
+    public Constraint getTrueConstraint() {
+        return trueCons;
+    }
+
     @Override
     public String toString() {
         return bool.toString() + "=>" + trueCons.toString() + ", !" + bool.toString() + "=>" + falseCons.toString();
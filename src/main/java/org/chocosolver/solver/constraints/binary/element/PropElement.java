@@ -74,6 +74,20 @@ public class PropElement extends Propagator<IntVar> {
         pVals.setOffset(result.getLB());
     }
 
+    /**
+     * @return the table of values
+     */
+    public int[] getValues() {
+        return values;
+    }
+
+    /**
+     * @return the offset between indices of {@link #getValues()} and values of the index variable
+     */
+    public int getOffset() {
+        return offset;
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
 		index.updateBounds(offset, values.length - 1 + offset, this);
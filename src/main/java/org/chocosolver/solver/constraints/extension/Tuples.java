@@ -11,16 +11,19 @@ package org.chocosolver.solver.constraints.extension;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * A unique interface to declare tuples for table constraints.
  * Handles both feasible tuples and forbidden tuples.
  * <br/>
+ * Tuples are stored column-wise: the values at a given position of all tuples are stored in a single int array.
+ * This avoids creating an array per tuple, which matters when dealing with millions of tuples.
+ * Hence, {@link #get(int, int)} (or {@link #get(int, int[])}) should be preferred to {@link #get(int)},
+ * which creates a new array on each call.
+ * <br/>
  *
  * @author Charles Prud'homme
  * @since 22/04/2014
@@ -32,11 +35,26 @@ public class Tuples {
 	//***********************************************************************************
 
 	private final boolean feasible;
-	protected final List<int[]> tuples;
+	/**
+	 * Values of the tuples, column-wise: <i>columns[i][t]</i> is the value at position <i>i</i> of the <i>t</i>th tuple
+	 */
+	private int[][] columns;
+	/**
+	 * Number of tuples stored
+	 */
+	private int size;
+	/**
+	 * Number of tuples that can be stored without reallocating {@link #columns}
+	 */
+	private int capacity = 16;
 	private int arity;
 	private int[] ranges;
 	private boolean allowStar;
 	private int star;
+	/**
+	 * Number of modifications of these tuples
+	 */
+	private int modCount;
 
 	//***********************************************************************************
 	// CONSTRUCTOR
@@ -53,7 +71,7 @@ public class Tuples {
      */
     public Tuples(int[][] values, boolean feasible) {
         this.feasible = feasible;
-        tuples = new ArrayList<>();
+        ensureCapacity(values.length);
         for(int[] t : values){
             add(t);
         }
@@ -67,7 +85,6 @@ public class Tuples {
 	 */
 	public Tuples(boolean feasible) {
 		this.feasible = feasible;
-		tuples = new ArrayList<>();
 	}
 
 	/**
@@ -89,6 +106,7 @@ public class Tuples {
 	public void setUniversalValue(int star){
 		this.star = star;
 		this.allowStar = true;
+		modCount++;
 	}
 
 	/**
@@ -127,11 +145,11 @@ public class Tuples {
 				return ESat.UNDEFINED;
 			}
 		}
-		for (int ti = 0; ti < nbTuples(); ti++) {
-			int[] tuple = tuples.get(ti);
+		for (int ti = 0; ti < size; ti++) {
 			boolean valid = true;
 			for (int i = 0; i < values.length && valid; i++) {
-				valid = tuple[i] == values[i] || (allowStar && tuple[i] == star);
+				int v = columns[i][ti];
+				valid = v == values[i] || (allowStar && v == star);
 			}
 			if (valid) {
 				return isFeasible()? ESat.TRUE: ESat.FALSE;
@@ -147,18 +165,67 @@ public class Tuples {
 	 * @throws org.chocosolver.solver.exception.SolverException if the size of the tuple added does not correspond to a the previous ones (if any).
 	 */
 	public void add(int... tuple) {
-		if (tuples.size() == 0) {
-			arity = tuple.length;
+		add(tuple, tuple.length);
+	}
+
+	/**
+	 * Add a new tuple made of the <i>len</i> first values of <i>buf</i>.
+	 * The values are copied, so <i>buf</i> can be reused by the caller.
+	 *
+	 * @param buf a buffer whose <i>len</i> first values form the tuple
+	 * @param len arity of the tuple
+	 * @throws org.chocosolver.solver.exception.SolverException if <i>len</i> does not correspond to the arity of the previous tuples (if any).
+	 */
+	void add(int[] buf, int len) {
+		if (size == 0) {
+			arity = len;
 			ranges = new int[2 * arity];
 			Arrays.fill(ranges, 0, arity, Integer.MAX_VALUE);
 			Arrays.fill(ranges, arity, 2 * arity, Integer.MIN_VALUE);
-		} else if (arity != tuple.length) {
+			columns = new int[arity][capacity];
+		} else if (arity != len) {
 			throw new SolverException("The given tuple does not match the arity: " + arity);
 		}
-		tuples.add(tuple.clone());
+		if (size == capacity) {
+			ensureCapacity(capacity + (capacity >> 1) + 1);
+		}
 		for (int i = 0; i < arity; i++) {
-			ranges[i] = Math.min(ranges[i], tuple[i]);
-			ranges[i + arity] = Math.max(ranges[i + arity], tuple[i]);
+			columns[i][size] = buf[i];
+			ranges[i] = Math.min(ranges[i], buf[i]);
+			ranges[i + arity] = Math.max(ranges[i + arity], buf[i]);
+		}
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Ensure that <i>nbTuples</i> tuples can be stored without reallocating memory.
+	 * Calling this method before adding a known number of tuples avoids successive reallocations.
+	 *
+	 * @param nbTuples number of tuples to store
+	 */
+	public void ensureCapacity(int nbTuples) {
+		if (nbTuples > capacity) {
+			capacity = nbTuples;
+			if (columns != null) {
+				for (int i = 0; i < arity; i++) {
+					columns[i] = Arrays.copyOf(columns[i], capacity);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Release the memory reserved for tuples not added yet, once all tuples are known
+	 */
+	public void trimToSize() {
+		if (capacity > size) {
+			capacity = size;
+			if (columns != null) {
+				for (int i = 0; i < arity; i++) {
+					columns[i] = Arrays.copyOf(columns[i], capacity);
+				}
+			}
 		}
 	}
 
@@ -168,6 +235,7 @@ public class Tuples {
 	 * @param tuples tuple set
 	 */
 	public void add(int[]... tuples) {
+		ensureCapacity(size + tuples.length);
 		for (int[] t : tuples) {
 			add(t);
 		}
@@ -208,21 +276,65 @@ public class Tuples {
 	 * @return number of tuples stored
 	 */
 	public int nbTuples() {
-		return tuples.size();
+		return size;
 	}
 
 	/**
-	 * Return the idx^th tuple
+	 * Return the number of modifications of these tuples (added tuples, reordering, universal value),
+	 * which enables detecting that data computed from them is outdated
+	 *
+	 * @return number of modifications of these tuples
+	 */
+	public int getModificationCount() {
+		return modCount;
+	}
+
+	/**
+	 * Return the arity of the tuples, 0 if no tuple has been added yet
+	 *
+	 * @return the arity of the tuples
+	 */
+	public int arity() {
+		return size == 0 ? 0 : arity;
+	}
+
+	/**
+	 * Return the value at position <i>pos</i> of the idx^th tuple
+	 *
+	 * @param idx index of the tuple
+	 * @param pos position in the tuple
+	 * @return a value
+	 */
+	public int get(int idx, int pos) {
+		return columns[pos][idx];
+	}
+
+	/**
+	 * Copy the idx^th tuple into <i>tuple</i>
+	 *
+	 * @param idx   index of the tuple
+	 * @param tuple array to fill, its length must be at least equal to the arity
+	 * @return <i>tuple</i>
+	 */
+	public int[] get(int idx, int[] tuple) {
+		for (int i = 0; i < arity; i++) {
+			tuple[i] = columns[i][idx];
+		}
+		return tuple;
+	}
+
+	/**
+	 * Return a copy of the idx^th tuple
 	 */
 	public int[] get(int idx) {
-		return tuples.get(idx);
+		return get(idx, new int[arity]);
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder st = new StringBuilder(isFeasible() ? "Allowed" : "Fordidden").append(" tuples: {");
-		for (int i = 0; i < tuples.size(); i++) {
-			st.append(Arrays.toString(tuples.get(i)));
+		for (int i = 0; i < size; i++) {
+			st.append(Arrays.toString(get(i)));
 		}
 
 		st.append("}");
@@ -234,28 +346,41 @@ public class Tuples {
 	 * @return an array of tuples, each tuple is an int array
 	 */
 	public int[][] toMatrix() {
-		int i = 0;
-		int[][] matrix = new int[tuples.size()][];
-		for (int[] tuple : tuples) {
-			matrix[i++] = tuple.clone();
+		int[][] matrix = new int[size][];
+		for (int i = 0; i < size; i++) {
+			matrix[i] = get(i);
 		}
 		return matrix;
 	}
 
+	/**
+	 * Sort tuples in lexicographical order.
+	 * Tuples are not moved during the comparisons: a permutation of their indices is sorted,
+	 * then applied to each column.
+	 */
 	public void sort() {
-		tuples.sort(new TupleComparator());
-	}
-
-	private static class TupleComparator implements Comparator<int[]> {
-
-		@Override
-		public int compare(int[] o1, int[] o2) {
+		if (size < 2) {
+			return;
+		}
+		int[] perm = new int[size];
+		for (int t = 0; t < size; t++) {
+			perm[t] = t;
+		}
+		new ArraySort<>(size, false, true).sort(perm, size, (t1, t2) -> {
 			int i = 0;
-			int l = o1.length;
-			while (i < l && o1[i] == o2[i]) {
+			while (i < arity && columns[i][t1] == columns[i][t2]) {
 				i++;
 			}
-			return (i == l ? 0 : o1[i] - o2[i]);
+			return (i == arity ? 0 : Integer.compare(columns[i][t1], columns[i][t2]));
+		});
+		int[] tmp = new int[size];
+		for (int i = 0; i < arity; i++) {
+			int[] column = columns[i];
+			for (int t = 0; t < size; t++) {
+				tmp[t] = column[perm[t]];
+			}
+			System.arraycopy(tmp, 0, column, 0, size);
 		}
+		modCount++;
 	}
 }
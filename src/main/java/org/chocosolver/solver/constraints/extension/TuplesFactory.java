@@ -13,6 +13,14 @@ import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
 /**
@@ -49,7 +57,7 @@ public class TuplesFactory {
             t[j] = doms[j][0];
         }
         while (true) {
-            if (filter.valid(t)) tuples.add(t.clone());
+            if (filter.valid(t)) tuples.add(t);
             int j;
             for (j = 0; j < n; j++) {
                 i[j]++;
@@ -341,7 +349,9 @@ public class TuplesFactory {
         Tuples left = generateTuples(TupleValidator.TRUE, true, VARS);
         Tuples tuples = new Tuples(true);
         int n = VARS.length;
-        for (int[] tleft : left.tuples) {
+        int[] tleft = new int[n];
+        for (int ti = 0; ti < left.nbTuples(); ti++) {
+            left.get(ti, tleft);
             int right = 0;
             for (int i = 0; i < n; i++) {
                 right += tleft[i] * COEFFS[i];
@@ -429,6 +439,130 @@ public class TuplesFactory {
         }, true, concat(VARS, SUM));
     }
 
+    /**
+     * Read tuples from a character stream: one tuple per line, values being separated by whitespaces, commas or semicolons.
+     * Empty lines are ignored.
+     * Tuples are streamed, that is, values are parsed on the fly and directly stored in the returned object:
+     * no intermediate object is created per tuple.
+     *
+     * @param reader   a character stream, consumed but not closed
+     * @param feasible are tuples feasible (or infeasible)
+     * @return the tuples read
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if an unexpected character is read or if tuples do not have the same arity
+     */
+    public static Tuples read(Reader reader, boolean feasible) throws IOException {
+        Tuples tuples = new Tuples(feasible);
+        char[] chars = new char[8192];
+        int[] tuple = new int[16];
+        int k = 0; // number of values read on the current line
+        long value = 0;
+        boolean inValue = false, negative = false;
+        int line = 1;
+        int n;
+        while ((n = reader.read(chars)) >= 0) {
+            for (int c = 0; c < n; c++) {
+                char ch = chars[c];
+                if (ch >= '0' && ch <= '9') {
+                    value = value * 10 + (ch - '0');
+                    if (value > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                        throw new SolverException("Value out of range at line " + line);
+                    }
+                    inValue = true;
+                } else if (ch == '-' && !inValue && !negative) {
+                    negative = true;
+                } else if (ch == ' ' || ch == '\t' || ch == ',' || ch == ';' || ch == '\r' || ch == '\n') {
+                    if (inValue) {
+                        if (k == tuple.length) {
+                            tuple = Arrays.copyOf(tuple, k * 2);
+                        }
+                        tuple[k++] = (int) (negative ? -value : value);
+                    } else if (negative) {
+                        throw new SolverException("Unexpected '-' at line " + line);
+                    }
+                    value = 0;
+                    inValue = negative = false;
+                    if (ch == '\n') {
+                        if (k > 0) {
+                            addRead(tuples, tuple, k, line);
+                        }
+                        k = 0;
+                        line++;
+                    }
+                } else {
+                    throw new SolverException("Unexpected character '" + ch + "' at line " + line);
+                }
+            }
+        }
+        if (inValue) {
+            if (k == tuple.length) {
+                tuple = Arrays.copyOf(tuple, k + 1);
+            }
+            tuple[k++] = (int) (negative ? -value : value);
+        } else if (negative) {
+            throw new SolverException("Unexpected '-' at line " + line);
+        }
+        if (k > 0) {
+            addRead(tuples, tuple, k, line);
+        }
+        tuples.trimToSize();
+        return tuples;
+    }
+
+    private static void addRead(Tuples tuples, int[] tuple, int k, int line) {
+        if (tuples.nbTuples() > 0 && k != tuples.arity()) {
+            throw new SolverException("The tuple at line " + line + " does not match the arity: " + tuples.arity());
+        }
+        tuples.add(tuple, k);
+    }
+
+    /**
+     * Read tuples from a text file: one tuple per line, values being separated by whitespaces, commas or semicolons.
+     *
+     * @param path     path to the file
+     * @param feasible are tuples feasible (or infeasible)
+     * @return the tuples read
+     * @throws IOException if an I/O error occurs
+     * @see #read(Reader, boolean)
+     */
+    public static Tuples read(Path path, boolean feasible) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            return read(reader, feasible);
+        }
+    }
+
+    /**
+     * Read tuples from a buffer of integers, from its current position to its limit, in row-major order
+     * (that is, the <i>arity</i> first values form the first tuple, and so on).
+     * The buffer can be memory-mapped, for instance:
+     * <pre>{@code
+     * try (FileChannel channel = FileChannel.open(path)) {
+     *     IntBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asIntBuffer();
+     *     Tuples tuples = TuplesFactory.read(buffer, 3, true);
+     * }
+     * }</pre>
+     * Values are directly stored in the returned object: no intermediate object is created per tuple.
+     *
+     * @param buffer   a buffer of integers, consumed
+     * @param arity    arity of the tuples
+     * @param feasible are tuples feasible (or infeasible)
+     * @return the tuples read
+     * @throws SolverException if the number of remaining integers is not a multiple of <i>arity</i>
+     */
+    public static Tuples read(IntBuffer buffer, int arity, boolean feasible) {
+        if (arity <= 0 || buffer.remaining() % arity != 0) {
+            throw new SolverException("The number of integers in the buffer is not a multiple of the arity: " + arity);
+        }
+        Tuples tuples = new Tuples(feasible);
+        tuples.ensureCapacity(buffer.remaining() / arity);
+        int[] tuple = new int[arity];
+        while (buffer.hasRemaining()) {
+            buffer.get(tuple);
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
     /**
      * Check whether the intension constraint to extension constraint substitution is enabled and can be achieved
      *
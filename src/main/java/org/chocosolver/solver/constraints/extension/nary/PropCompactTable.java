@@ -14,6 +14,7 @@ import org.chocosolver.memory.IStateLong;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.nary.SupportIndex.Supports;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -24,6 +25,10 @@ import org.chocosolver.util.procedure.UnaryIntProcedure;
 /**
  * Propagator for table constraint based on "Compact-Table: Efficiently Filtering Table Constraints
  * with Reversible Sparse Bit-Sets" Only for feasible Tuples
+ * <p>
+ * The supports are stored in a {@link SupportIndex}, which is shared by all propagators built on the same tuples.
+ * Only the reversible sparse bit-set of the current tuples is specific to each propagator.
+ * </p>
  *
  * @author Jean-Guillaume FAGES
  * @author Charles Prud'homme
@@ -37,7 +42,7 @@ public class PropCompactTable extends Propagator<IntVar> {
 
     RSparseBitSet currTable;
     protected Tuples tuples; // only for checker
-    protected long[][][] supports;
+    protected SupportIndex index;
     int[][] residues;
     protected int[] offset;
     protected IIntDeltaMonitor[] monitors;
@@ -65,60 +70,49 @@ public class PropCompactTable extends Propagator<IntVar> {
         onValRem = makeProcedure();
     }
 
+    /**
+     * @return the tuples of this propagator
+     */
+    public Tuples getTuples() {
+        return tuples;
+    }
+
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
 
     protected UnaryIntProcedure<Integer> makeProcedure() {
         return new UnaryIntProcedure<Integer>() {
-            int var, off;
+            int var;
 
             @Override
             public UnaryIntProcedure set(Integer o) {
                 var = o;
-                off = offset[var];
                 return this;
             }
 
             @Override
             public void execute(int i) throws ContradictionException {
-                currTable.addToMask((supports[var][i - off]));
+                currTable.addToMask(index.supports(var, i));
             }
         };
     }
 
     protected void computeSupports(Tuples tuples) {
+        index = SupportIndex.get(tuples, false);
+        makeResidues();
+    }
+
+    void makeResidues() {
         int n = vars.length;
         offset = new int[n];
-        supports = new long[n][][];
         residues = new int[n][];
-        long[] tmp;
         for (int i = 0; i < n; i++) {
             int lb = vars[i].getLB();
             int ub = vars[i].getUB();
             offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
             residues[i] = new int[ub - lb + 1];
         }
-        int wI = 0;
-        byte bI = 63;
-        top:
-        for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-            int[] tuple = tuples.get(ti);
-            for (int i = 0; i < tuple.length; i++) {
-                if (!vars[i].contains(tuple[i])) {
-                    continue top;
-                }
-            }
-            for (int i = 0; i < tuple.length; i++) {
-                tmp = supports[i][tuple[i] - offset[i]];
-                tmp[wI] |= 1L << (bI);
-            }
-            if (--bI < 0) {
-                bI = 63;
-                wI++;
-            }
-        }
     }
 
     //***********************************************************************************
@@ -132,7 +126,7 @@ public class PropCompactTable extends Propagator<IntVar> {
                 currTable.clearMask();
                 int ub = vars[i].getUB();
                 for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
-                    currTable.addToMask(supports[i][v - offset[i]]);
+                    currTable.addToMask(index.supports(i, v));
                 }
                 currTable.intersectWithMask();
             }
@@ -153,7 +147,7 @@ public class PropCompactTable extends Propagator<IntVar> {
         } else {
             int ub = vars[vIdx].getUB();
             for (int v = vars[vIdx].getLB(); v <= ub; v = vars[vIdx].nextValue(v)) {
-                currTable.addToMask(supports[vIdx][v - offset[vIdx]]);
+                currTable.addToMask(index.supports(vIdx, v));
             }
         }
         currTable.intersectWithMask();
@@ -181,13 +175,13 @@ public class PropCompactTable extends Propagator<IntVar> {
         int lb = vars[i].getLB();
         int ub = vars[i].getUB();
         for (int v = lb; v <= ub; v++) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
+            Supports s = index.supports(i, v);
+            if (!currTable.intersects(s, residues[i][v - offset[i]])) {
+                int k = currTable.intersectIndex(s);
+                if (k == -1) {
                     lb++;
                 } else {
-                    residues[i][v - offset[i]] = index;
+                    residues[i][v - offset[i]] = k;
                     break;
                 }
             } else {
@@ -196,13 +190,13 @@ public class PropCompactTable extends Propagator<IntVar> {
         }
         vars[i].updateLowerBound(lb, this);
         for (int v = ub; v >= ub; v--) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
+            Supports s = index.supports(i, v);
+            if (!currTable.intersects(s, residues[i][v - offset[i]])) {
+                int k = currTable.intersectIndex(s);
+                if (k == -1) {
                     ub--;
                 } else {
-                    residues[i][v - offset[i]] = index;
+                    residues[i][v - offset[i]] = k;
                     break;
                 }
             } else {
@@ -215,13 +209,13 @@ public class PropCompactTable extends Propagator<IntVar> {
     private void enumFilter(int i) throws ContradictionException {
         int ub = vars[i].getUB();
         for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
+            Supports s = index.supports(i, v);
+            if (!currTable.intersects(s, residues[i][v - offset[i]])) {
+                int k = currTable.intersectIndex(s);
+                if (k == -1) {
                     vars[i].removeValue(v, this);
                 } else {
-                    residues[i][v - offset[i]] = index;
+                    residues[i][v - offset[i]] = k;
                 }
             }
         }
@@ -274,10 +268,18 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        protected void addToMask(long[] wordsToAdd) {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = mask[offset] | wordsToAdd[offset];
+        protected void addToMask(Supports s) {
+            if (s.isDense()) {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    mask[offset] = mask[offset] | s.word(offset);
+                }
+            } else {
+                // words which are not in use anymore may be modified, they are cleared before being used again
+                for (int k = s.size() - 1; k >= 0; k--) {
+                    int offset = s.offset(k);
+                    mask[offset] = mask[offset] | s.word(k);
+                }
             }
         }
 
@@ -296,14 +298,33 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        private int intersectIndex(long[] m) {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                if ((words[offset].get() & m[offset]) != 0L) {
-                    return offset;
+        /**
+         * @return the position of a word of <i>s</i> which intersects this, or -1
+         */
+        private int intersectIndex(Supports s) {
+            if (s.isDense()) {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    if ((words[offset].get() & s.word(offset)) != 0L) {
+                        return offset;
+                    }
+                }
+            } else {
+                // words which are not in use anymore are empty
+                for (int k = s.size() - 1; k >= 0; k--) {
+                    if ((words[s.offset(k)].get() & s.word(k)) != 0L) {
+                        return k;
+                    }
                 }
             }
             return -1;
         }
+
+        /**
+         * @return <tt>true</tt> if the <i>k</i>th stored word of <i>s</i> intersects this
+         */
+        private boolean intersects(Supports s, int k) {
+            return k < s.size() && (words[s.offset(k)].get() & s.word(k)) != 0L;
+        }
     }
 }
\ No newline at end of file
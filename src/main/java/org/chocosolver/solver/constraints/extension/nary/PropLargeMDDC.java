@@ -51,6 +51,13 @@ public class PropLargeMDDC extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @return the MDD of this propagator
+     */
+    public MultivaluedDecisionDiagram getMDD() {
+        return MDD;
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         mddc();
@@ -0,0 +1,355 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.constraints.extension.Tuples;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable index of the supports of a {@link Tuples} object, shared by the compact-table propagators built on it.
+ * <p>
+ * For each position <i>i</i> and each value <i>v</i>, the set of tuples whose value at position <i>i</i> is <i>v</i>
+ * is stored as a bitset: the <i>t</i>th tuple is bit <i>t % 64</i> of word <i>t / 64</i>.
+ * A bitset with few non-empty words is compressed: only its non-empty words are stored, together with their offsets.
+ * Otherwise, all its words are stored.
+ * The bitsets of a position are indexed by value, from the smallest one,
+ * unless values are too spread compared to the number of tuples: they are then indexed through a hash map.
+ * </p>
+ * <p>
+ * Indices are cached, keyed on the identity of the {@link Tuples} object, which is weakly referenced.
+ * So, posting the same tuples on several scopes, or in several models, builds the index only once.
+ * An index is rebuilt when its tuples are modified.
+ * Since the index does not depend on the domains of the variables,
+ * tuples which are not valid anymore are removed by the initial propagation of each propagator.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public final class SupportIndex {
+
+    /**
+     * Cached indices, for tuples without and with universal value
+     */
+    private static final Map<Tuples, SupportIndex[]> CACHE = new WeakHashMap<>();
+
+    /**
+     * A position whose values span more than this factor times the number of tuples is indexed through a hash map
+     */
+    private static final int SPREAD = 2;
+
+    /**
+     * An empty set of supports
+     */
+    private static final Supports EMPTY = new Supports(new int[0], new long[0]);
+
+    /**
+     * Number of modifications of the tuples when this index was built
+     */
+    private final int modCount;
+
+    /**
+     * Number of words of a (non-compressed) bitset
+     */
+    private final int nbWords;
+
+    /**
+     * Smallest value (except the universal value) at each position
+     */
+    private final int[] offset;
+
+    /**
+     * <i>slots[i]</i> maps a value to its index at position <i>i</i>,
+     * <tt>null</tt> if values are indexed from <i>offset[i]</i>
+     */
+    private final TIntIntHashMap[] slots;
+
+    /**
+     * <i>supports[i][v - offset[i]]</i> (or <i>supports[i][slots[i].get(v)]</i>) is the set of tuples
+     * supporting <i>v</i> at position <i>i</i>, including tuples with the universal value at this position
+     */
+    private final Supports[][] supports;
+
+    /**
+     * <i>incSupports[i][v - offset[i]]</i> (or <i>incSupports[i][slots[i].get(v)]</i>) is the set of tuples
+     * with value <i>v</i> at position <i>i</i>
+     */
+    private final Supports[][] incSupports;
+
+    /**
+     * <i>stars[i]</i> is the set of tuples with the universal value at position <i>i</i>
+     */
+    private final Supports[] stars;
+
+    /**
+     * Return the support index of <i>tuples</i>, built on first call, or when <i>tuples</i> has been modified.
+     *
+     * @param tuples    a set of tuples
+     * @param universal set to <tt>true</tt> to interpret the universal value of <i>tuples</i>, if any
+     * @return the support index of <i>tuples</i>
+     */
+    public static SupportIndex get(Tuples tuples, boolean universal) {
+        int k = universal ? 1 : 0;
+        synchronized (CACHE) {
+            SupportIndex[] indices = CACHE.computeIfAbsent(tuples, t -> new SupportIndex[2]);
+            if (indices[k] == null || indices[k].modCount != tuples.getModificationCount()) {
+                indices[k] = new SupportIndex(tuples, universal && tuples.allowUniversalValue());
+            }
+            return indices[k];
+        }
+    }
+
+    private SupportIndex(Tuples tuples, boolean universal) {
+        int n = tuples.arity();
+        int nt = tuples.nbTuples();
+        this.modCount = tuples.getModificationCount();
+        this.nbWords = nt / 64 + (nt % 64 == 0 ? 0 : 1);
+        this.offset = new int[n];
+        this.slots = new TIntIntHashMap[n];
+        this.supports = new Supports[n][];
+        this.incSupports = universal ? new Supports[n][] : supports;
+        this.stars = new Supports[n];
+        int star = universal ? tuples.getStarValue() : 0;
+        for (int i = 0; i < n; i++) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int t = 0; t < nt; t++) {
+                int v = tuples.get(t, i);
+                if (!universal || v != star) {
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+            }
+            if (min > max) { // universal value only
+                min = 0;
+                max = -1;
+            }
+            offset[i] = min;
+            int range;
+            if ((long) max - min + 1 > SPREAD * (long) nt + 64) {
+                slots[i] = new TIntIntHashMap(16, .5f, Integer.MIN_VALUE, -1);
+                for (int t = 0; t < nt; t++) {
+                    int v = tuples.get(t, i);
+                    if ((!universal || v != star) && !slots[i].containsKey(v)) {
+                        slots[i].put(v, slots[i].size());
+                    }
+                }
+                range = slots[i].size();
+            } else {
+                range = max - min + 1;
+            }
+            // the last slot stores the tuples with the universal value
+            Supports[] column = build(tuples, i, min, slots[i], range, universal, star);
+            stars[i] = column[column.length - 1];
+            incSupports[i] = Arrays.copyOf(column, column.length - 1);
+            if (universal) {
+                supports[i] = new Supports[incSupports[i].length];
+                for (int j = 0; j < supports[i].length; j++) {
+                    supports[i][j] = or(incSupports[i][j], stars[i], nbWords);
+                }
+            }
+        }
+    }
+
+    /**
+     * Build the bitsets of the <i>i</i>th position
+     */
+    private Supports[] build(Tuples tuples, int i, int min, TIntIntHashMap slot, int range, boolean universal, int star) {
+        int nt = tuples.nbTuples();
+        int[] count = new int[range + 1];
+        int[] last = new int[range + 1];
+        Arrays.fill(last, -1);
+        for (int t = 0; t < nt; t++) {
+            int v = tuples.get(t, i);
+            int j = universal && v == star ? range : slot == null ? v - min : slot.get(v);
+            if (last[j] != t >>> 6) {
+                last[j] = t >>> 6;
+                count[j]++;
+            }
+        }
+        int[][] offsets = new int[range + 1][];
+        long[][] words = new long[range + 1][];
+        for (int j = 0; j <= range; j++) {
+            offsets[j] = new int[count[j]];
+            words[j] = new long[count[j]];
+            count[j] = 0;
+        }
+        Arrays.fill(last, -1);
+        for (int t = 0; t < nt; t++) {
+            int v = tuples.get(t, i);
+            int j = universal && v == star ? range : slot == null ? v - min : slot.get(v);
+            if (last[j] != t >>> 6) {
+                last[j] = t >>> 6;
+                offsets[j][count[j]++] = t >>> 6;
+            }
+            words[j][count[j] - 1] |= 1L << t;
+        }
+        Supports[] column = new Supports[range + 1];
+        for (int j = 0; j <= range; j++) {
+            column[j] = make(offsets[j], words[j], nbWords);
+        }
+        return column;
+    }
+
+    /**
+     * Make a bitset from its non-empty words, compressed or not depending on its density
+     */
+    private static Supports make(int[] offsets, long[] words, int nbWords) {
+        if (words.length == 0) {
+            return EMPTY;
+        }
+        // an offset takes half the memory of a word
+        if (3 * (long) words.length < 2 * (long) nbWords) {
+            return new Supports(offsets, words);
+        }
+        long[] dense = new long[nbWords];
+        for (int k = 0; k < words.length; k++) {
+            dense[offsets[k]] = words[k];
+        }
+        return new Supports(null, dense);
+    }
+
+    /**
+     * @return the union of <i>s1</i> and <i>s2</i>
+     */
+    private static Supports or(Supports s1, Supports s2, int nbWords) {
+        if (s2.size() == 0) {
+            return s1;
+        }
+        if (s1.size() == 0) {
+            return s2;
+        }
+        int[] offsets = new int[s1.size() + s2.size()];
+        long[] words = new long[offsets.length];
+        int k = 0, k1 = 0, k2 = 0;
+        while (k1 < s1.size() || k2 < s2.size()) {
+            int o1 = k1 < s1.size() ? s1.offset(k1) : Integer.MAX_VALUE;
+            int o2 = k2 < s2.size() ? s2.offset(k2) : Integer.MAX_VALUE;
+            long w = 0L;
+            int o = Math.min(o1, o2);
+            if (o1 == o) {
+                w |= s1.word(k1++);
+            }
+            if (o2 == o) {
+                w |= s2.word(k2++);
+            }
+            if (w != 0L) {
+                offsets[k] = o;
+                words[k++] = w;
+            }
+        }
+        return make(Arrays.copyOf(offsets, k), Arrays.copyOf(words, k), nbWords);
+    }
+
+    /**
+     * @return number of words of a (non-compressed) bitset of this index
+     */
+    public int nbWords() {
+        return nbWords;
+    }
+
+    /**
+     * @param i a position
+     * @param v a value
+     * @return the tuples supporting <i>v</i> at position <i>i</i>, including tuples with the universal value
+     * at this position
+     */
+    public Supports supports(int i, int v) {
+        int j = slot(i, v);
+        return j < 0 ? stars[i] : supports[i][j];
+    }
+
+    /**
+     * @param i a position
+     * @param v a value
+     * @return the tuples with value <i>v</i> at position <i>i</i>
+     */
+    public Supports incSupports(int i, int v) {
+        int j = slot(i, v);
+        return j < 0 ? EMPTY : incSupports[i][j];
+    }
+
+    /**
+     * @return the index of the bitsets of <i>v</i> at position <i>i</i>, -1 if <i>v</i> appears in no tuple
+     */
+    private int slot(int i, int v) {
+        if (slots[i] != null) {
+            return slots[i].get(v);
+        }
+        return v < offset[i] || v - (long) offset[i] >= incSupports[i].length ? -1 : v - offset[i];
+    }
+
+    /**
+     * An immutable bitset, possibly compressed.
+     * Its stored words are accessed by their position <i>k</i>, from 0 to {@link #size()} - 1,
+     * each of them being the word at {@link #offset(int)} in the non-compressed bitset.
+     */
+    public static final class Supports {
+
+        /**
+         * Offsets of the stored words, <tt>null</tt> if all words are stored
+         */
+        private final int[] offsets;
+
+        /**
+         * Stored words
+         */
+        private final long[] words;
+
+        private Supports(int[] offsets, long[] words) {
+            this.offsets = offsets;
+            this.words = words;
+        }
+
+        /**
+         * @return <tt>true</tt> if all the words of this bitset are stored
+         */
+        public boolean isDense() {
+            return offsets == null;
+        }
+
+        /**
+         * @return number of stored words
+         */
+        public int size() {
+            return words.length;
+        }
+
+        /**
+         * @param k position of a stored word
+         * @return offset of the <i>k</i>th stored word in the non-compressed bitset
+         */
+        public int offset(int k) {
+            return offsets == null ? k : offsets[k];
+        }
+
+        /**
+         * @param k position of a stored word
+         * @return the <i>k</i>th stored word
+         */
+        public long word(int k) {
+            return words[k];
+        }
+
+        /**
+         * @param t index of a tuple
+         * @return <tt>true</tt> if the <i>t</i>th tuple belongs to this bitset
+         */
+        public boolean get(int t) {
+            int k = offsets == null ? t >>> 6 : Arrays.binarySearch(offsets, t >>> 6);
+            return k >= 0 && k < words.length && (words[k] & (1L << t)) != 0L;
+        }
+    }
+}
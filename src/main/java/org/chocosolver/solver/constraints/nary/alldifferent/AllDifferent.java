@@ -26,8 +26,27 @@ public class AllDifferent extends Constraint {
     public static final String NEQS= "NEQS";
     public static final String DEFAULT= "DEFAULT";
 
+    private final IntVar[] vars;
+    private final String type;
+
     public AllDifferent(IntVar[] vars, String type) {
         super(ConstraintsName.ALLDIFFERENT, createPropagators(vars, type));
+        this.vars = vars;
+        this.type = type;
+    }
+
+    /**
+     * @return the variables of this constraint
+     */
+    public IntVar[] getVariables() {
+        return vars;
+    }
+
+    /**
+     * @return the consistency level of this constraint
+     */
+    public String getConsistency() {
+        return type;
     }
 
     private static Propagator[] createPropagators(IntVar[] VARS, String consistency) {
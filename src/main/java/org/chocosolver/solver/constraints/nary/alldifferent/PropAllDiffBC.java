@@ -12,9 +12,13 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffBC;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ValueSortedMap;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
 /**
  * Based on: </br>
@@ -51,4 +55,139 @@ public class PropAllDiffBC extends Propagator<IntVar> {
         return ESat.TRUE; // redundant propagator (use PropAllDiffInst)
     }
 
+    /**
+     * @implSpec
+     * Bounds of the pivot are explained by Hall intervals.
+     * <p>
+     *     Let [lx, ux] be the domain of the pivot before propagation and [lx', ux'] its domain after propagation.
+     *     If lx' &gt; lx, an interval [a, lx' - 1], with a &le; lx, is looked for such that at least
+     *     lx' - a other variables have their domain, before propagation, included in it.
+     *     The largest such <i>a</i> is retained, and lx' - a of these variables, say y_1, ..., y_k, are kept.
+     *     Then:
+     * <pre>
+     *         (y_1 &isin; [a, lx' - 1] &and; ... &and; y_k &isin; [a, lx' - 1]) &rarr; x &notin; [a, lx' - 1]
+     *     </pre>
+     *     An upper bound modification is explained symmetrically.
+     * </p>
+     * <p>
+     *     When the domain of the pivot is modified elsewhere than on its bounds or when no Hall interval is found,
+     *     the default explanation is computed.
+     * </p>
+     */
+    @Override
+    public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+        IntVar pivot = ig.getIntVarAt(p);
+        IntIterableRangeSet dbef = ig.getDomainAt(front.getValue(pivot));
+        IntIterableRangeSet daft = ig.getDomainAt(p);
+        int x = -1;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] == pivot) {
+                x = i;
+                break;
+            }
+        }
+        if (x == -1 || daft.size() == 0 || !onlyBoundsModified(explanation, dbef, daft)) {
+            Propagator.defaultExplain(this, explanation, front, ig, p);
+            return;
+        }
+        int lo = daft.min(), hi = daft.max();
+        int a = lo > dbef.min() ? lowerHall(front, ig, x, dbef.min(), lo - 1) : lo;
+        int b = hi < dbef.max() ? upperHall(front, ig, x, hi + 1, dbef.max()) : hi;
+        if (a == Integer.MIN_VALUE || b == Integer.MAX_VALUE) {
+            Propagator.defaultExplain(this, explanation, front, ig, p);
+            return;
+        }
+        IntIterableRangeSet set = explanation.getRootSet(pivot);
+        if (a < lo) {
+            addHall(explanation, front, ig, x, a, lo - 1);
+            set.removeBetween(a, lo - 1);
+        }
+        if (b > hi) {
+            addHall(explanation, front, ig, x, hi + 1, b);
+            set.removeBetween(hi + 1, b);
+        }
+        explanation.addLiteral(pivot, set, true);
+    }
+
+    /**
+     * @return <i>true</i> if <i>daft</i> is <i>dbef</i> restricted to the bounds of <i>daft</i>
+     */
+    private static boolean onlyBoundsModified(ExplanationForSignedClause explanation,
+                                              IntIterableRangeSet dbef, IntIterableRangeSet daft) {
+        IntIterableRangeSet set = explanation.getFreeSet();
+        set.copyFrom(dbef);
+        set.retainBetween(daft.min(), daft.max());
+        boolean only = set.size() == daft.size();
+        explanation.returnSet(set);
+        return only;
+    }
+
+    /**
+     * @return the largest <i>a</i> &le; <i>lx</i> such that [a, u] is a Hall interval
+     * for variables other than <i>vars[x]</i>, or {@link Integer#MIN_VALUE}
+     */
+    private int lowerHall(ValueSortedMap<IntVar> front, Implications ig, int x, int lx, int u) {
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < vars.length; i++) {
+            if (i != x) {
+                int a = ig.getDomainAt(front.getValue(vars[i])).min();
+                if (a <= lx && a > best && count(front, ig, x, a, u) >= u - a + 1) {
+                    best = a;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the smallest <i>b</i> &ge; <i>ux</i> such that [l, b] is a Hall interval
+     * for variables other than <i>vars[x]</i>, or {@link Integer#MAX_VALUE}
+     */
+    private int upperHall(ValueSortedMap<IntVar> front, Implications ig, int x, int l, int ux) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < vars.length; i++) {
+            if (i != x) {
+                int b = ig.getDomainAt(front.getValue(vars[i])).max();
+                if (b >= ux && b < best && count(front, ig, x, l, b) >= b - l + 1) {
+                    best = b;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the number of variables, other than <i>vars[x]</i>, whose domain is included in [l, u]
+     */
+    private int count(ValueSortedMap<IntVar> front, Implications ig, int x, int l, int u) {
+        int c = 0;
+        for (int i = 0; i < vars.length; i++) {
+            if (i != x) {
+                IntIterableRangeSet dom = ig.getDomainAt(front.getValue(vars[i]));
+                if (dom.min() >= l && dom.max() <= u) {
+                    c++;
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Add the literals of u - l + 1 variables, other than <i>vars[x]</i>, whose domain is included in [l, u]
+     */
+    private void addHall(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front,
+                         Implications ig, int x, int l, int u) {
+        for (int i = 0, k = u - l + 1; i < vars.length && k > 0; i++) {
+            if (i != x) {
+                IntIterableRangeSet dom = ig.getDomainAt(front.getValue(vars[i]));
+                if (dom.min() >= l && dom.max() <= u) {
+                    IntIterableRangeSet set = explanation.getRootSet(vars[i]);
+                    set.removeBetween(l, u);
+                    explanation.addLiteral(vars[i], set, false);
+                    k--;
+                }
+            }
+        }
+    }
+
 }
@@ -118,6 +118,15 @@ public class ClauseBuilder {
      * @return the contraint or null if always true
      */
     public void buildNogood(Model model) {
+        buildNogood(model, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Build the nogood in memory and post it to <i>model</i>
+     *
+     * @param lbd literal block distance of the nogood, {@link Integer#MAX_VALUE} if unknown
+     */
+    public void buildNogood(Model model, int lbd) {
         if ((status & ALWAYSTRUE) == 0) {
             if ((status & UNKNOWN) != 0) { // at least one clause is unknown
                 if (ELIMINATE_VIEWS) eliminateViews();
@@ -136,7 +145,7 @@ public class ClauseBuilder {
                         for (int i = 0; i < _vars.length; i++) {
                             ranges[i] = sets.get(_vars[i].getId());
                         }
-                        model.getClauseConstraint().addClause(_vars, ranges);
+                        model.getClauseConstraint().addClause(_vars, ranges, lbd);
                         break;
                 }
             } else {
@@ -41,6 +41,16 @@ public class ClauseConstraint extends Constraint {
         clauseStore.add(vars, ranges);
     }
 
+    /**
+     * Add a new clause to the clause store, like: (vars[0] ∈ ranges[0]) &or; (vars[1] ∈ ranges[1]) &or; ...
+     * @param vars set of variables
+     * @param ranges set of allowed ranges
+     * @param lbd literal block distance of the clause, {@link Integer#MAX_VALUE} if unknown
+     */
+    public void addClause(IntVar[] vars, IntIterableRangeSet[] ranges, int lbd){
+        clauseStore.add(vars, ranges, lbd);
+    }
+
     @Override
     public ESat isSatisfied() {
         return clauseStore.isEntailed();
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.constraints.nary.clauses;
 
+import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
@@ -20,19 +21,14 @@ import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.objects.ShrinkableList;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
-import org.chocosolver.util.objects.tree.Interval;
-import org.chocosolver.util.objects.tree.IntervalTree;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Stack;
 
 import static org.chocosolver.util.ESat.FALSE;
 import static org.chocosolver.util.ESat.TRUE;
@@ -40,6 +36,15 @@ import static org.chocosolver.util.ESat.UNDEFINED;
 
 /**
  * A class to manage life of sclauses during resolution. TODO
+ * <p>
+ * Learnt signed clauses are retained in three tiers, depending on their literal block distance (LBD),
+ * that is the number of distinct decision levels of their literals when learnt:
+ * <ul>
+ *     <li>core clauses (see {@link org.chocosolver.solver.Settings#getLearntClausesCoreLBD()}) are never removed,</li>
+ *     <li>tier-2 clauses (see {@link org.chocosolver.solver.Settings#getLearntClausesTier2LBD()}) are kept as long
+ *     as they take part in conflict analysis between two reductions, otherwise they are moved to the local tier,</li>
+ *     <li>local clauses are removed wrt to their activity when the store is reduced.</li>
+ * </ul>
  *
  * <p> Project: choco-solver.
  *
@@ -54,6 +59,11 @@ public class ClauseStore extends Propagator<IntVar> {
 
     public static boolean INTERVAL_TREE = true;
 
+    /**
+     * Retention tiers of learnt clauses
+     */
+    static final byte CORE = 0, TIER2 = 1, LOCAL = 2;
+
     /**
      * Signed clause unique ID -- for toString() mainly
      */
@@ -80,12 +90,53 @@ public class ClauseStore extends Propagator<IntVar> {
     private final double ratio;
 
     private final int domPerimeter;
+    /**
+     * Maximum LBD of core learnt clauses
+     */
+    private final int coreLBD;
+    /**
+     * Maximum LBD of tier-2 learnt clauses
+     */
+    private final int tier2LBD;
+    /**
+     * Number of learnt clauses in core tier
+     */
+    private int nbCore;
+    /**
+     * Activities of removable local clauses, for reduction
+     */
+    private double[] activities = new double[16];
     /**
      * Reference to the last learnt signed clause, for checking routine
      */
     private SignedClause last;
 
-    private HashMap<IntVar, IntervalTree<Container>> watches;
+    /**
+     * Watch lists, indexed by variable ID
+     */
+    private WatchList[] watches;
+    /**
+     * Signed clauses, indexed by their slot, <i>null</i> for a removed one
+     */
+    private SignedClause[] slots;
+    /**
+     * Number of slots in use
+     */
+    private int nbSlots;
+    /**
+     * Slots of removed clauses, which may still be referenced by watchers
+     */
+    private int[] removed;
+    private int nbRemoved;
+    /**
+     * Slots of removed clauses no longer referenced by any watcher, ready to be reused
+     */
+    private int[] free;
+    private int nbFree;
+    /**
+     * Number of watchers stored in {@link #watches}, including stale ones
+     */
+    private int nbWatchers;
     /**
      * Amount to bump clause with.
      */
@@ -103,10 +154,15 @@ public class ClauseStore extends Propagator<IntVar> {
         this.nbMaxLearnts = model.getSettings().getNbMaxLearntClauses();
         this.ratio = model.getSettings().getRatioForClauseStoreReduction();
         this.domPerimeter = model.getSettings().getLearntClausesDominancePerimeter();
+        this.coreLBD = model.getSettings().getLearntClausesCoreLBD();
+        this.tier2LBD = model.getSettings().getLearntClausesTier2LBD();
         this.clauses = new ArrayList<>();
         this.learnts = new ArrayList<>();
         last = null;
-        this.watches = new HashMap<>();
+        this.watches = new WatchList[16];
+        this.slots = new SignedClause[16];
+        this.removed = new int[16];
+        this.free = new int[16];
         setActive0();
     }
 
@@ -118,19 +174,51 @@ public class ClauseStore extends Propagator<IntVar> {
         return learnts.size();
     }
 
+    /**
+     * @return the number of learnt clauses in the core tier
+     */
+    public int getNbCoreLearntClauses() {
+        return nbCore;
+    }
+
+    /**
+     * @param i position of a learnt clause
+     * @return the <i>i</i>th learnt clause
+     */
+    SignedClause getLearntClause(int i) {
+        return learnts.get(i);
+    }
+
     /**
      * Declare a new signed clause in this store
      */
     public void add(IntVar[] vars, IntIterableRangeSet[] ranges) {
+        add(vars, ranges, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Declare a new signed clause in this store
+     *
+     * @param lbd literal block distance of the clause, {@link Integer#MAX_VALUE} if unknown
+     */
+    public void add(IntVar[] vars, IntIterableRangeSet[] ranges, int lbd) {
         if (INTERVAL_TREE) {
             SignedClause cl = new SignedClause(vars, ranges);
-            attach(new Watcher(cl.pos[0], cl));
-            attach(new Watcher(cl.pos[1], cl));
+            register(cl);
+            attach(cl, cl.pos[0]);
+            attach(cl, cl.pos[1]);
             if (model.getSolver().getEngine().isInitialized()) {
                 this.learnts.add(cl);
                 last = cl;
                 last.activity = clauseInc;
                 last.rawActivity = 1;
+                last.lbd = Math.min(lbd, vars.length);
+                if (last.lbd <= coreLBD) {
+                    last.tier = CORE;
+                    nbCore++;
+                } else {
+                    last.tier = last.lbd <= tier2LBD ? TIER2 : LOCAL;
+                }
                 if (PRINT_CLAUSE) System.out.printf("learn: %s\n", cl);
             } else {
                 if (PRINT_CLAUSE) System.out.printf("add: %s\n", cl);
@@ -144,31 +232,83 @@ public class ClauseStore extends Propagator<IntVar> {
         }
     }
 
-    private void attach(Watcher w) {
-        IntVar var = w.c.v(w.p);
-        IntervalTree<Container> wm = watches.get(var);
-        if (wm == null) {
-            wm = new IntervalTree<>();
-            watches.put(var, wm);
-            this.addVariable(var);
+    /**
+     * Give a slot to <i>cl</i>, reusing the one of a removed clause when possible
+     */
+    private void register(SignedClause cl) {
+        if (nbFree > 0) {
+            cl.slot = free[--nbFree];
+        } else {
+            if (nbSlots == slots.length) {
+                slots = Arrays.copyOf(slots, nbSlots * 3 / 2 + 1);
+            }
+            cl.slot = nbSlots++;
         }
-        Container ct = wm.get(w.c.l(w.p), w.c.u(w.p));
-        if (ct == null) {
-            ct = new Container(w.c.l(w.p), w.c.u(w.p));
-            wm.insert(ct);
+        slots[cl.slot] = cl;
+    }
+
+    /**
+     * Watch the literal at position <i>p</i> in <i>cl</i>
+     */
+    private void attach(SignedClause cl, int p) {
+        IntVar var = cl.v(p);
+        int id = var.getId();
+        if (id >= watches.length) {
+            watches = Arrays.copyOf(watches, Math.max(id + 1, watches.length * 3 / 2));
         }
-        ct.add(w);
+        WatchList wl = watches[id];
+        if (wl == null) {
+            wl = watches[id] = new WatchList();
+            this.addVariable(var);
+        }
+        wl.add(wl.rangeOf(cl.l(p), cl.u(p)), cl.slot, p);
+        nbWatchers++;
     }
 
     /**
-     * Remove the nogood at position <i>idx</i>
+     * Remove the nogood at position <i>idx</i>.
+     * Its watchers are removed lazily, either when met or on {@link #compact()}.
      *
      * @param idx position of the nogood in {@link #learnts}.
      */
     private void remove(int idx) {
-        SignedClause ng = learnts.remove(idx);
+        discard(learnts.remove(idx));
+    }
+
+    /**
+     * Discard a nogood already removed from {@link #learnts}.
+     */
+    private void discard(SignedClause ng) {
+        if (ng.tier == CORE) {
+            nbCore--;
+        }
         mSolver.getEngine().dynamicDeletion(ng);
         ng.pos[0] = ng.pos[1] = -1; // to remove it from watchers
+        slots[ng.slot] = null;
+        if (nbRemoved == removed.length) {
+            removed = Arrays.copyOf(removed, nbRemoved * 3 / 2 + 1);
+        }
+        removed[nbRemoved++] = ng.slot;
+    }
+
+    /**
+     * Remove stale watchers from watch lists, as soon as they represent half of the watchers or more.
+     * Then, slots of removed clauses can be reused.
+     */
+    private void compact() {
+        if (nbWatchers >= 4 * (clauses.size() + learnts.size())) {
+            for (int i = 0; i < watches.length; i++) {
+                if (watches[i] != null) {
+                    watches[i].compact();
+                }
+            }
+            if (nbFree + nbRemoved > free.length) {
+                free = Arrays.copyOf(free, nbFree + nbRemoved);
+            }
+            System.arraycopy(removed, 0, free, nbFree, nbRemoved);
+            nbFree += nbRemoved;
+            nbRemoved = 0;
+        }
     }
 
     private void check(SignedClause ng) {
@@ -221,6 +361,8 @@ public class ClauseStore extends Propagator<IntVar> {
         }
         // 2. reduce database
         reduceDB();
+        // 3. clean up watch lists
+        compact();
         last = null;
     }
 
@@ -256,36 +398,88 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
     /**
-     * Remove sclauses with a lifespan greater than <i>lifespan</i> and which did not filtered in
-     * the current branch.
+     * When the number of learnt clauses out of the core tier reaches the limit,
+     * move tier-2 clauses not used since the last reduction into the local tier,
+     * then remove the least active local clauses, such that 'ratio' of them are kept.
+     * The clauses to remove are found by selection, the relative order of learnt clauses is kept.
      */
     private void reduceDB() {
         int size = learnts.size();
-        if (size >= nbMaxLearnts) {
-            learnts.sort(Comparator.comparingDouble(c -> -c.activity));
-            long to = Math.round(ratio * size);
-            for (int i = size - 1; i >= to; i--) {
+        if (size - nbCore >= nbMaxLearnts) {
+            // 1. update tiers and collect activities of removable local clauses
+            int nbLocal = 0, n = 0;
+            if (activities.length < size) {
+                activities = new double[size];
+            }
+            for (int i = 0; i < size; i++) {
                 SignedClause ng = learnts.get(i);
-                if (ng.isNotLocked() && ng != last) {
-                    remove(i);
+                if (ng.tier == TIER2 && !ng.used) {
+                    ng.tier = LOCAL;
+                }
+                ng.used = false;
+                if (ng.tier == LOCAL) {
+                    nbLocal++;
+                    if (ng.isNotLocked() && ng != last) {
+                        activities[n++] = ng.activity;
+                    }
                 }
             }
+            int k = Math.min(n, nbLocal - (int) Math.round(ratio * nbLocal));
+            if (k > 0) {
+                // 2. find the k-th smallest activity
+                double threshold = select(activities, n, k - 1);
+                int ties = k;
+                for (int i = 0; i < n; i++) {
+                    if (activities[i] < threshold) {
+                        ties--;
+                    }
+                }
+                // 3. remove the k least active clauses in one pass
+                int j = 0;
+                for (int i = 0; i < size; i++) {
+                    SignedClause ng = learnts.get(i);
+                    if (ng.tier == LOCAL && ng.isNotLocked() && ng != last
+                            && (ng.activity < threshold || ng.activity == threshold && ties-- > 0)) {
+                        discard(ng);
+                    } else {
+                        learnts.set(j++, ng);
+                    }
+                }
+                learnts.subList(j, size).clear();
+            }
             if (size > learnts.size() && model.getSettings().warnUser()) {
                 System.out.printf("Reduce DB: %d -> %d\n", size, learnts.size());
             }
-            for (IntervalTree<Container> t : watches.values()) {
-                Stack<Container> del = new Stack<>();
-                for (Container c : t) {
-                    c.watchers.removeIf(w -> !w.c.isConnected());
-                    if(c.watchers.isEmpty()){
-                        del.push(c);
-                    }
-                }
-                while(!del.isEmpty()){
-                    t.delete(del.pop());
+        }
+    }
+
+    /**
+     * Find the <i>k</i>-th smallest value among the <i>n</i> first ones of <i>a</i>,
+     * which are reordered in the process.
+     */
+    private static double select(double[] a, int n, int k) {
+        int lo = 0, hi = n - 1;
+        while (lo < hi) {
+            double pivot = a[(lo + hi) >>> 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (a[i] < pivot) i++;
+                while (a[j] > pivot) j--;
+                if (i <= j) {
+                    double t = a[i];
+                    a[i++] = a[j];
+                    a[j--] = t;
                 }
             }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                break;
+            }
         }
+        return a[k];
     }
 
     private void detectDominance() {
@@ -320,17 +514,17 @@ public class ClauseStore extends Propagator<IntVar> {
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
         // iterate over clauses that needs to be propagator
         IntVar var = vars[idxVarInProp];
-        IntervalTree<Container> wm = watches.get(var);
+        WatchList wl = watches[var.getId()];
         int lb = var.getLB();
         int ub = var.getUB();
         if (IntEventType.isInstantiate(mask) || IntEventType.isRemove(mask)) {
-            sweep(wm.iterator(), var, lb, ub);
+            wl.checkAll(var, lb, ub);
         } else {
             if (IntEventType.isInclow(mask)) {
-                wm.forAllBelow(lb, c -> checkCont(c, var, lb, ub));
+                wl.checkBelow(var, lb, ub);
             }
             if (IntEventType.isDecupp(mask)) {
-                wm.forAllAbove(ub, c -> checkCont(c, var, lb, ub));
+                wl.checkAbove(var, lb, ub);
             }
         }
     }
@@ -348,132 +542,204 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
 
-    private void sweep(Iterator<Container> it, IntVar v, int lb, int ub) {
-        while (it.hasNext()) {
-            checkCont(it.next(), v, lb, ub);
-        }
-    }
+    /**
+     * Watchers of a variable.
+     * <p>
+     * Watched literals are grouped by range.
+     * A range is identified by its position in the arrays of this, which never changes,
+     * and its watchers are stored in a flat array of ints: slot of the clause and position of the literal,
+     * side by side.
+     * Watchers of removed clauses and watchers of literals which are not watched anymore
+     * are removed lazily.
+     * </p>
+     */
+    private final class WatchList {
+        /**
+         * Number of ranges
+         */
+        int size;
+        /**
+         * Bounds of the ranges
+         */
+        int[] starts = new int[4], ends = new int[4];
+        /**
+         * Ranges sorted by increasing start, then increasing end
+         */
+        int[] order = new int[4];
+        /**
+         * Watchers of each range
+         */
+        int[][] watchers = new int[4][];
+        /**
+         * Number of ints used in each watchers' array
+         */
+        int[] nbw = new int[4];
+        /**
+         * Set to <i>false</i> when a range is known to be true or false, until backtrack
+         */
+        boolean[] active = new boolean[4];
+        /**
+         * Operations to set each range active on backtrack
+         */
+        IOperation[] reactivations = new IOperation[4];
 
-    private void checkCont(Container ct, IntVar v, int lb, int ub) {
-        if (!ct.isActive()) return;
-        ESat check = check(lb, ub, ct.s, ct.e, v);
-        if (check != UNDEFINED) {
-            if (check == FALSE) {
-                ct.sweepOnFalse();
-            } else {
-                ct.sweepOnTrue();
+        /**
+         * @return the position of the range [l,u], created if needed
+         */
+        int rangeOf(int l, int u) {
+            int lo = 0, hi = size - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int r = order[mid];
+                int c = starts[r] != l ? Integer.compare(starts[r], l) : Integer.compare(ends[r], u);
+                if (c < 0) {
+                    lo = mid + 1;
+                } else if (c > 0) {
+                    hi = mid - 1;
+                } else {
+                    return r;
+                }
             }
-            model.getEnvironment().save(ct::setActive);
-            ct.setPassive();
-        }
-    }
-
-    private final class Container implements Interval {
-
-        int s, e;
-        ShrinkableList<Watcher> watchers;
-        boolean active = true;
-
-        Container(int s, int e) {
-            this.s = s;
-            this.e = e;
-            this.watchers = new ShrinkableList<>();
-        }
-
-        @Override
-        public int start() {
-            return s;
+            if (size == starts.length) {
+                int c = size * 2;
+                starts = Arrays.copyOf(starts, c);
+                ends = Arrays.copyOf(ends, c);
+                order = Arrays.copyOf(order, c);
+                watchers = Arrays.copyOf(watchers, c);
+                nbw = Arrays.copyOf(nbw, c);
+                active = Arrays.copyOf(active, c);
+                reactivations = Arrays.copyOf(reactivations, c);
+            }
+            int r = size++;
+            starts[r] = l;
+            ends[r] = u;
+            watchers[r] = new int[4];
+            active[r] = true;
+            System.arraycopy(order, lo, order, lo + 1, r - lo);
+            order[lo] = r;
+            return r;
         }
 
-        @Override
-        public int end() {
-            return e;
+        void add(int r, int slot, int p) {
+            int n = nbw[r];
+            if (n == watchers[r].length) {
+                watchers[r] = Arrays.copyOf(watchers[r], n * 2);
+            }
+            watchers[r][n] = slot;
+            watchers[r][n + 1] = p;
+            nbw[r] = n + 2;
         }
 
-        public void add(Watcher w) {
-            this.watchers.add(w);
+        void checkAll(IntVar v, int lb, int ub) {
+            for (int r = 0; r < size; r++) {
+                check(r, v, lb, ub);
+            }
         }
 
-        boolean isActive() {
-            return active;
+        /**
+         * Check ranges whose start is less than or equal to <i>lb</i>,
+         * the only ones that can become true or false when the lower bound increases.
+         */
+        void checkBelow(IntVar v, int lb, int ub) {
+            for (int k = 0; k < size && starts[order[k]] <= lb; k++) {
+                check(order[k], v, lb, ub);
+            }
         }
 
-        void setPassive() {
-            active = false;
+        /**
+         * Check ranges, by decreasing start, as long as their end is greater than or equal to <i>ub</i>,
+         * which include all the ones that can become false when the upper bound decreases
+         * and those overlapping <i>ub</i>.
+         */
+        void checkAbove(IntVar v, int lb, int ub) {
+            for (int k = size - 1; k >= 0 && ends[order[k]] >= ub; k--) {
+                check(order[k], v, lb, ub);
+            }
         }
 
-        void setActive() {
-            active = true;
+        private void check(int r, IntVar v, int lb, int ub) {
+            if (!active[r]) return;
+            ESat check = ClauseStore.check(lb, ub, starts[r], ends[r], v);
+            if (check != UNDEFINED) {
+                if (check == FALSE) {
+                    sweepOnFalse(r);
+                } else {
+                    sweepOnTrue(r);
+                }
+                if (reactivations[r] == null) {
+                    reactivations[r] = () -> active[r] = true;
+                }
+                model.getEnvironment().save(reactivations[r]);
+                active[r] = false;
+            }
         }
 
-        void sweepOnFalse() {
+        private void sweepOnFalse(int r) {
+            int[] ws = watchers[r];
+            int s = nbw[r];
             int i = 0;
-            int j = i;
-            int p;
-            int s = watchers.size();
+            int j = 0;
+            int q;
             while (i < s) {
-                Watcher w = watchers.get(i++);
-                SignedClause c = w.c;
-                if (w.p != c.pos[p = 0] && w.p != c.pos[++p]) {
-                    // watched literal loss, forget it
+                int slot = ws[i++];
+                int p = ws[i++];
+                SignedClause c = slots[slot];
+                if (c == null || p != c.pos[q = 0] && p != c.pos[++q]) {
+                    // clause removed or watched literal loss, forget it
                     continue;
                 }
-                if (w.c.isScheduled()) { // clause already scheduled, skip it
-                    watchers.set(j++, w);
+                if (c.isScheduled()) { // clause already scheduled, skip it
+                    ws[j++] = slot;
+                    ws[j++] = p;
                     continue;
                 }
-                if (!w.c.isActive()) {
+                if (!c.isActive()) {
                     // clause passive, forget it
                     model.getEnvironment().save(() -> {
-                        if (w.c.isConnected()) {
-                            attach(w);
+                        if (c.isConnected()) {
+                            attach(c, p);
                         }
                     });
                     continue;
                 }/*else*/
                 {
-                    watchers.set(j++, w); // keep it, even it is false, since propagation may change the other WL
-                    mSolver.getEngine().schedule(w.c, p, 1);
+                    // keep it, even it is false, since propagation may change the other WL
+                    ws[j++] = slot;
+                    ws[j++] = p;
+                    mSolver.getEngine().schedule(c, q, 1);
                 }
             }
             // shrink
-            watchers.removeRange(j, i);
+            nbw[r] = j;
+            nbWatchers -= (s - j) >> 1;
         }
 
-        void sweepOnTrue() {
+        private void sweepOnTrue(int r) {
+            int[] ws = watchers[r];
+            int s = nbw[r];
             int i = 0;
             int j = 0;
-            int s = watchers.size();
             while (i < s) {
-                Watcher w = watchers.get(i++);
-                SignedClause c = w.c;
-                if (w.p == c.pos[0] || w.p == c.pos[1]) {
-                    watchers.set(j++, w);
+                int slot = ws[i++];
+                int p = ws[i++];
+                SignedClause c = slots[slot];
+                if (c != null && (p == c.pos[0] || p == c.pos[1])) {
+                    ws[j++] = slot;
+                    ws[j++] = p;
                 }// watched literal loss due to initial propagation
             }
             // shrink
-            watchers.removeRange(j, i);
-        }
-
-        @Override
-        public String toString() {
-            return String.format("[%d,%d]", start(), end());
-        }
-    }
-
-
-    private static final class Watcher {
-        int p;
-        SignedClause c; // clause watch by c.mvars[p]
-
-        Watcher(int p, SignedClause c) {
-            this.p = p;
-            this.c = c;
+            nbw[r] = j;
+            nbWatchers -= (s - j) >> 1;
         }
 
-        @Override
-        public String toString() {
-            return c.toString();
+        /**
+         * Remove watchers of removed clauses and watchers of literals not watched anymore
+         */
+        void compact() {
+            for (int r = 0; r < size; r++) {
+                sweepOnTrue(r);
+            }
         }
     }
 
@@ -529,8 +795,24 @@ public class ClauseStore extends Propagator<IntVar> {
         private double activity = 0d;
 
         private int rawActivity = 0;
+        /**
+         * Literal block distance, when learnt
+         */
+        private int lbd = Integer.MAX_VALUE;
+        /**
+         * Retention tier of this, when learnt
+         */
+        private byte tier = LOCAL;
+        /**
+         * Set to <i>true</i> when this takes part in conflict analysis
+         */
+        private boolean used;
 
         private int id;
+        /**
+         * Position of this in {@link #slots}
+         */
+        private int slot;
 
         SignedClause(IntVar[] vars, IntIterableRangeSet[] ranges) {
             super(new IntVar[]{vars[0], vars[0]}, computePriority(vars.length), false, false);
@@ -689,7 +971,7 @@ public class ClauseStore extends Propagator<IntVar> {
                         pos[1] = l;
                         pos[k] = pos[--to];
                         pos[to] = l1;
-                        attach(new Watcher(l, this));
+                        attach(this, l);
                         if (b == TRUE) {
                             setPassive();
                             FL = F0;
@@ -746,6 +1028,14 @@ public class ClauseStore extends Propagator<IntVar> {
             return state != 4;
         }
 
+        int getLBD() {
+            return lbd;
+        }
+
+        byte getTier() {
+            return tier;
+        }
+
         IntVar v(int i) {
             return mvars[i];
         }
@@ -887,6 +1177,7 @@ public class ClauseStore extends Propagator<IntVar> {
             IntIterableRangeSet set;
             activity += clauseInc;
             rawActivity += 1;
+            used = true;
             int i = 0;
             while (i < mvars.length) {
                 IntVar v = mvars[i];
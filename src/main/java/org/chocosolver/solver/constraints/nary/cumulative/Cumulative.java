@@ -42,6 +42,7 @@ public class Cumulative extends Constraint {
      *                         (efficient in practice as long as the time horizon is not too high)
      *                         - SWEEP: filters time-table with a sweep-based algorithm
      *                         - NRJ: greedy energy-based filter.
+     *                         - EDGE_FINDING, NOT_FIRST_NOT_LAST, TIME_TABLE_EDGE_FINDING: edge-finding based filters.
      *                         BEWARE: should not be used alone, use it in addition to either SWEEP or TIME.
      *
      */
@@ -145,6 +146,17 @@ public class Cumulative extends Constraint {
 				return new NaiveTimeCumulFilter(n);
 			}
 		},
+		/**
+		 * time-table algorithm based on a profile maintained incrementally along the search,
+		 * to be used with graph-based cumulative
+		 * not idempotent
+		 */
+		INCREMENTAL_TIME{
+			@Override
+			public CumulFilter make(int n) {
+				return new IncrementalTimeCumulFilter(n);
+			}
+		},
 		/**
 		 * time-table algorithm based on a sweep line
 		 * idempotent (on the given set of variables only)
@@ -184,6 +196,37 @@ public class Cumulative extends Constraint {
 				return new DisjunctiveTaskIntervalFilter(n);
 			}
 		},
+		/**
+		 * edge-finding based on a Theta-Lambda tree, in O(kn log n) (k: number of distinct heights)
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new EdgeFindingCumulFilter(n);
+			}
+		},
+		/**
+		 * not-first/not-last rules based on a Theta tree, in O(n log n),
+		 * applied on tasks whose height is greater than half the capacity (disjunctive subset)
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		NOT_FIRST_NOT_LAST {
+			public CumulFilter make(int n){
+				return new NotFirstNotLastCumulFilter(n);
+			}
+		},
+		/**
+		 * time-table edge-finding, in O(n^2)
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		TIME_TABLE_EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new TimeTableEdgeFindingCumulFilter(n);
+			}
+		},
 		/**
 		 * Combines above filters as a black-box
 		 * not idempotent
@@ -0,0 +1,71 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+import java.util.Arrays;
+
+/**
+ * Disjunctive constraint (unary resource): tasks that are present on the resource do not overlap.
+ * <p>
+ * It is a cumulative constraint with a capacity of 1 where the height of a task is its presence.
+ * It is filtered with overload checking and detectable precedences (which support optional tasks),
+ * not-first/not-last rules and edge-finding, all in O(n log n).
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class Disjunctive extends Constraint {
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	/**
+	 * Disjunctive constraint
+	 *
+	 * @param tasks     task variables (embed start, duration and end variables)
+	 * @param presences presence of each task on the resource, an absent task is not constrained
+	 */
+	public Disjunctive(Task[] tasks, BoolVar[] presences) {
+		super(ConstraintsName.DISJUNCTIVE, createPropagators(tasks, presences));
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	private static Propagator[] createPropagators(Task[] tasks, BoolVar[] presences) {
+		int n = tasks.length;
+		assert n == presences.length && n > 0;
+		IntVar[] vars = Cumulative.extract(tasks, presences, presences[0].getModel().intVar(1));
+		IntVar[] s = Arrays.copyOfRange(vars, 0, n);
+		IntVar[] d = Arrays.copyOfRange(vars, n, 2 * n);
+		IntVar[] e = Arrays.copyOfRange(vars, 2 * n, 3 * n);
+		IntVar[] h = Arrays.copyOfRange(vars, 3 * n, 4 * n);
+		CumulFilter[] filters = {
+				new DisjunctiveCumulFilter(n),
+				new NotFirstNotLastCumulFilter(n),
+				new EdgeFindingCumulFilter(n)
+		};
+		// propagators are posted twice, to achieve fixpoint
+		return new Propagator[]{
+				new PropCumulative(s, d, e, h, vars[4 * n], filters),
+				new PropCumulative(s, d, e, h, vars[4 * n], filters)
+		};
+	}
+}
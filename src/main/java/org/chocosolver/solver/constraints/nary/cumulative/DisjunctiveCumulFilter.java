@@ -0,0 +1,193 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Overload checking and detectable precedences, based on a Theta-Lambda tree, in O(n log n).
+ * <p>
+ * The rules are applied on the tasks that cannot overlap each other,
+ * that is, whose height is greater than half the capacity of the resource (all of them in a disjunctive case).
+ * A task whose height may be either lower or greater than half the capacity is optional:
+ * it is not taken into account to filter the other tasks, but if it cannot be inserted among the others,
+ * its height is set to at most half the capacity (with a 0/1 height, the task is removed from the resource).
+ * The time bounds of an optional task are never modified.
+ * <p>
+ * See: "Unary Resource Constraint with Optional Activities", P. Vilím, R. Barták and O. Čepek, CP 2004.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class DisjunctiveCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final int[] list, byEst, byLct, byEct, byLst;
+	private final boolean[] mandatory;
+	private final long[] est, lst, ect, lct, dur, mest, mlst, mect, mlct, bound, mbound;
+	private final ThetaLambdaTree tree;
+	private final ArraySort sorter;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public DisjunctiveCumulFilter(int n) {
+		super(n);
+		list = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		byEct = new int[n];
+		byLst = new int[n];
+		mandatory = new boolean[n];
+		est = new long[n];
+		lst = new long[n];
+		ect = new long[n];
+		lct = new long[n];
+		dur = new long[n];
+		mest = new long[n];
+		mlst = new long[n];
+		mect = new long[n];
+		mlct = new long[n];
+		bound = new long[n];
+		mbound = new long[n];
+		tree = new ThetaLambdaTree(n);
+		sorter = new ArraySort(n, false, true);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int n = 0;
+		int m = 0;
+		long c = capa.getUB();
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && 2L * h[i].getUB() > c) {
+				est[i] = s[i].getLB();
+				lst[i] = s[i].getUB();
+				ect[i] = e[i].getLB();
+				lct[i] = e[i].getUB();
+				dur[i] = d[i].getLB();
+				mest[i] = -lct[i];
+				mlst[i] = -ect[i];
+				mect[i] = -lst[i];
+				mlct[i] = -est[i];
+				mandatory[i] = 2L * h[i].getLB() > c;
+				if (mandatory[i]) {
+					m++;
+				}
+				list[n++] = i;
+			}
+		}
+		if (m == 0) {
+			return;
+		}
+		int half = (int) (c / 2);
+		overload(n, h, half, aCause);
+		detectablePrecedences(n, est, lst, ect, lct, bound);
+		detectablePrecedences(n, mest, mlst, mect, mlct, mbound);
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			if (mandatory[i]) {
+				if (bound[i] > est[i]) {
+					s[i].updateLowerBound((int) Math.min(bound[i], Integer.MAX_VALUE), aCause);
+				}
+				if (-mbound[i] < lct[i]) {
+					e[i].updateUpperBound((int) Math.max(-mbound[i], Integer.MIN_VALUE), aCause);
+				}
+			} else if (bound[i] > lst[i] || -mbound[i] < ect[i] || bound[i] + dur[i] > -mbound[i]) {
+				h[i].updateUpperBound(half, aCause);
+			}
+		}
+	}
+
+	/**
+	 * Fail if the mandatory tasks overload the resource,
+	 * reduce the height of the optional tasks that cannot be inserted among them
+	 */
+	private void overload(int n, IntVar[] h, int half, Propagator<IntVar> aCause) throws ContradictionException {
+		System.arraycopy(list, 0, byEst, 0, n);
+		System.arraycopy(list, 0, byLct, 0, n);
+		sorter.sort(byEst, n, (i1, i2) -> Long.compare(est[i1], est[i2]));
+		sorter.sort(byLct, n, (i1, i2) -> Long.compare(lct[i1], lct[i2]));
+		// with a capacity of 1 and durations as energies, the envelope is the earliest completion time
+		tree.init(byEst, n, est, dur, 1);
+		for (int k = 0; k < n; k++) {
+			int j = byLct[k];
+			if (mandatory[j]) {
+				tree.addToTheta(j);
+				if (tree.getEnvelope() > lct[j]) {
+					aCause.fails();
+				}
+			} else {
+				tree.moveToLambda(j);
+			}
+			while (tree.getLambdaEnvelope() > lct[j]) {
+				int o = tree.getResponsibleForLambdaEnvelope();
+				if (o == -1) {
+					break;
+				}
+				h[o].updateUpperBound(half, aCause);
+				tree.remove(o);
+			}
+		}
+	}
+
+	/**
+	 * Compute in <i>res</i> the new earliest starting time of the <i>n</i> tasks of {@link #list},
+	 * wrt to the mandatory tasks only
+	 */
+	private void detectablePrecedences(int n, long[] est, long[] lst, long[] ect, long[] lct, long[] res) {
+		int m = 0;
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			if (mandatory[i]) {
+				byLst[m++] = i;
+			}
+		}
+		System.arraycopy(list, 0, byEst, 0, n);
+		System.arraycopy(list, 0, byEct, 0, n);
+		sorter.sort(byEst, n, (i1, i2) -> Long.compare(est[i1], est[i2]));
+		sorter.sort(byEct, n, (i1, i2) -> Long.compare(ect[i1], ect[i2]));
+		sorter.sort(byLst, m, (i1, i2) -> Long.compare(lst[i1], lst[i2]));
+		tree.init(byEst, n, est, dur, 1);
+		int q = 0;
+		for (int k = 0; k < n; k++) {
+			int i = byEct[k];
+			res[i] = est[i];
+			// the mandatory tasks that have to start before i ends
+			while (q < m && ect[i] > lst[byLst[q]]) {
+				tree.addToTheta(byLst[q++]);
+			}
+			boolean in = mandatory[i] && lst[i] < ect[i];
+			if (in) {
+				tree.remove(i);
+			}
+			res[i] = Math.max(res[i], tree.getEnvelope());
+			if (in) {
+				tree.addToTheta(i);
+			}
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+import static org.chocosolver.solver.constraints.nary.cumulative.ThetaLambdaTree.NINF;
+
+/**
+ * Edge-finding filtering for cumulative, based on a Theta-Lambda tree, in O(kn log n)
+ * where k is the number of distinct heights.
+ * <p>
+ * Detects the sets of tasks <i>O</i> and the tasks <i>i</i> such that <i>i</i> has to end after all the tasks of <i>O</i>,
+ * then updates the earliest starting time of <i>i</i> wrt to the energy of the subsets of <i>O</i>.
+ * Latest ending times are filtered symmetrically.
+ * <p>
+ * See: "Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n)", P. Vilím, CP 2009.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class EdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final int[] list, byEst, byLct, prec;
+	private final boolean[] done;
+	private final long[] est, lct, nrj, hei, mest, mlct, bound, mbound, upd;
+	private final ThetaLambdaTree tree;
+	private final ArraySort sorter;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public EdgeFindingCumulFilter(int n) {
+		super(n);
+		list = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		prec = new int[n];
+		done = new boolean[n];
+		est = new long[n];
+		lct = new long[n];
+		nrj = new long[n];
+		hei = new long[n];
+		mest = new long[n];
+		mlct = new long[n];
+		bound = new long[n];
+		mbound = new long[n];
+		upd = new long[n];
+		tree = new ThetaLambdaTree(n);
+		sorter = new ArraySort(n, false, true);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int n = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && h[i].getLB() > 0) {
+				est[i] = s[i].getLB();
+				lct[i] = e[i].getUB();
+				nrj[i] = (long) d[i].getLB() * h[i].getLB();
+				hei[i] = h[i].getLB();
+				mest[i] = -lct[i];
+				mlct[i] = -est[i];
+				list[n++] = i;
+			}
+		}
+		if (n == 0) {
+			return;
+		}
+		long c = capa.getUB();
+		adjust(n, est, lct, c, bound, aCause);
+		adjust(n, mest, mlct, c, mbound, aCause);
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			if (bound[i] > est[i]) {
+				s[i].updateLowerBound((int) Math.min(bound[i], Integer.MAX_VALUE), aCause);
+			}
+			if (-mbound[i] < lct[i]) {
+				e[i].updateUpperBound((int) Math.max(-mbound[i], Integer.MIN_VALUE), aCause);
+			}
+		}
+	}
+
+	/**
+	 * Compute in <i>res</i> the new earliest starting time of the <i>n</i> tasks of {@link #list}
+	 */
+	private void adjust(int n, long[] est, long[] lct, long c, long[] res, Propagator<IntVar> aCause) throws ContradictionException {
+		System.arraycopy(list, 0, byEst, 0, n);
+		System.arraycopy(list, 0, byLct, 0, n);
+		sorter.sort(byEst, n, (i1, i2) -> Long.compare(est[i1], est[i2]));
+		sorter.sort(byLct, n, (i1, i2) -> Long.compare(lct[i1], lct[i2]));
+		// 1. detection: find, for each task i, the largest left cut that has to end before i
+		boolean found = false;
+		tree.init(byEst, n, est, nrj, c);
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			tree.addToTheta(i);
+			prec[i] = -1;
+			res[i] = est[i];
+		}
+		for (int hi = n - 1; hi >= 0; ) {
+			long l = lct[byLct[hi]];
+			if (tree.getEnvelope() > c * l) {
+				aCause.fails();
+			}
+			while (tree.getLambdaEnvelope() > c * l) {
+				int i = tree.getResponsibleForLambdaEnvelope();
+				if (i == -1) {
+					break;
+				}
+				prec[i] = hi;
+				found = true;
+				tree.remove(i);
+			}
+			// tasks with the same latest completion time are grayed together
+			while (hi >= 0 && lct[byLct[hi]] == l) {
+				tree.moveToLambda(byLct[hi--]);
+			}
+		}
+		if (!found) {
+			return;
+		}
+		// 2. adjustment, for each distinct height of a task to update
+		for (int k = 0; k < n; k++) {
+			done[list[k]] = false;
+		}
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			long hi = hei[i];
+			if (prec[i] > -1 && !done[i]) {
+				if (hi <= c) {
+					computeUpdates(n, est, lct, c, hi);
+				}
+				for (int q = k; q < n; q++) {
+					int j = list[q];
+					if (prec[j] > -1 && hei[j] == hi) {
+						done[j] = true;
+						if (hi <= c) {
+							res[j] = Math.max(res[j], upd[prec[j]]);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compute in {@link #upd}, for each left cut (given by its last position in {@link #byLct}),
+	 * the new earliest starting time of a task of height <i>hi</i> which has to end after this left cut
+	 */
+	private void computeUpdates(int n, long[] est, long[] lct, long c, long hi) {
+		tree.init(byEst, n, est, nrj, c);
+		tree.setSecondCoefficient(c - hi);
+		long best = NINF;
+		for (int lo = 0; lo < n; ) {
+			long l = lct[byLct[lo]];
+			int from = lo;
+			while (lo < n && lct[byLct[lo]] == l) {
+				tree.addToTheta(byLct[lo++]);
+			}
+			// right-most subset of the left cut whose energy exceeds what can be processed in parallel with the task
+			int leaf = tree.rightmostLeafAbove((c - hi) * l);
+			if (leaf > -1) {
+				long v = tree.envelopeUpTo(leaf) - (c - hi) * l;
+				best = Math.max(best, -Math.floorDiv(-v, hi));
+			}
+			for (int q = from; q < lo; q++) {
+				upd[q] = best;
+			}
+		}
+	}
+}
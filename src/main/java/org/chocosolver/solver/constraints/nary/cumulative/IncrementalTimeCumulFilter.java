@@ -0,0 +1,175 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+
+/**
+ * Time-table filtering based on a profile maintained incrementally.
+ * <p>
+ * The compulsory part of each task is stored in a segment tree over the time points ({@link ProfileTree}),
+ * which is kept along the search and restored upon backtrack.
+ * On each call, only the tasks of the subset whose compulsory part changed since they were last recorded
+ * update the profile, each in O(log H) where H is the size of the horizon.
+ * A task is then pushed in O(log H) per overloaded window met, instead of visiting every time point.
+ * <p>
+ * Since compulsory parts only grow during the descent, a part which has not been recorded yet
+ * only weakens the filtering.
+ * It is thus meant for graph-based cumulative (see {@link PropGraphCumulative}),
+ * where fine events restrict each call to the subset of tasks around the modified ones.
+ * When the horizon is larger than {@link #MAX_HORIZON}, the sweep-based filter is used instead.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class IncrementalTimeCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	/**
+	 * Largest horizon for which a profile is built
+	 */
+	public static final int MAX_HORIZON = 1 << 18;
+
+	/**
+	 * Recorded compulsory part of each task: [cps, cpe) with height cph
+	 */
+	private final int[] cps, cpe, cph;
+	private ProfileTree profile;
+	private IEnvironment environment;
+	private CumulFilter sweep;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public IncrementalTimeCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		cps = new int[nbMaxTasks];
+		cpe = new int[nbMaxTasks];
+		cph = new int[nbMaxTasks];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		if (profile == null && sweep == null) {
+			init(s, e, aCause);
+		}
+		if (sweep != null) {
+			sweep.filter(s, d, e, h, capa, tasks, aCause);
+			return;
+		}
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			record(tIter.nextInt(), s, e, h);
+		}
+		capa.updateLowerBound((int) Math.min(profile.max(), Integer.MAX_VALUE), aCause);
+		int capaMax = capa.getUB();
+		// filter max height
+		tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0) {
+				h[i].updateUpperBound(capaMax, aCause);
+			}
+			if (!h[i].isInstantiated() && cps[i] < cpe[i]) {
+				long load = profile.max(cps[i], cpe[i]) - cph[i];
+				h[i].updateUpperBound((int) Math.max(capaMax - load, Integer.MIN_VALUE), aCause);
+			}
+		}
+		tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			int dlb = d[i].getLB();
+			int hlb = h[i].getLB();
+			if (dlb > 0 && hlb > 0) {
+				long threshold = capaMax - hlb;
+				// push the start out of the overloaded windows, before the compulsory part
+				int sub = s[i].getUB();
+				int t = s[i].getLB();
+				while (t < sub) {
+					int end = (int) Math.min((long) t + dlb, sub);
+					int p = profile.firstAbove(t, end, threshold);
+					if (p == end) {
+						break;
+					}
+					t = p + 1;
+				}
+				s[i].updateLowerBound(t, aCause);
+				// push the end out of the overloaded windows, after the compulsory part
+				int elb = e[i].getLB();
+				t = e[i].getUB();
+				while (t > elb) {
+					int from = (int) Math.max((long) t - dlb, elb);
+					int p = profile.lastAbove(from, t, threshold);
+					if (p < from) {
+						break;
+					}
+					t = p;
+				}
+				e[i].updateUpperBound(t, aCause);
+				record(i, s, e, h);
+			}
+		}
+	}
+
+	private void init(IntVar[] s, IntVar[] e, Propagator<IntVar> aCause) {
+		long lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+		for (int i = 0; i < s.length; i++) {
+			lo = Math.min(lo, s[i].getLB());
+			hi = Math.max(hi, e[i].getUB());
+		}
+		if (hi - lo > MAX_HORIZON) {
+			sweep = Cumulative.Filter.SWEEP.make(nbMaxTasks);
+		} else {
+			profile = new ProfileTree((int) lo, (int) Math.max(hi, lo + 1));
+			environment = aCause.getModel().getEnvironment();
+		}
+	}
+
+	/**
+	 * Update the profile with the current compulsory part of task <i>i</i>, if it changed.
+	 * The modification is undone upon backtrack.
+	 */
+	private void record(int i, IntVar[] s, IntVar[] e, IntVar[] h) {
+		int ns = s[i].getUB();
+		int ne = e[i].getLB();
+		int nh = h[i].getLB();
+		if (ns >= ne || nh <= 0) {
+			ns = ne = nh = 0;
+		}
+		int os = cps[i], oe = cpe[i], oh = cph[i];
+		if (ns != os || ne != oe || nh != oh) {
+			set(i, os, oe, oh, ns, ne, nh);
+			final int fs = ns, fe = ne, fh = nh;
+			environment.save(() -> set(i, fs, fe, fh, os, oe, oh));
+		}
+	}
+
+	private void set(int i, int os, int oe, int oh, int ns, int ne, int nh) {
+		profile.add(os, oe, -oh);
+		profile.add(ns, ne, nh);
+		cps[i] = ns;
+		cpe[i] = ne;
+		cph[i] = nh;
+	}
+}
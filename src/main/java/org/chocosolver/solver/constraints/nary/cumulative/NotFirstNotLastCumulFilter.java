@@ -0,0 +1,144 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Not-first/not-last filtering, based on a Theta tree, in O(n log n).
+ * <p>
+ * The rules are applied on the tasks that cannot overlap each other,
+ * that is, whose height is greater than half the capacity of the resource (all of them in a disjunctive case).
+ * If the tasks of a set <i>O</i> cannot all end before the latest starting time of a task <i>i</i>,
+ * then <i>i</i> cannot be the last one and has to end before the latest starting time of a task of <i>O</i>.
+ * Earliest starting times are filtered symmetrically (not-first rule).
+ * <p>
+ * See: "O(n log n) Filtering Algorithms for Unary Resource Constraint", P. Vilím, CPAIOR 2004.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class NotFirstNotLastCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final int[] list, byEst, byLct, byLst;
+	private final long[] est, lst, lct, dur, mest, mlst, mlct, bound, mbound;
+	private final ThetaLambdaTree tree;
+	private final ArraySort sorter;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public NotFirstNotLastCumulFilter(int n) {
+		super(n);
+		list = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		byLst = new int[n];
+		est = new long[n];
+		lst = new long[n];
+		lct = new long[n];
+		dur = new long[n];
+		mest = new long[n];
+		mlst = new long[n];
+		mlct = new long[n];
+		bound = new long[n];
+		mbound = new long[n];
+		tree = new ThetaLambdaTree(n);
+		sorter = new ArraySort(n, false, true);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int n = 0;
+		long c = capa.getUB();
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && 2L * h[i].getLB() > c) {
+				est[i] = s[i].getLB();
+				lst[i] = s[i].getUB();
+				lct[i] = e[i].getUB();
+				dur[i] = d[i].getLB();
+				mest[i] = -lct[i];
+				mlst[i] = -(est[i] + dur[i]);
+				mlct[i] = -est[i];
+				list[n++] = i;
+			}
+		}
+		if (n < 2) {
+			return;
+		}
+		notLast(n, est, lst, lct, bound);
+		notLast(n, mest, mlst, mlct, mbound);
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			if (bound[i] < lct[i]) {
+				e[i].updateUpperBound((int) bound[i], aCause);
+			}
+			if (-mbound[i] > est[i]) {
+				s[i].updateLowerBound((int) -mbound[i], aCause);
+			}
+		}
+	}
+
+	/**
+	 * Compute in <i>res</i> the new latest completion time of the <i>n</i> tasks of {@link #list}
+	 */
+	private void notLast(int n, long[] est, long[] lst, long[] lct, long[] res) {
+		System.arraycopy(list, 0, byEst, 0, n);
+		System.arraycopy(list, 0, byLct, 0, n);
+		System.arraycopy(list, 0, byLst, 0, n);
+		sorter.sort(byEst, n, (i1, i2) -> Long.compare(est[i1], est[i2]));
+		sorter.sort(byLct, n, (i1, i2) -> Long.compare(lct[i1], lct[i2]));
+		sorter.sort(byLst, n, (i1, i2) -> Long.compare(lst[i1], lst[i2]));
+		// with a capacity of 1 and durations as energies, the envelope is the earliest completion time
+		tree.init(byEst, n, est, dur, 1);
+		int q = 0;
+		// the two last tasks added, that is, with the greatest latest starting times
+		int last = -1, prev = -1;
+		for (int k = 0; k < n; k++) {
+			int i = byLct[k];
+			res[i] = lct[i];
+			while (q < n && lct[i] > lst[byLst[q]]) {
+				int j = byLst[q++];
+				tree.addToTheta(j);
+				prev = last;
+				last = j;
+			}
+			boolean in = lst[i] < lct[i];
+			if (in) {
+				tree.remove(i);
+			}
+			long ect = tree.getEnvelope();
+			if (in) {
+				tree.addToTheta(i);
+			}
+			int j = last == i ? prev : last;
+			if (ect > lst[i] && j > -1) {
+				res[i] = Math.min(res[i], lst[j]);
+			}
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+/**
+ * A segment tree over the time points of an horizon, storing a resource profile.
+ * It supports adding a value to a time window and looking for the maximum load, or the first or last overloaded point,
+ * in a time window, all in O(log H) where H is the size of the horizon.
+ * <p>
+ * Each node stores the value added to its whole subtree and the maximum load of its subtree (value of the node included),
+ * so that no lazy value needs to be pushed down.
+ * Time points out of the horizon are ignored: their load is 0.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+class ProfileTree {
+
+    /**
+     * First time point of the horizon
+     */
+    private final int lo;
+    /**
+     * Number of time points in the horizon
+     */
+    private final int span;
+    /**
+     * Number of leaves, a power of 2
+     */
+    private final int size;
+    private final long[] add, max;
+
+    /**
+     * @param lo first time point of the horizon
+     * @param hi last time point of the horizon (excluded)
+     */
+    ProfileTree(int lo, int hi) {
+        this.lo = lo;
+        this.span = hi - lo;
+        int s = 1;
+        while (s < hi - lo) {
+            s <<= 1;
+        }
+        this.size = s;
+        this.add = new long[2 * size];
+        this.max = new long[2 * size];
+    }
+
+    /**
+     * Add <i>v</i> to the load of each time point in [from, to)
+     */
+    void add(int from, int to, long v) {
+        int f = (int) Math.max((long) from - lo, 0), t = (int) Math.min((long) to - lo, span);
+        if (f < t && v != 0) {
+            add(1, 0, size, f, t, v);
+        }
+    }
+
+    private void add(int node, int nl, int nr, int f, int t, long v) {
+        if (f <= nl && nr <= t) {
+            add[node] += v;
+            max[node] += v;
+            return;
+        }
+        int mid = (nl + nr) >>> 1;
+        if (f < mid) {
+            add(2 * node, nl, mid, f, t, v);
+        }
+        if (t > mid) {
+            add(2 * node + 1, mid, nr, f, t, v);
+        }
+        max[node] = Math.max(max[2 * node], max[2 * node + 1]) + add[node];
+    }
+
+    /**
+     * @return the maximum load over the horizon
+     */
+    long max() {
+        return Math.max(0, max[1]);
+    }
+
+    /**
+     * @return the maximum load over [from, to), 0 if the window is empty or out of the horizon
+     */
+    long max(int from, int to) {
+        int f = (int) Math.max((long) from - lo, 0), t = (int) Math.min((long) to - lo, span);
+        if (f >= t) {
+            return 0;
+        }
+        return Math.max(0, max(1, 0, size, f, t));
+    }
+
+    private long max(int node, int nl, int nr, int f, int t) {
+        if (f <= nl && nr <= t) {
+            return max[node];
+        }
+        int mid = (nl + nr) >>> 1;
+        long m = Long.MIN_VALUE;
+        if (f < mid) {
+            m = max(2 * node, nl, mid, f, t);
+        }
+        if (t > mid) {
+            m = Math.max(m, max(2 * node + 1, mid, nr, f, t));
+        }
+        return m + add[node];
+    }
+
+    /**
+     * @param threshold a non-negative value
+     * @return the first time point in [from, to) whose load is greater than <i>threshold</i>, <i>to</i> if none
+     */
+    int firstAbove(int from, int to, long threshold) {
+        int f = (int) Math.max((long) from - lo, 0), t = (int) Math.min((long) to - lo, span);
+        int p = f < t ? firstAbove(1, 0, size, f, t, threshold) : -1;
+        return p == -1 ? to : p + lo;
+    }
+
+    private int firstAbove(int node, int nl, int nr, int f, int t, long threshold) {
+        if (max[node] <= threshold) {
+            return -1;
+        }
+        if (nr - nl == 1) {
+            return nl;
+        }
+        threshold -= add[node];
+        int mid = (nl + nr) >>> 1;
+        int p = -1;
+        if (f < mid) {
+            p = firstAbove(2 * node, nl, mid, f, t, threshold);
+        }
+        if (p == -1 && t > mid) {
+            p = firstAbove(2 * node + 1, mid, nr, f, t, threshold);
+        }
+        return p;
+    }
+
+    /**
+     * @param threshold a non-negative value
+     * @return the last time point in [from, to) whose load is greater than <i>threshold</i>, <i>from - 1</i> if none
+     */
+    int lastAbove(int from, int to, long threshold) {
+        int f = (int) Math.max((long) from - lo, 0), t = (int) Math.min((long) to - lo, span);
+        int p = f < t ? lastAbove(1, 0, size, f, t, threshold) : -1;
+        return p == -1 ? from - 1 : p + lo;
+    }
+
+    private int lastAbove(int node, int nl, int nr, int f, int t, long threshold) {
+        if (max[node] <= threshold) {
+            return -1;
+        }
+        if (nr - nl == 1) {
+            return nl;
+        }
+        threshold -= add[node];
+        int mid = (nl + nr) >>> 1;
+        int p = -1;
+        if (t > mid) {
+            p = lastAbove(2 * node + 1, mid, nr, f, t, threshold);
+        }
+        if (p == -1 && f < mid) {
+            p = lastAbove(2 * node, nl, mid, f, t, threshold);
+        }
+        return p;
+    }
+}
@@ -12,10 +12,14 @@ import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ValueSortedMap;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
@@ -189,6 +193,150 @@ public class PropCumulative extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    /**
+     * @implSpec
+     * A modification of the lower bound of a start variable or of the upper bound of an end variable
+     * is explained by the compulsory parts of the other tasks (time-table reasoning).
+     * <p>
+     *     Consider that the lower bound of s_i moves from a to m.
+     *     For each t in [a, m - 1], a time point &tau; in [t, t + dlb_i - 1] is picked such that
+     *     the compulsory parts of other tasks at &tau;, together with hlb_i, overload the capacity.
+     *     Points are picked as far as possible, so that few of them cover [a, m - 1].
+     *     Let T_j be the points picked in the compulsory part of task j, then:
+     * <pre>
+     *         (s_i &ge; a &and; d_i &ge; dlb_i &and; h_i &ge; hlb_i &and; capa &le; cub &and;
+     *         &forall;j (s_j &le; min(T_j) &and; e_j &gt; max(T_j) &and; h_j &ge; hlb_j)) &rarr; s_i &notin; [a, m - 1]
+     *     </pre>
+     *     A modification of the upper bound of an end variable is explained symmetrically.
+     * </p>
+     * <p>
+     *     In any other case, or if the compulsory parts do not justify the modification,
+     *     the default explanation is computed.
+     * </p>
+     */
+    @Override
+    public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+        IntVar pivot = ig.getIntVarAt(p);
+        IntIterableRangeSet dbef = ig.getDomainAt(front.getValue(pivot));
+        IntIterableRangeSet daft = ig.getDomainAt(p);
+        int k = -1;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] == pivot) {
+                if (k > -1) {
+                    k = -1;
+                    break;
+                }
+                k = i;
+            }
+        }
+        boolean done = false;
+        if (daft.size() > 0) {
+            if (k > -1 && k < n && daft.max() == dbef.max() && daft.min() > dbef.min()) {
+                done = explainTimeTable(explanation, front, ig, k, dbef.min(), daft.min() - 1, true);
+            } else if (k >= 2 * n && k < 3 * n && daft.min() == dbef.min() && daft.max() < dbef.max()) {
+                done = explainTimeTable(explanation, front, ig, k - 2 * n, daft.max() + 1, dbef.max(), false);
+            }
+        }
+        if (!done) {
+            Propagator.defaultExplain(this, explanation, front, ig, p);
+        }
+    }
+
+    /**
+     * Explain that task <i>i</i> cannot start (resp. end) at any time in [from, to].
+     *
+     * @return <i>false</i> if the compulsory parts do not justify it, in that case, no literal is added
+     */
+    private boolean explainTimeTable(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front,
+                                     Implications ig, int i, int from, int to, boolean start) {
+        int dlb = ig.getDomainAt(front.getValue(d[i])).min();
+        int hlb = ig.getDomainAt(front.getValue(h[i])).min();
+        int cub = ig.getDomainAt(front.getValue(capa)).max();
+        if (dlb <= 0 || hlb <= 0) {
+            return false;
+        }
+        // time points that may be covered by task i
+        int wlo = start ? from : from - dlb;
+        int whi = start ? to + dlb - 1 : to - 1;
+        int[] load = new int[whi - wlo + 1];
+        int[] cs = new int[n];
+        int[] ce = new int[n];
+        for (int j = 0; j < n; j++) {
+            cs[j] = ig.getDomainAt(front.getValue(s[j])).max();
+            ce[j] = ig.getDomainAt(front.getValue(e[j])).min();
+            int hj = ig.getDomainAt(front.getValue(h[j])).min();
+            if (j == i || hj <= 0) {
+                ce[j] = cs[j];
+            }
+            for (int t = Math.max(cs[j], wlo); t < Math.min(ce[j], whi + 1); t++) {
+                load[t - wlo] += hj;
+            }
+        }
+        // pick overloaded time points
+        int[] points = new int[to - from + 1];
+        int np = 0;
+        if (start) {
+            for (int t = from; t <= to; ) {
+                int tau = t + dlb - 1;
+                while (tau >= t && load[tau - wlo] + hlb <= cub) {
+                    tau--;
+                }
+                if (tau < t) {
+                    return false;
+                }
+                points[np++] = tau;
+                t = tau + 1;
+            }
+        } else {
+            for (int t = to; t >= from; ) {
+                int tau = t - dlb;
+                while (tau < t && load[tau - wlo] + hlb <= cub) {
+                    tau++;
+                }
+                if (tau == t) {
+                    return false;
+                }
+                points[np++] = tau;
+                t = tau;
+            }
+        }
+        // tasks whose compulsory part covers the points
+        for (int j = 0; j < n; j++) {
+            int tmin = Integer.MAX_VALUE, tmax = Integer.MIN_VALUE;
+            for (int q = 0; q < np; q++) {
+                if (cs[j] <= points[q] && points[q] < ce[j]) {
+                    tmin = Math.min(tmin, points[q]);
+                    tmax = Math.max(tmax, points[q]);
+                }
+            }
+            if (tmin <= tmax) {
+                IntIterableRangeSet set = explanation.getRootSet(s[j]);
+                set.retainBetween(tmin + 1, IntIterableRangeSet.MAX);
+                explanation.addLiteral(s[j], set, false);
+                set = explanation.getRootSet(e[j]);
+                set.retainBetween(IntIterableRangeSet.MIN, tmax);
+                explanation.addLiteral(e[j], set, false);
+                set = explanation.getRootSet(h[j]);
+                set.retainBetween(IntIterableRangeSet.MIN, ig.getDomainAt(front.getValue(h[j])).min() - 1);
+                explanation.addLiteral(h[j], set, false);
+            }
+        }
+        IntIterableRangeSet set = explanation.getRootSet(d[i]);
+        set.retainBetween(IntIterableRangeSet.MIN, dlb - 1);
+        explanation.addLiteral(d[i], set, false);
+        set = explanation.getRootSet(h[i]);
+        set.retainBetween(IntIterableRangeSet.MIN, hlb - 1);
+        explanation.addLiteral(h[i], set, false);
+        set = explanation.getRootSet(capa);
+        set.retainBetween(cub + 1, IntIterableRangeSet.MAX);
+        explanation.addLiteral(capa, set, false);
+        IntVar pivot = start ? s[i] : e[i];
+        set = explanation.getRootSet(pivot);
+        set.removeBetween(from, to);
+        explanation.addLiteral(pivot, set, true);
+        return true;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder(this.getClass().getSimpleName() + "(");
@@ -0,0 +1,264 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+/**
+ * A balanced binary tree whose leaves are tasks sorted by earliest starting time,
+ * each task being either in Theta (white), in Lambda (gray) or absent.
+ * <p>
+ * Each node maintains, for the tasks of its subtree:
+ * <ul>
+ *     <li>the energy of Theta, <i>e</i>,</li>
+ *     <li>the energy envelope of Theta, <i>Env = max(C * est_O + e_O)</i> over the subsets <i>O</i> of Theta
+ *     made of the tasks starting after a given one,</li>
+ *     <li>the same envelope with a second coefficient, <i>Env^c = max((C - c) * est_O + e_O)</i>,</li>
+ *     <li>the energy and the energy envelope of Theta extended by at most one task of Lambda,
+ *     together with the gray task responsible for them.</li>
+ * </ul>
+ * With a capacity of 1 and durations as energies, <i>Env</i> is the earliest completion time of Theta.
+ * Each operation on a task runs in O(log n).
+ * <p>
+ * See: "Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n)", P. Vilím, CP 2009.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+class ThetaLambdaTree {
+
+    /**
+     * Stands for minus infinity, can be added to any energy without overflow
+     */
+    static final long NINF = Long.MIN_VALUE / 4;
+
+    /**
+     * Number of leaves, a power of 2
+     */
+    private int size;
+    private long[] e, env, envc, eL, envL;
+    /**
+     * Gray task responsible for eL and envL, -1 if none
+     */
+    private int[] rE, rEnv;
+    /**
+     * Leaf of each task
+     */
+    private int[] leaf;
+    /**
+     * Earliest starting time and energy of each task
+     */
+    private long[] est, nrj;
+    /**
+     * Coefficients of est in Env and Env^c
+     */
+    private long coef, coefc;
+
+    /**
+     * @param n maximum number of tasks, tasks are in [0, n)
+     */
+    ThetaLambdaTree(int n) {
+        leaf = new int[n];
+        est = new long[n];
+        nrj = new long[n];
+        size = 1;
+        while (size < n) {
+            size <<= 1;
+        }
+        e = new long[2 * size];
+        env = new long[2 * size];
+        envc = new long[2 * size];
+        eL = new long[2 * size];
+        envL = new long[2 * size];
+        rE = new int[2 * size];
+        rEnv = new int[2 * size];
+    }
+
+    /**
+     * Reset the tree: no task is in Theta nor in Lambda.
+     *
+     * @param sorted tasks sorted by non-decreasing earliest starting time
+     * @param n      number of tasks in <i>sorted</i>, at most the maximum number of tasks
+     * @param ests   earliest starting time, indexed by task
+     * @param nrjs   energy, indexed by task
+     * @param c      coefficient of earliest starting times in Env (the capacity of the resource)
+     */
+    void init(int[] sorted, int n, long[] ests, long[] nrjs, long c) {
+        for (int i = 0; i < n; i++) {
+            int t = sorted[i];
+            leaf[t] = size + i;
+            est[t] = ests[t];
+            nrj[t] = nrjs[t];
+        }
+        coef = c;
+        coefc = c;
+        for (int v = 1; v < 2 * size; v++) {
+            empty(v);
+        }
+    }
+
+    /**
+     * Set the coefficient of earliest starting times in Env^c.
+     * Must be called when the tree is empty.
+     *
+     * @param c the coefficient
+     */
+    void setSecondCoefficient(long c) {
+        coefc = c;
+    }
+
+    private void empty(int v) {
+        e[v] = 0;
+        eL[v] = 0;
+        env[v] = NINF;
+        envc[v] = NINF;
+        envL[v] = NINF;
+        rE[v] = -1;
+        rEnv[v] = -1;
+    }
+
+    /**
+     * Add task <i>t</i> to Theta
+     */
+    void addToTheta(int t) {
+        int v = leaf[t];
+        e[v] = eL[v] = nrj[t];
+        env[v] = envL[v] = coef * est[t] + nrj[t];
+        envc[v] = coefc * est[t] + nrj[t];
+        rE[v] = rEnv[v] = -1;
+        update(v);
+    }
+
+    /**
+     * Move task <i>t</i> from Theta to Lambda
+     */
+    void moveToLambda(int t) {
+        int v = leaf[t];
+        e[v] = 0;
+        env[v] = envc[v] = NINF;
+        eL[v] = nrj[t];
+        envL[v] = coef * est[t] + nrj[t];
+        rE[v] = rEnv[v] = t;
+        update(v);
+    }
+
+    /**
+     * Remove task <i>t</i> from Theta or Lambda
+     */
+    void remove(int t) {
+        int v = leaf[t];
+        empty(v);
+        update(v);
+    }
+
+    private void update(int v) {
+        v >>= 1;
+        while (v > 0) {
+            int l = 2 * v, r = l + 1;
+            e[v] = e[l] + e[r];
+            env[v] = Math.max(env[l] + e[r], env[r]);
+            envc[v] = Math.max(envc[l] + e[r], envc[r]);
+            if (eL[l] + e[r] > e[l] + eL[r]) {
+                eL[v] = eL[l] + e[r];
+                rE[v] = rE[l];
+            } else {
+                eL[v] = e[l] + eL[r];
+                rE[v] = rE[r];
+            }
+            if (envL[r] >= env[l] + eL[r] && envL[r] >= envL[l] + e[r]) {
+                envL[v] = envL[r];
+                rEnv[v] = rEnv[r];
+            } else if (env[l] + eL[r] >= envL[l] + e[r]) {
+                envL[v] = env[l] + eL[r];
+                rEnv[v] = rE[r];
+            } else {
+                envL[v] = envL[l] + e[r];
+                rEnv[v] = rEnv[l];
+            }
+            v >>= 1;
+        }
+    }
+
+    /**
+     * @return the energy of Theta
+     */
+    long getEnergy() {
+        return e[1];
+    }
+
+    /**
+     * @return the energy envelope of Theta
+     */
+    long getEnvelope() {
+        return env[1];
+    }
+
+    /**
+     * @return the energy envelope of Theta extended by at most one task of Lambda
+     */
+    long getLambdaEnvelope() {
+        return envL[1];
+    }
+
+    /**
+     * @return the task of Lambda responsible for {@link #getLambdaEnvelope()}, -1 if none
+     */
+    int getResponsibleForLambdaEnvelope() {
+        return rEnv[1];
+    }
+
+    /**
+     * Find the right-most leaf <i>l</i> of Theta such that <i>(C - c) * est_l + e_{l..}</i> &gt; <i>threshold</i>,
+     * where <i>e_{l..}</i> is the energy of the tasks of Theta from <i>l</i>.
+     *
+     * @param threshold a value
+     * @return the leaf found, or -1 if none
+     */
+    int rightmostLeafAbove(long threshold) {
+        if (envc[1] <= threshold) {
+            return -1;
+        }
+        int v = 1;
+        long eR = 0;
+        while (v < size) {
+            int r = 2 * v + 1;
+            if (envc[r] + eR > threshold) {
+                v = r;
+            } else {
+                eR += e[r];
+                v = r - 1;
+            }
+        }
+        return v;
+    }
+
+    /**
+     * @param l a leaf of Theta
+     * @return <i>max(C * est_k + e_{k..})</i> over the leaves <i>k</i> of Theta before or equal to <i>l</i>.
+     */
+    long envelopeUpTo(int l) {
+        long best = NINF;
+        long eR = 0;
+        int v = 1;
+        int depth = Integer.numberOfTrailingZeros(size);
+        while (v < size) {
+            depth--;
+            int left = 2 * v;
+            if (((l >> depth) & 1) == 1) {
+                // the left subtree is before l
+                best = Math.max(best, env[left] + e[left + 1] + eR);
+                v = left + 1;
+            } else {
+                eR += e[left + 1];
+                v = left;
+            }
+        }
+        return Math.max(best, env[v] + eR);
+    }
+}
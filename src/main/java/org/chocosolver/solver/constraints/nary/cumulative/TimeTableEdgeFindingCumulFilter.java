@@ -0,0 +1,194 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Time-table edge-finding filtering for cumulative, in O(n^2).
+ * <p>
+ * The energy required in a time window [a, b) is the sum of the compulsory parts of the tasks overlapping it
+ * (time-table) and of the free parts (energy outside the compulsory part) of the tasks inside it.
+ * A window that requires more than the capacity allows is a failure.
+ * Otherwise, for each end of window b, the window with the least available energy is used to push
+ * the earliest starting time of the tasks not inside it.
+ * Latest ending times are filtered symmetrically.
+ * <p>
+ * See: "Timetable Edge Finding Filtering Algorithm for Discrete Cumulative Resources", P. Vilím, CPAIOR 2011.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class TimeTableEdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final int[] list, byEst, byLct;
+	private final long[] est, lst, ect, lct, dur, hei, free;
+	private final long[] mest, mlst, mect, mlct, bound, mbound;
+	/**
+	 * Time-table energy before each earliest starting time and each latest completion time
+	 */
+	private final long[] ttEst, ttLct;
+	private final ArraySort sorter;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public TimeTableEdgeFindingCumulFilter(int n) {
+		super(n);
+		list = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		est = new long[n];
+		lst = new long[n];
+		ect = new long[n];
+		lct = new long[n];
+		dur = new long[n];
+		hei = new long[n];
+		free = new long[n];
+		mest = new long[n];
+		mlst = new long[n];
+		mect = new long[n];
+		mlct = new long[n];
+		bound = new long[n];
+		mbound = new long[n];
+		ttEst = new long[n];
+		ttLct = new long[n];
+		sorter = new ArraySort(n, false, true);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int n = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && h[i].getLB() > 0) {
+				est[i] = s[i].getLB();
+				lst[i] = s[i].getUB();
+				ect[i] = e[i].getLB();
+				lct[i] = e[i].getUB();
+				dur[i] = d[i].getLB();
+				hei[i] = h[i].getLB();
+				// energy out of the compulsory part
+				free[i] = hei[i] * Math.max(0, dur[i] - Math.max(0, ect[i] - lst[i]));
+				mest[i] = -lct[i];
+				mlst[i] = -ect[i];
+				mect[i] = -lst[i];
+				mlct[i] = -est[i];
+				list[n++] = i;
+			}
+		}
+		if (n == 0) {
+			return;
+		}
+		long c = capa.getUB();
+		adjust(n, est, lst, ect, lct, c, bound, aCause);
+		adjust(n, mest, mlst, mect, mlct, c, mbound, aCause);
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			if (bound[i] > est[i]) {
+				s[i].updateLowerBound((int) Math.min(bound[i], Integer.MAX_VALUE), aCause);
+			}
+			if (-mbound[i] < lct[i]) {
+				e[i].updateUpperBound((int) Math.max(-mbound[i], Integer.MIN_VALUE), aCause);
+			}
+		}
+	}
+
+	/**
+	 * @return the time-table energy before <i>t</i>
+	 */
+	private long timeTableBefore(int n, long[] lst, long[] ect, long t) {
+		long en = 0;
+		for (int k = 0; k < n; k++) {
+			int i = list[k];
+			if (lst[i] < ect[i] && lst[i] < t) {
+				en += hei[i] * (Math.min(t, ect[i]) - lst[i]);
+			}
+		}
+		return en;
+	}
+
+	/**
+	 * Compute in <i>res</i> the new earliest starting time of the <i>n</i> tasks of {@link #list}
+	 */
+	private void adjust(int n, long[] est, long[] lst, long[] ect, long[] lct, long c, long[] res,
+						Propagator<IntVar> aCause) throws ContradictionException {
+		System.arraycopy(list, 0, byEst, 0, n);
+		System.arraycopy(list, 0, byLct, 0, n);
+		sorter.sort(byEst, n, (i1, i2) -> Long.compare(est[i1], est[i2]));
+		sorter.sort(byLct, n, (i1, i2) -> Long.compare(lct[i1], lct[i2]));
+		for (int k = 0; k < n; k++) {
+			ttEst[k] = timeTableBefore(n, lst, ect, est[byEst[k]]);
+			ttLct[k] = timeTableBefore(n, lst, ect, lct[byLct[k]]);
+			res[list[k]] = est[list[k]];
+		}
+		for (int y = n - 1; y >= 0; y--) {
+			long b = lct[byLct[y]];
+			if (y < n - 1 && lct[byLct[y + 1]] == b) {
+				continue;
+			}
+			// find the window [a, b) with the least available energy
+			long fe = 0;
+			long minAvail = Long.MAX_VALUE;
+			long bestA = 0;
+			for (int x = n - 1; x >= 0; x--) {
+				int j = byEst[x];
+				if (lct[j] <= b) {
+					fe += free[j];
+				}
+				long a = est[j];
+				if (a < b && (x == 0 || est[byEst[x - 1]] < a)) {
+					long avail = c * (b - a) - (ttLct[y] - ttEst[x]) - fe;
+					if (avail < 0) {
+						aCause.fails();
+					}
+					if (avail < minAvail) {
+						minAvail = avail;
+						bestA = a;
+					}
+				}
+			}
+			if (minAvail == Long.MAX_VALUE) {
+				continue;
+			}
+			long a = bestA;
+			// push the tasks not inside the window
+			for (int k = 0; k < n; k++) {
+				int i = list[k];
+				if ((est[i] < a || lct[i] > b) && est[i] < b) {
+					long ov = Math.min(b, est[i] + dur[i]) - Math.max(a, est[i]);
+					if (ov > 0) {
+						// the compulsory part of i is counted in the time-table, but not its actual overlap
+						long r = minAvail + hei[i] * Math.max(0, Math.min(b, ect[i]) - Math.max(a, lst[i]));
+						if (hei[i] * ov > r) {
+							res[i] = Math.max(res[i], b - r / hei[i]);
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -18,8 +18,13 @@ package org.chocosolver.solver.constraints.nary.element;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ValueSortedMap;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUtils;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -168,4 +173,176 @@ public class PropElementV_fast extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    /**
+     * @implSpec
+     * Let <i>V</i> be the value variable, <i>I</i> the index variable and <i>X_i</i> the variable at index <i>i</i>.
+     * Domains are considered as they were just before propagation.
+     * <ul>
+     *     <li>A value <i>i</i> removed from <i>I</i> is explained by the disjunction of <i>V</i> and <i>X_i</i>,
+     *     that is, for instance when <i>lb(V) = c &gt; ub(X_i)</i>:
+     *     <pre>
+     *         (V &ge; c &and; X_i &lt; c) &rarr; I &ne; i
+     *     </pre>
+     *     </li>
+     *     <li>A bound of <i>V</i>, say its new lower bound <i>m</i>, is explained by the index domain <i>D_I</i>:
+     *     <pre>
+     *         (I &isin; D_I &and; &forall;i &isin; D_I, X_i &ge; m) &rarr; V &ge; m
+     *     </pre>
+     *     </li>
+     *     <li>A bound of <i>X_i</i>, say its new lower bound <i>m</i>, is explained by the instantiation of <i>I</i>:
+     *     <pre>
+     *         (I = i &and; V &ge; m) &rarr; X_i &ge; m
+     *     </pre>
+     *     </li>
+     * </ul>
+     * Any other modification is explained by default.
+     */
+    @Override
+    public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+        IntVar pivot = ig.getIntVarAt(p);
+        IntIterableRangeSet dbef = ig.getDomainAt(front.getValue(pivot));
+        IntIterableRangeSet daft = ig.getDomainAt(p);
+        int k = -1;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] == pivot) {
+                if (k > -1) {
+                    k = -1;
+                    break;
+                }
+                k = i;
+            }
+        }
+        boolean done = false;
+        if (k > -1 && daft.size() > 0) {
+            if (k == 1) {
+                done = explainIndex(explanation, front, ig, dbef, daft);
+            } else if (onlyBoundsModified(explanation, dbef, daft)) {
+                int lo = daft.min() > dbef.min() ? daft.min() : IntIterableRangeSet.MIN;
+                int hi = daft.max() < dbef.max() ? daft.max() : IntIterableRangeSet.MAX;
+                if (k == 0) {
+                    done = explainValue(explanation, front, ig, lo, hi);
+                } else {
+                    done = explainVar(explanation, front, ig, k, lo, hi);
+                }
+            }
+        }
+        if (!done) {
+            Propagator.defaultExplain(this, explanation, front, ig, p);
+        }
+    }
+
+    /**
+     * @return <i>true</i> if <i>daft</i> is <i>dbef</i> restricted to the bounds of <i>daft</i>
+     */
+    private static boolean onlyBoundsModified(ExplanationForSignedClause explanation,
+                                              IntIterableRangeSet dbef, IntIterableRangeSet daft) {
+        IntIterableRangeSet set = explanation.getFreeSet();
+        set.copyFrom(dbef);
+        set.retainBetween(daft.min(), daft.max());
+        boolean only = set.size() == daft.size();
+        explanation.returnSet(set);
+        return only;
+    }
+
+    private boolean validIndex(int i) {
+        return i >= offset && i <= vars.length + offset - 3;
+    }
+
+    private boolean explainIndex(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front,
+                                 Implications ig, IntIterableRangeSet dbef, IntIterableRangeSet daft) {
+        IntIterableRangeSet dvar = ig.getDomainAt(front.getValue(var));
+        IntIterableRangeSet removed = explanation.getFreeSet();
+        removed.copyFrom(dbef);
+        removed.removeAll(daft);
+        if (removed.size() == 0) {
+            explanation.returnSet(removed);
+            return false;
+        }
+        // first, check that each removal is justified by the bounds (or the domain) of V and X_i
+        for (int i = removed.min(); i <= removed.max(); i = removed.nextValue(i)) {
+            if (validIndex(i)) {
+                IntIterableRangeSet dx = ig.getDomainAt(front.getValue(vars[2 + i - offset]));
+                if (dvar.min() <= dx.max() && dx.min() <= dvar.max()
+                        && (fast || IntIterableSetUtils.intersect(dvar, dx))) {
+                    explanation.returnSet(removed);
+                    return false;
+                }
+            }
+        }
+        for (int i = removed.min(); i <= removed.max(); i = removed.nextValue(i)) {
+            if (validIndex(i)) {
+                IntVar x = vars[2 + i - offset];
+                IntIterableRangeSet dx = ig.getDomainAt(front.getValue(x));
+                IntIterableRangeSet setv, setx;
+                if (dvar.min() > dx.max()) {
+                    setv = explanation.getRootSet(var);
+                    setv.retainBetween(IntIterableRangeSet.MIN, dvar.min() - 1);
+                    setx = explanation.getRootSet(x);
+                    setx.retainBetween(dvar.min(), IntIterableRangeSet.MAX);
+                } else if (dx.min() > dvar.max()) {
+                    setv = explanation.getRootSet(var);
+                    setv.retainBetween(dvar.max() + 1, IntIterableRangeSet.MAX);
+                    setx = explanation.getRootSet(x);
+                    setx.retainBetween(IntIterableRangeSet.MIN, dvar.max());
+                } else {
+                    setv = explanation.getComplementSet(var);
+                    setx = explanation.getRootSet(x);
+                    setx.retainAll(dvar);
+                }
+                explanation.addLiteral(var, setv, false);
+                explanation.addLiteral(x, setx, false);
+            }
+        }
+        IntIterableRangeSet set = explanation.getRootSet(index);
+        set.removeAll(removed);
+        explanation.returnSet(removed);
+        explanation.addLiteral(index, set, true);
+        return true;
+    }
+
+    private boolean explainValue(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front,
+                                 Implications ig, int lo, int hi) {
+        IntIterableRangeSet dindex = ig.getDomainAt(front.getValue(index));
+        for (int i = dindex.min(); i <= dindex.max(); i = dindex.nextValue(i)) {
+            if (validIndex(i)) {
+                IntIterableRangeSet dx = ig.getDomainAt(front.getValue(vars[2 + i - offset]));
+                if (dx.min() < lo || dx.max() > hi) {
+                    return false;
+                }
+            }
+        }
+        for (int i = dindex.min(); i <= dindex.max(); i = dindex.nextValue(i)) {
+            if (validIndex(i)) {
+                IntVar x = vars[2 + i - offset];
+                IntIterableRangeSet set = explanation.getRootSet(x);
+                set.removeBetween(lo, hi);
+                explanation.addLiteral(x, set, false);
+            }
+        }
+        explanation.addLiteral(index, explanation.getComplementSet(index), false);
+        IntIterableRangeSet set = explanation.getRootSet(var);
+        set.retainBetween(lo, hi);
+        explanation.addLiteral(var, set, true);
+        return true;
+    }
+
+    private boolean explainVar(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front,
+                               Implications ig, int k, int lo, int hi) {
+        IntIterableRangeSet dindex = ig.getDomainAt(front.getValue(index));
+        IntIterableRangeSet dvar = ig.getDomainAt(front.getValue(var));
+        if (dindex.size() != 1 || dindex.min() != k - 2 + offset || dvar.min() < lo || dvar.max() > hi) {
+            return false;
+        }
+        IntIterableRangeSet set = explanation.getRootSet(index);
+        set.remove(k - 2 + offset);
+        explanation.addLiteral(index, set, false);
+        set = explanation.getRootSet(var);
+        set.removeBetween(lo, hi);
+        explanation.addLiteral(var, set, false);
+        set = explanation.getRootSet(vars[k]);
+        set.retainBetween(lo, hi);
+        explanation.addLiteral(vars[k], set, true);
+        return true;
+    }
+
 }
@@ -54,6 +54,11 @@ public class PropScalar extends PropSum {
     }
 
 
+    @Override
+    public int[] getCoefficients() {
+        return c.clone();
+    }
+
     @Override
     protected void prepare() {
         sumLB = sumUB = 0;
@@ -104,6 +104,31 @@ public class PropSum extends Propagator<IntVar> {
         maxI = 0;
     }
 
+    /**
+     * @return the coefficient of each variable: 1 before {@link #pos}, -1 after
+     */
+    public int[] getCoefficients() {
+        int[] coeffs = new int[l];
+        for (int i = 0; i < l; i++) {
+            coeffs[i] = i < pos ? 1 : -1;
+        }
+        return coeffs;
+    }
+
+    /**
+     * @return the operator
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public int getBound() {
+        return b;
+    }
+
     /**
      * Compute the priority of the propagator wrt the number of involved variables
      * @param nbvars number of variables
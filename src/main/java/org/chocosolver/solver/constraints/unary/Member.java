@@ -45,6 +45,34 @@ public class Member extends Constraint {
         this(var, lowerbound, upperbound, null, new PropMember(var, new IntIterableRangeSet(lowerbound, upperbound)));
     }
 
+    /**
+     * @return the variable of this constraint
+     */
+    public IntVar getVariable() {
+        return var;
+    }
+
+    /**
+     * @return the values of this constraint, <tt>null</tt> if they are defined by bounds
+     */
+    public int[] getValues() {
+        return values;
+    }
+
+    /**
+     * @return the lower bound of the values of this constraint, when they are defined by bounds
+     */
+    public int getLowerBound() {
+        return lb;
+    }
+
+    /**
+     * @return the upper bound of the values of this constraint, when they are defined by bounds
+     */
+    public int getUpperBound() {
+        return ub;
+    }
+
     @Override
     public Constraint makeOpposite() {
         if (values == null) {
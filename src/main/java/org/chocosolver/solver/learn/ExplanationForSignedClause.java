@@ -27,6 +27,7 @@ import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUtils;
 
+import java.util.BitSet;
 import java.util.HashMap;
 
 /**
@@ -76,6 +77,14 @@ public class ExplanationForSignedClause extends IExplanation {
      *           otherwise it represents the decision to refute in the decision path.
      */
     private int assertLevel = 0;
+    /**
+     * Literal block distance of the explanation, that is, the number of distinct decision levels of its literals.
+     */
+    private int lbd = Integer.MAX_VALUE;
+    /**
+     * Decision levels met while computing {@link #lbd}
+     */
+    private final BitSet levels = new BitSet();
     /**
      * The implication graph
      */
@@ -97,7 +106,7 @@ public class ExplanationForSignedClause extends IExplanation {
     public void extractConstraint(Model mModel, ClauseStore ngstore) {
         ClauseBuilder ngb = mModel.getClauseBuilder();
         literals.forEach(ngb::put);
-        ngb.buildNogood(mModel);
+        ngb.buildNogood(mModel, lbd);
     }
 
     @Override
@@ -106,6 +115,7 @@ public class ExplanationForSignedClause extends IExplanation {
         literals.forEach((v, r) -> returnSet(r));
         literals.clear();
         assertLevel = Integer.MAX_VALUE;
+        lbd = Integer.MAX_VALUE;
     }
 
     public void learnSolution(DecisionPath path) {
@@ -154,6 +164,8 @@ public class ExplanationForSignedClause extends IExplanation {
                 }
                 addLiteral(var, dom, false);
             }
+            // one decision per level
+            lbd = literals.size();
         }
     }
 
@@ -168,9 +180,38 @@ public class ExplanationForSignedClause extends IExplanation {
         if (PROOF) System.out.print("<-----");
         initFront(cex);
         loop();
+        computeLBD();
         if (PROOF) System.out.print(">\n");
     }
 
+    /**
+     * Compute the literal block distance of this explanation.
+     * For each literal, the node of the implication graph that made it false is found by going left from
+     * the right-most node of its variable as long as the domains do not intersect the literal.
+     * Literals falsified at ROOT node are not counted.
+     */
+    private void computeLBD() {
+        levels.clear();
+        literals.forEach((var, set) -> {
+            int p = mIG.getLastNodeOf(var);
+            if (p > -1) {
+                if (IntIterableSetUtils.intersect(set, mIG.getDomainAt(p))) {
+                    // not falsified yet, e.g. a literal related to the asserting level
+                    levels.set(mIG.getDecisionLevelAt(p));
+                } else {
+                    int q;
+                    while (IntEventType.VOID.getMask() != mIG.getEventMaskAt(p)
+                            && !IntIterableSetUtils.intersect(set, mIG.getDomainAt(q = mIG.getPredecessorOf(p)))) {
+                        p = q;
+                    }
+                    levels.set(mIG.getDecisionLevelAt(p));
+                }
+            }
+        });
+        levels.clear(0);
+        lbd = Math.max(1, levels.cardinality());
+    }
+
     private void initFront(ContradictionException cex) {
         mIG.collectNodesFromConflict(cex, front);
         // deal with global conflict
@@ -391,6 +432,13 @@ public class ExplanationForSignedClause extends IExplanation {
         return assertLevel;
     }
 
+    /**
+     * @return the literal block distance of this explanation, or {@link Integer#MAX_VALUE} if unknown.
+     */
+    public int getLBD() {
+        return lbd;
+    }
+
     /**
      * Return an empty set available (created and returned) or create a new one
      * @return a free set
@@ -119,6 +119,21 @@ public abstract class Implications {
      */
     public abstract int getPredecessorOf(int idx);
 
+    /**
+     * Get the decision level of node <i>idx</i>, that is, the position in the decision path
+     * of the last decision pushed when the node was added (0 stands for ROOT)
+     * @param idx position of the node to query
+     * @return the decision level of node <i>idx</i>
+     */
+    public abstract int getDecisionLevelAt(int idx);
+
+    /**
+     * Get the position of the right-most node declared on <i>var</i>
+     * @param var variable to query
+     * @return position of the last node of <i>var</i>, or -1 if <i>var</i> is unknown
+     */
+    public abstract int getLastNodeOf(IntVar var);
+
     /**
      * Get the {@link IntIterableRangeSet} that represents domain of this variables
      * as declared in the model
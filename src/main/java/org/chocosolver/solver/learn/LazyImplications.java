@@ -13,6 +13,7 @@ import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.objects.ValueSortedMap;
@@ -72,6 +73,7 @@ public class LazyImplications extends Implications {
      *         <li>m is the mask event that triggers the modification,</li>
      *         <li>i is the index of this entry in the stack</li>
      *         <li>p is a pointer to the previous entry on v in the stack</li>
+     *         <li>l is the decision level when the entry was added</li>
      *     </ul>
      *
      *     Invar:  (p < n) xor ("root entry")
@@ -90,6 +92,8 @@ public class LazyImplications extends Implications {
         int i;
         // index of direct predecessor (same variable)
         int p;
+        // decision level
+        int l;
 
         @Override
         public String toString() {
@@ -139,6 +143,10 @@ public class LazyImplications extends Implications {
      * Number of active entries in {@link #entries}
      */
     private int nbEntries;
+    /**
+     * The decision path, to get the decision level of each entry
+     */
+    private final DecisionPath path;
 
     /**
      * Create lazily built implication graph
@@ -146,6 +154,7 @@ public class LazyImplications extends Implications {
      */
     LazyImplications(Model model) {
         nbEntries = 0;
+        path = model.getSolver().getDecisionPath();
         size = model.getEnvironment().makeInt(0);
         size._set(0, 0); // to force history manually -- required when created during the search
         entries = new Entry[16];
@@ -343,6 +352,7 @@ public class LazyImplications extends Implications {
             nentry.getD().clear();
         }
         nentry.set(var, cause, evt.getMask(), one, nbEntries, prev.i);
+        nentry.l = path.size() - 1;
         // make a (weak) copy of prev domain and update it wrt to current event
         createDomain(nentry.getD(), prev.d, evt, one);
         // connect everything
@@ -494,6 +504,19 @@ public class LazyImplications extends Implications {
         return entries[idx].p;
     }
 
+    @Override
+    public int getDecisionLevelAt(int idx) {
+        return entries[idx].l;
+    }
+
+    @Override
+    public int getLastNodeOf(IntVar var) {
+        if (!rootEntries.containsKey(var)) {
+            return -1;
+        }
+        return rightmostNode(size.get(), var);
+    }
+
     @Override
     public IntIterableRangeSet getRootDomain(IntVar var) {
         return rootEntries.get(var).d;
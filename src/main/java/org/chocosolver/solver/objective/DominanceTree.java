@@ -0,0 +1,336 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * An archive of objective vectors (to maximize) indexed by a k-d tree,
+ * to answer dominance queries without comparing a vector with all the stored ones.
+ * <p>
+ * Each node is a vector, and stores the bounding box of the alive vectors of its subtree.
+ * Queries only rely on bounding boxes, so a subtree whose box cannot contain a matching vector is pruned.
+ * Removed vectors are only marked as dead, and the boxes are not shrunk.
+ * The tree is kept balanced as a scapegoat tree: a subtree too unbalanced after an insertion is rebuilt,
+ * and the whole tree is rebuilt once dead vectors are more numerous than alive ones.
+ * <p>
+ * Vectors are identified by their insertion rank, starting at 0.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+class DominanceTree {
+
+    private static final double ALPHA = .75;
+
+    /**
+     * Number of dimensions
+     */
+    private final int d;
+    /**
+     * Values of the vectors, <i>d</i> per vector
+     */
+    private int[] vals;
+    /**
+     * Bounding boxes of the subtrees, <i>d</i> per node
+     */
+    private int[] boxMin, boxMax;
+    private int[] left, right, sz;
+    private boolean[] alive;
+    private int root = -1;
+    /**
+     * Number of vectors added, number of nodes in the tree, number of alive vectors
+     */
+    private int count, nodes, live;
+    private int[] stack, tmp;
+
+    /**
+     * @param d number of dimensions
+     */
+    DominanceTree(int d) {
+        this.d = d;
+        int c = 16;
+        vals = new int[c * d];
+        boxMin = new int[c * d];
+        boxMax = new int[c * d];
+        left = new int[c];
+        right = new int[c];
+        sz = new int[c];
+        alive = new boolean[c];
+        stack = new int[c];
+        tmp = new int[c];
+    }
+
+    /**
+     * @return the number of alive vectors
+     */
+    int size() {
+        return live;
+    }
+
+    /**
+     * @param id a vector
+     * @param i  a dimension
+     * @return the value of vector <i>id</i> on dimension <i>i</i>
+     */
+    int get(int id, int i) {
+        return vals[id * d + i];
+    }
+
+    /**
+     * Add a vector in the archive, in O(log n) amortized.
+     *
+     * @param v a vector
+     * @return the identifier of the vector
+     */
+    int add(int[] v) {
+        ensureCapacity(count + 1);
+        int id = count++;
+        System.arraycopy(v, 0, vals, id * d, d);
+        System.arraycopy(v, 0, boxMin, id * d, d);
+        System.arraycopy(v, 0, boxMax, id * d, d);
+        left[id] = right[id] = -1;
+        sz[id] = 1;
+        alive[id] = true;
+        live++;
+        nodes++;
+        if (root == -1) {
+            root = id;
+            return id;
+        }
+        int node = root;
+        int depth = 0;
+        while (true) {
+            stack[depth] = node;
+            sz[node]++;
+            for (int i = 0, o = node * d; i < d; i++, o++) {
+                boxMin[o] = Math.min(boxMin[o], v[i]);
+                boxMax[o] = Math.max(boxMax[o], v[i]);
+            }
+            int k = depth % d;
+            depth++;
+            if (v[k] < vals[node * d + k]) {
+                if (left[node] == -1) {
+                    left[node] = id;
+                    break;
+                }
+                node = left[node];
+            } else {
+                if (right[node] == -1) {
+                    right[node] = id;
+                    break;
+                }
+                node = right[node];
+            }
+        }
+        if (depth > Math.log(nodes) / Math.log(1 / ALPHA) + 1) {
+            // find the scapegoat, from the bottom
+            int child = id;
+            for (int k = depth - 1; k >= 0; k--) {
+                int p = stack[k];
+                if (sz[child] > ALPHA * sz[p]) {
+                    rebuild(k, p, k > 0 ? stack[k - 1] : -1);
+                    break;
+                }
+                child = p;
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Remove the alive vectors dominated by <i>v</i> (or equal to it).
+     *
+     * @param v       a vector
+     * @param removed where to store the identifiers of the removed vectors
+     */
+    void removeDominated(int[] v, TIntArrayList removed) {
+        int top = 0;
+        if (root > -1) {
+            stack[top++] = root;
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            boolean prune = false;
+            for (int i = 0, o = node * d; i < d && !prune; i++, o++) {
+                prune = boxMin[o] > v[i];
+            }
+            if (prune) {
+                continue;
+            }
+            if (alive[node]) {
+                boolean dom = true;
+                for (int i = 0, o = node * d; i < d && dom; i++, o++) {
+                    dom = vals[o] <= v[i];
+                }
+                if (dom) {
+                    alive[node] = false;
+                    live--;
+                    removed.add(node);
+                }
+            }
+            if (left[node] > -1) {
+                stack[top++] = left[node];
+            }
+            if (right[node] > -1) {
+                stack[top++] = right[node];
+            }
+        }
+        if (nodes - live > live && nodes > 32) {
+            rebuild(-1, root, -1);
+        }
+    }
+
+    /**
+     * @param v a vector
+     * @return <tt>true</tt> if an alive vector dominates <i>v</i> or is equal to it
+     */
+    boolean isWeaklyDominated(int[] v) {
+        int top = 0;
+        if (root > -1) {
+            stack[top++] = root;
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            boolean prune = false;
+            for (int i = 0, o = node * d; i < d && !prune; i++, o++) {
+                prune = boxMax[o] < v[i];
+            }
+            if (prune) {
+                continue;
+            }
+            if (alive[node]) {
+                boolean dom = true;
+                for (int i = 0, o = node * d; i < d && dom; i++, o++) {
+                    dom = vals[o] >= v[i];
+                }
+                if (dom) {
+                    return true;
+                }
+            }
+            if (left[node] > -1) {
+                stack[top++] = left[node];
+            }
+            if (right[node] > -1) {
+                stack[top++] = right[node];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rebuild, balanced, the subtree rooted in <i>node</i>, which is at depth <i>depth</i> and whose parent is <i>parent</i>.
+     * The whole tree is rebuilt when <i>depth</i> is -1, dead vectors are then removed from it.
+     */
+    private void rebuild(int depth, int node, int parent) {
+        int n = 0;
+        int top = 0;
+        stack[top++] = node;
+        while (top > 0) {
+            int x = stack[--top];
+            if (depth > -1 || alive[x]) {
+                tmp[n++] = x;
+            }
+            if (left[x] > -1) {
+                stack[top++] = left[x];
+            }
+            if (right[x] > -1) {
+                stack[top++] = right[x];
+            }
+        }
+        if (depth == -1) {
+            nodes = n;
+            root = build(0, n, 0);
+        } else {
+            int sub = build(0, n, depth);
+            if (parent == -1) {
+                root = sub;
+            } else if (left[parent] == node) {
+                left[parent] = sub;
+            } else {
+                right[parent] = sub;
+            }
+        }
+    }
+
+    private int build(int from, int to, int depth) {
+        if (from >= to) {
+            return -1;
+        }
+        int k = depth % d;
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, k);
+        int node = tmp[mid];
+        left[node] = build(from, mid, depth + 1);
+        right[node] = build(mid + 1, to, depth + 1);
+        sz[node] = to - from;
+        int o = node * d;
+        for (int i = 0; i < d; i++) {
+            boxMin[o + i] = alive[node] ? vals[o + i] : Integer.MAX_VALUE;
+            boxMax[o + i] = alive[node] ? vals[o + i] : Integer.MIN_VALUE;
+        }
+        merge(node, left[node]);
+        merge(node, right[node]);
+        return node;
+    }
+
+    private void merge(int node, int child) {
+        if (child > -1) {
+            for (int i = 0, o = node * d, c = child * d; i < d; i++, o++, c++) {
+                boxMin[o] = Math.min(boxMin[o], boxMin[c]);
+                boxMax[o] = Math.max(boxMax[o], boxMax[c]);
+            }
+        }
+    }
+
+    /**
+     * Reorder tmp[lo..hi] such that tmp[m] has the m-th smallest value on dimension <i>k</i>
+     */
+    private void select(int lo, int hi, int m, int k) {
+        while (lo < hi) {
+            int pivot = vals[tmp[(lo + hi) >>> 1] * d + k];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (vals[tmp[i] * d + k] < pivot) i++;
+                while (vals[tmp[j] * d + k] > pivot) j--;
+                if (i <= j) {
+                    int t = tmp[i];
+                    tmp[i++] = tmp[j];
+                    tmp[j--] = t;
+                }
+            }
+            if (m <= j) {
+                hi = j;
+            } else if (m >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void ensureCapacity(int c) {
+        if (c > left.length) {
+            int nc = Math.max(c, left.length * 2);
+            vals = Arrays.copyOf(vals, nc * d);
+            boxMin = Arrays.copyOf(boxMin, nc * d);
+            boxMax = Arrays.copyOf(boxMax, nc * d);
+            left = Arrays.copyOf(left, nc);
+            right = Arrays.copyOf(right, nc);
+            sz = Arrays.copyOf(sz, nc);
+            alive = Arrays.copyOf(alive, nc);
+            stack = new int[nc];
+            tmp = new int[nc];
+        }
+    }
+}
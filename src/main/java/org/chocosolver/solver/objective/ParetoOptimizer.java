@@ -8,6 +8,8 @@
  */
 package org.chocosolver.solver.objective;
 
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.sat.PropSat;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
@@ -15,12 +17,17 @@ import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Class to store the pareto front (multi-objective optimization).
  * Worse solutions are dynamically removed from the solution set.
+ * <p>
+ * The objective values of the front are indexed in a k-d tree ({@link DominanceTree}),
+ * so that dominated solutions are found without scanning the whole front.
+ * The literals of the dominance cuts are created once per objective value and reused by the next cuts.
  *
  * @author Jean-Guillaume Fages
  */
@@ -31,12 +38,18 @@ public class ParetoOptimizer implements IMonitorSolution {
     //***********************************************************************************
 
     // Set of incomparable and Pareto-best solutions
-    private LinkedList<Solution> paretoFront;
+    private ArrayList<Solution> paretoFront;
+
+    // Objective values of the front (all to maximize), and position in the front of each vector
+    private DominanceTree archive;
+    private TIntArrayList frontIds = new TIntArrayList();
+    private TIntIntHashMap positions = new TIntIntHashMap();
+    private TIntArrayList removed = new TIntArrayList();
 
     private Model model;
 
     // Allow to recycle (dominated) Solution objects
-    private LinkedList<Solution> pool = new LinkedList<>();
+    private ArrayDeque<Solution> pool = new ArrayDeque<>();
 
     // objective function
     private boolean maximize;
@@ -44,8 +57,10 @@ public class ParetoOptimizer implements IMonitorSolution {
     private int n;
 
     // to post dynamical constraints
-    private int[] vals, lits;
+    private int[] vals, nvals, lits;
     private PropSat psat;
+    // literal of 'objectives[i] is better than v', per objective i and value v
+    private TIntIntHashMap[] literals;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -68,14 +83,20 @@ public class ParetoOptimizer implements IMonitorSolution {
      * @param objectives objective variables (must all be optimized in the same direction)
      */
     public ParetoOptimizer(final boolean maximize, final IntVar[] objectives) {
-        this.paretoFront = new LinkedList<>();
+        this.paretoFront = new ArrayList<>();
         this.objectives = objectives.clone();
         this.maximize = maximize;
         n = objectives.length;
         model = objectives[0].getModel();
         psat = model.getMinisat().getPropSat();
         vals = new int[n];
+        nvals = new int[n];
         lits = new int[n];
+        archive = new DominanceTree(n);
+        literals = new TIntIntHashMap[n];
+        for (int i = 0; i < n; i++) {
+            literals[i] = new TIntIntHashMap(16, .5f, Integer.MIN_VALUE, -1);
+        }
     }
 
     //***********************************************************************************
@@ -87,33 +108,54 @@ public class ParetoOptimizer implements IMonitorSolution {
         // get objective values
         for (int i = 0; i < n; i++) {
             vals[i] = objectives[i].getValue();
+            // ~v reverses the order without overflowing
+            nvals[i] = maximize ? vals[i] : ~vals[i];
+        }
+        if (archive.isWeaklyDominated(nvals)) {
+            return;
         }
         // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoFront.get(i), vals)) {
-                pool.add(paretoFront.remove(i));
+        removed.resetQuick();
+        archive.removeDominated(nvals, removed);
+        for (int k = 0; k < removed.size(); k++) {
+            int p = positions.remove(removed.getQuick(k));
+            int last = paretoFront.size() - 1;
+            pool.add(paretoFront.get(p));
+            if (p < last) {
+                paretoFront.set(p, paretoFront.get(last));
+                frontIds.setQuick(p, frontIds.getQuick(last));
+                positions.put(frontIds.getQuick(p), p);
             }
+            paretoFront.remove(last);
+            frontIds.removeAt(last);
         }
         // store current solution
-        if(pool.isEmpty()){
-            paretoFront.add(new Solution(model).record());
-        }else{
-            Solution solution = pool.remove();
-
-            solution.record();
-            paretoFront.add(solution);
-        }
+        Solution solution = pool.isEmpty() ? new Solution(model) : pool.remove();
+        solution.record();
+        int id = archive.add(nvals);
+        positions.put(id, paretoFront.size());
+        frontIds.add(id);
+        paretoFront.add(solution);
         // post dynamical constraints to prevent search from computing dominated solutions
-        Operator symbol = Operator.GT;
-        if (!maximize) {
-            symbol = Operator.LT;
-        }
         for (int i = 0; i < n; i++) {
-            lits[i] = psat.makeLiteral(model.arithm(objectives[i], symbol.toString(), vals[i]).reify(), true);
+            lits[i] = literal(i, vals[i]);
         }
         psat.addLearnt(lits);
     }
 
+    /**
+     * @return the literal of 'objectives[i] is strictly better than v', created on the first call
+     */
+    private int literal(int i, int v) {
+        int lit = literals[i].get(v);
+        if (lit == -1) {
+            Operator symbol = maximize ? Operator.GT : Operator.LT;
+            lit = psat.makeLiteral(model.arithm(objectives[i], symbol.toString(), v).reify(), true);
+            literals[i].put(v, lit);
+        }
+        return lit;
+    }
+
 	/**
      * @return the set of Pareto-best (possibly optimal) solutions found so far
      */
@@ -121,13 +163,4 @@ public class ParetoOptimizer implements IMonitorSolution {
    		return paretoFront;
    	}
 
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if ((delta > 0 && maximize) || (delta < 0 && !maximize)) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,189 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+
+import java.util.Arrays;
+
+/**
+ * A propagation engine which orders propagators wrt to their cost measured at run time,
+ * instead of their static priority.
+ * <p>
+ * Each call to a propagator is timed, and two exponential moving averages are maintained per propagator:
+ * its cost, that is the time spent per call, and its effectiveness, that is the ratio of calls
+ * which modify a domain or raise a failure.
+ * The lower the cost and the higher the effectiveness, the lower the queue in which the propagator is scheduled,
+ * on a logarithmic scale: a propagator whose cost per call is below 1&mu;s goes in the first queue,
+ * one above 1ms goes in the last one.
+ * A propagator never called before goes in the queue of its static priority.
+ * <p>
+ * Moreover, this engine is preemptive: a propagator is executed only when all lower queues are empty,
+ * so that expensive propagators are postponed until cheap ones reach a fix point.
+ * <p>
+ * It is used when {@link org.chocosolver.solver.Settings#enableAdaptivePropagatorOrdering()} returns <tt>true</tt>.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class AdaptivePropagationEngine extends PropagationEngine {
+
+    /**
+     * Weight of a new observation in the moving averages, as a shift: 1/8
+     */
+    private static final int SHIFT = 3;
+
+    /**
+     * Effectiveness of a propagator which always modifies a domain
+     */
+    private static final int EFFECTIVE = 1 << 10;
+
+    /**
+     * Map (propagator ID - slot), an entry is removed with its propagator
+     */
+    private final TIntIntHashMap slots = new TIntIntHashMap(16, .5f, -1, -1);
+
+    /**
+     * Per slot, moving average of the time spent per call, in nanoseconds
+     */
+    private long[] costs = new long[16];
+
+    /**
+     * Per slot, moving average of the effectiveness, between 0 and {@link #EFFECTIVE}
+     */
+    private int[] effectiveness = new int[16];
+
+    /**
+     * Per slot, index of the queue in which the propagator is scheduled
+     */
+    private int[] queues = new int[16];
+
+    /**
+     * Number of slots used
+     */
+    private int size;
+
+    /**
+     * Slots released by removed propagators, to be reused
+     */
+    private int[] free = new int[16];
+
+    /**
+     * Number of slots in {@link #free}
+     */
+    private int nbFree;
+
+    /**
+     * Number of domain modifications so far
+     */
+    private long modifications;
+
+    /**
+     * An adaptive propagation engine.
+     * @param model the declaring model
+     */
+    public AdaptivePropagationEngine(Model model) {
+        super(model, true);
+    }
+
+    @Override
+    protected int queueOf(Propagator propagator) {
+        int s = slots.get(propagator.getId());
+        return s > -1 ? queues[s] : propagator.getPriority().priority;
+    }
+
+    @Override
+    protected void revise(Propagator propagator) throws ContradictionException {
+        long m = modifications;
+        long t = System.nanoTime();
+        boolean effective = true;
+        try {
+            super.revise(propagator);
+            effective = modifications > m;
+        } finally {
+            record(propagator, System.nanoTime() - t, effective);
+        }
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        modifications++;
+        super.onVariableUpdate(variable, type, cause);
+    }
+
+    @Override
+    public void dynamicDeletion(Propagator... ps) {
+        super.dynamicDeletion(ps);
+        for (Propagator p : ps) {
+            int s = slots.remove(p.getId());
+            if (s > -1) {
+                if (nbFree == free.length) {
+                    free = Arrays.copyOf(free, nbFree * 3 / 2 + 1);
+                }
+                free[nbFree++] = s;
+            }
+        }
+    }
+
+    /**
+     * Update the moving averages of a propagator and the queue it goes in.
+     * @param propagator the propagator executed
+     * @param time time spent in the call, in nanoseconds
+     * @param effective <tt>true</tt> if the call modified a domain or raised a failure
+     */
+    private void record(Propagator propagator, long time, boolean effective) {
+        int s = slots.get(propagator.getId());
+        if (s == -1) {
+            s = nbFree > 0 ? free[--nbFree] : size++;
+            if (s == costs.length) {
+                int nc = s * 3 / 2;
+                costs = Arrays.copyOf(costs, nc);
+                effectiveness = Arrays.copyOf(effectiveness, nc);
+                queues = Arrays.copyOf(queues, nc);
+            }
+            slots.put(propagator.getId(), s);
+            costs[s] = time;
+            effectiveness[s] = effective ? EFFECTIVE : 0;
+        } else {
+            costs[s] += (time - costs[s]) >> SHIFT;
+            effectiveness[s] += ((effective ? EFFECTIVE : 0) - effectiveness[s]) >> SHIFT;
+        }
+        // the cost is increased up to 16 times for ineffective propagators
+        long score = costs[s] * EFFECTIVE / (effectiveness[s] + (EFFECTIVE >> 4));
+        int log2 = 63 - Long.numberOfLeadingZeros(Math.max(score, 1));
+        // below 2^10ns (~1 micro-second): 1, then one queue more every 4 times more
+        queues[s] = 1 + Math.max(0, Math.min(6, (log2 - 8) >> 1));
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the moving average of the time spent per call in <i>propagator</i>, in nanoseconds,
+     * or -1 if it has not been called yet
+     */
+    public long getCost(Propagator propagator) {
+        int s = slots.get(propagator.getId());
+        return s > -1 ? costs[s] : -1;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the index of the queue <i>propagator</i> goes in, between 1 and 7
+     */
+    public int getQueue(Propagator propagator) {
+        return queueOf(propagator);
+    }
+}
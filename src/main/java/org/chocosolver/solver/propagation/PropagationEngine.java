@@ -18,9 +18,11 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.objects.IntMap;
 import org.chocosolver.util.objects.queues.CircularQueue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
@@ -69,6 +71,10 @@ public class PropagationEngine {
      * The last propagator executed
      */
     private Propagator lastProp;
+    /**
+     * The propagator being executed, if it is idempotent, <tt>null</tt> otherwise
+     */
+    private Propagator idempotent;
     /**
      * One bit per queue: true if the queue is not empty.
      */
@@ -88,6 +94,11 @@ public class PropagationEngine {
      * when set to '0b10', this workds as a variable- oriented propagation engine.
      */
     private final byte hybrid;
+    /**
+     * Set to <tt>true</tt> to execute a propagator only when all queues of lower index are empty.
+     * Otherwise, a queue is emptied before looking at queues of lower index.
+     */
+    private final boolean preemptive;
 
     /**
      * A seven-queue propagation engine.
@@ -97,7 +108,18 @@ public class PropagationEngine {
      * @param model the declaring model
      */
     public PropagationEngine(Model model) {
+        this(model, false);
+    }
+
+    /**
+     * A seven-queue propagation engine.
+     * @param model the declaring model
+     * @param preemptive set to <tt>true</tt> to execute a propagator only when all queues of lower index are empty,
+     *                   set to <tt>false</tt> to empty a queue before looking at queues of lower index
+     */
+    protected PropagationEngine(Model model, boolean preemptive) {
         this.model = model;
+        this.preemptive = preemptive;
         //noinspection unchecked
         this.pro_queue = new CircularQueue[8];
         for (int i = 0; i < 8; i++) {
@@ -166,25 +188,45 @@ public class PropagationEngine {
                     lastProp = pro_queue[i].pollFirst();
                     // revision of the variable
                     lastProp.unschedule();
-                    delayedPropagationType = 0;
-                    if (lastProp.reactToFineEvent()) {
-                        lastProp.doFinePropagation();
-                        // now we can check whether a delayed propagation has been scheduled
-                        if (delayedPropagationType > 0) {
-                            lastProp.propagate(delayedPropagationType);
-                        }
-                    } else if (lastProp.isActive()) { // need to be checked due to views
-                        lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
-                    }
+                    revise(lastProp);
                     if (hybrid < 0b01) {
                         manageModifications();
                     }
+                    if (preemptive && (notEmpty & ((1 << i) - 1)) != 0) {
+                        break;
+                    }
+                }
+                if (pro_queue[i].isEmpty()) {
+                    notEmpty = notEmpty & ~(1 << i);
                 }
-                notEmpty = notEmpty & ~(1 << i);
             }
         } while (!var_queue.isEmpty());
     }
 
+    /**
+     * Execute a propagator popped from a queue, wrt to its pending events
+     * @param propagator the propagator to execute
+     * @throws ContradictionException if a contradiction occurrs
+     */
+    protected void revise(Propagator propagator) throws ContradictionException {
+        delayedPropagationType = 0;
+        Propagator previous = idempotent;
+        idempotent = propagator.isIdempotent() ? propagator : null;
+        try {
+            if (propagator.reactToFineEvent()) {
+                propagator.doFinePropagation();
+                // now we can check whether a delayed propagation has been scheduled
+                if (delayedPropagationType > 0) {
+                    propagator.propagate(delayedPropagationType);
+                }
+            } else if (propagator.isActive()) { // need to be checked due to views
+                propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            }
+        } finally {
+            idempotent = previous;
+        }
+    }
+
     /**
      * Checks if some propagators were added or have to be propagated on backtrack
      * @throws ContradictionException if a propagation fails
@@ -208,7 +250,13 @@ public class PropagationEngine {
             propagator.setActive();
         }
         if (propagator.isActive()) {
-            propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            Propagator previous = idempotent;
+            idempotent = propagator.isIdempotent() ? propagator : null;
+            try {
+                propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            } finally {
+                idempotent = previous;
+            }
             while (!var_queue.isEmpty()) {
                 schedule(var_queue.pollFirst());
             }
@@ -253,7 +301,13 @@ public class PropagationEngine {
     }
 
     /**
-     * Take into account the modification of a variable
+     * Take into account the modification of a variable.
+     * <p>
+     * Events are coalesced per variable: a variable is stored once in the queue of modified variables,
+     * with the union of the masks of the events it received, until it is scheduled.
+     * When the propagator being executed is idempotent (see {@link Propagator#isIdempotent()}),
+     * it is considered as the cause of any modification, including the ones forwarded by views,
+     * so that it is not scheduled again on its own modifications.
      *
      * @param variable modified variable
      * @param type     type of modification event
@@ -269,8 +323,10 @@ public class PropagationEngine {
             }
             assert found : variable + " not in scope of " + cause;
         }
-        var_queue.addLast(variable);
-        variable.storeEvents(type.getMask(), cause);
+        if (variable.getCause() == null) {
+            var_queue.addLast(variable);
+        }
+        variable.storeEvents(type.getMask(), idempotent != null ? idempotent : cause);
     }
 
     private void schedule(Variable variable) {
@@ -299,7 +355,17 @@ public class PropagationEngine {
 
     public void schedule(Propagator prop, int pindice, int mask) {
         prop.doScheduleEvent(pindice, mask);
-        notEmpty = notEmpty | (1 << prop.doSchedule(pro_queue));
+        notEmpty = notEmpty | (1 << prop.doSchedule(pro_queue, queueOf(prop)));
+    }
+
+    /**
+     * @param propagator a propagator to schedule
+     * @return the index of the queue in which <i>propagator</i> is to be scheduled, between 1 and 7:
+     * the lower the index, the sooner it is executed.
+     * By default, this is the static priority of the propagator.
+     */
+    protected int queueOf(Propagator propagator) {
+        return propagator.getPriority().priority;
     }
 
     /**
@@ -392,11 +458,7 @@ public class PropagationEngine {
      * @param propagator a propagator
      */
     public void propagateOnBacktrack(Propagator propagator) {
-        int idx = propagator.getPosition();
-        assert propagators.get(idx) == propagator : "Try to remove the wrong propagator";
-        shift(idx);
-        propagators.set(propagators.size() - 1, propagator);
-        propagator.setPosition(propagators.size() - 1);
+        assert propagators.get(propagator.getPosition()) == propagator : "Try to update the wrong propagator";
         dynPropagators.addOrUpdate(propagator);
     }
 
@@ -417,54 +479,100 @@ public class PropagationEngine {
         }
     }
 
+    /**
+     * Remove a propagator in constant time: the last propagator of {@link #propagators} takes its place.
+     * @param propagator propagator to remove
+     */
     private void remove(Propagator propagator) {
         int idx = propagator.getPosition();
         if (idx > -1) {
             assert propagators.get(idx) == propagator : "Try to remove the wrong propagator";
-            // todo: improve
-            shift(idx);
+            Propagator last = propagators.remove(propagators.size() - 1);
+            if (last != propagator) {
+                propagators.set(idx, last);
+                last.setPosition(idx);
+            }
             propagator.setPosition(-1);
-            propagators.remove(propagators.size() - 1);
-        }
-    }
-
-    private void shift(int from) {
-        for (int i = from; i < propagators.size() - 1; i++) {
-            propagators.set(i, propagators.get(i + 1));
-            propagators.get(i).setPosition(i);
         }
     }
 
+    /**
+     * Propagators added, or to propagate on backtrack, ordered by insertion.
+     * Each propagator is associated with the lowest world index it has been activated in,
+     * this index is not increasing from the last inserted propagator to the first one.
+     * <p>
+     * Propagators are stored in a doubly-linked list, over recycled slots,
+     * and a map from propagator ID to slot makes insertion and removal constant-time.
+     */
     private class DynPropagators {
 
         private Propagator[] elements;
         private int[] keys;
-        private int size;
+        private int[] prev, next;
+        /**
+         * Map (propagator ID - slot)
+         */
+        private final IntMap slots;
+        /**
+         * First and last slots of the list
+         */
+        private int head, tail;
+        /**
+         * First free slot, free slots are chained with {@link #next}
+         */
+        private int free;
+        /**
+         * Number of slots ever used
+         */
+        private int used;
 
         DynPropagators() {
             elements = new Propagator[16];
             keys = new int[16];
-            size = 0;
+            prev = new int[16];
+            next = new int[16];
+            slots = new IntMap(16, -1);
+            head = tail = free = -1;
+            used = 0;
         }
 
         public void clear() {
-            size = 0;
+            for (int i = head; i > -1; i = next[i]) {
+                slots.clear(elements[i].getId());
+                elements[i] = null;
+            }
+            head = tail = free = -1;
+            used = 0;
         }
 
         public void add(Propagator e) {
-            ensureCapacity();
-            elements[size] = e;
-            keys[size++] = Integer.MAX_VALUE;
+            int s = free;
+            if (s > -1) {
+                free = next[s];
+            } else {
+                ensureCapacity();
+                s = used++;
+            }
+            elements[s] = e;
+            keys[s] = Integer.MAX_VALUE;
+            prev[s] = tail;
+            next[s] = -1;
+            if (tail > -1) {
+                next[tail] = s;
+            } else {
+                head = s;
+            }
+            tail = s;
+            slots.put(e.getId(), s);
         }
 
         private void ensureCapacity() {
-            if (size >= elements.length - 1) {
-                Propagator[] tmp = elements;
-                elements = new Propagator[elements.length * 3 / 2];
-                System.arraycopy(tmp, 0, elements, 0, size);
-                int[] itmp = keys;
-                keys = new int[elements.length];
-                System.arraycopy(itmp, 0, keys, 0, size);
+            if (used >= elements.length) {
+                int nc = elements.length * 3 / 2;
+                elements = Arrays.copyOf(elements, nc);
+                keys = Arrays.copyOf(keys, nc);
+                prev = Arrays.copyOf(prev, nc);
+                next = Arrays.copyOf(next, nc);
             }
         }
 
@@ -474,36 +582,31 @@ public class PropagationEngine {
         }
 
         public void remove(Propagator e) {
-            int p = indexOf(e);
-            if (p > -1) {
-                removeAt(p);
-            }
-        }
-
-        private void removeAt(int p){
-            if(p < size - 1) {
-                System.arraycopy(elements, p + 1, elements, p, size - p);
-                System.arraycopy(keys, p + 1, keys, p, size - p);
-            }
-            elements[--size] = null;
-            keys[size] = 0;
-        }
-
-        private int indexOf(Propagator e) {
-            for (int i = 0; i < size; i++) {
-                if (e.equals(elements[i])) {
-                    return i;
+            int s = slots.get(e.getId());
+            if (s > -1) {
+                slots.clear(e.getId());
+                if (prev[s] > -1) {
+                    next[prev[s]] = next[s];
+                } else {
+                    head = next[s];
                 }
+                if (next[s] > -1) {
+                    prev[next[s]] = prev[s];
+                } else {
+                    tail = prev[s];
+                }
+                elements[s] = null;
+                next[s] = free;
+                free = s;
             }
-            return -1;
         }
 
         void descending(int w, Consumer<Propagator> cons) {
-            int i = size - 1;
-            while (i >= 0 && keys[i] >= w) {
+            int i = tail;
+            while (i > -1 && keys[i] >= w) {
                 cons.accept(elements[i]);
                 keys[i] = w;
-                i--;
+                i = prev[i];
             }
         }
     }
@@ -0,0 +1,186 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.util.objects.IntMap;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics on the propagation, per propagator, collected by a {@link ProfilingPropagationEngine}.
+ * <p>
+ * For each propagator are recorded: the number of calls, the number of fine events received,
+ * the time spent in it, the number of domain modifications it caused and the number of failures it raised.
+ * Statistics can also be aggregated by constraint, based on the name of the constraint
+ * (for instance, {@link org.chocosolver.solver.constraints.ConstraintsName#ARITHM}),
+ * which identifies the kind of constraint.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class PropagationProfiler {
+
+    /**
+     * Statistics of a propagator, or of a group of propagators
+     */
+    public static final class Record {
+        private final String name;
+        private final Propagator propagator;
+        long calls, events, time, reductions, failures;
+
+        private Record(String name, Propagator propagator) {
+            this.name = name;
+            this.propagator = propagator;
+        }
+
+        /**
+         * @return the name of the constraint
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the propagator observed, or <tt>null</tt> if this aggregates many propagators
+         */
+        public Propagator getPropagator() {
+            return propagator;
+        }
+
+        /**
+         * @return number of calls to the propagator
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return number of fine events received by the propagator
+         */
+        public long getEvents() {
+            return events;
+        }
+
+        /**
+         * @return time spent in the propagator, in nanoseconds
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * @return number of domain modifications caused by the propagator
+         */
+        public long getReductions() {
+            return reductions;
+        }
+
+        /**
+         * @return number of failures raised by the propagator
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        private void add(Record r) {
+            calls += r.calls;
+            events += r.events;
+            time += r.time;
+            reductions += r.reductions;
+            failures += r.failures;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d calls, %d events, %.3f ms, %d reductions, %d failures",
+                    propagator == null ? name : name + " " + propagator,
+                    calls, events, time / 1e6, reductions, failures);
+        }
+    }
+
+    /**
+     * Map (propagator ID - index of its record in {@link #records})
+     */
+    private final IntMap indices = new IntMap(16, -1);
+
+    private final List<Record> records = new ArrayList<>();
+
+    /**
+     * @param p a propagator
+     * @return the record of <i>p</i>, created if needed
+     */
+    Record get(Propagator p) {
+        int i = indices.get(p.getId());
+        if (i == -1) {
+            i = records.size();
+            records.add(new Record(p.getConstraint() == null ?
+                    p.getClass().getSimpleName() : p.getConstraint().getName(), p));
+            indices.put(p.getId(), i);
+        }
+        return records.get(i);
+    }
+
+    /**
+     * Forget all statistics
+     */
+    public void reset() {
+        indices.clear();
+        records.clear();
+    }
+
+    /**
+     * @return the statistics per propagator, by decreasing time spent in the propagator
+     */
+    public List<Record> getRecords() {
+        List<Record> list = new ArrayList<>(records);
+        list.sort(Comparator.comparingLong(Record::getTime).reversed());
+        return list;
+    }
+
+    /**
+     * @return the statistics aggregated by constraint name, by decreasing time spent in the propagators
+     */
+    public List<Record> getRecordsPerConstraint() {
+        Map<String, Record> map = new HashMap<>();
+        for (Record r : records) {
+            map.computeIfAbsent(r.name, n -> new Record(n, null)).add(r);
+        }
+        List<Record> list = new ArrayList<>(map.values());
+        list.sort(Comparator.comparingLong(Record::getTime).reversed());
+        return list;
+    }
+
+    /**
+     * Print the statistics aggregated by constraint,
+     * then the statistics of the <i>top</i> most time consuming propagators.
+     *
+     * @param out where to print
+     * @param top maximum number of propagators to print
+     */
+    public void printReport(PrintStream out, int top) {
+        out.printf("- Propagation profile (%d propagators).\n", records.size());
+        out.print("\tPer constraint:\n");
+        for (Record r : getRecordsPerConstraint()) {
+            out.printf("\t\t%s\n", r);
+        }
+        out.print("\tPer propagator:\n");
+        List<Record> list = getRecords();
+        for (int i = 0; i < Math.min(top, list.size()); i++) {
+            out.printf("\t\t%s\n", list.get(i));
+        }
+    }
+}
@@ -13,14 +13,18 @@ import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.nary.lex.PropLexInt;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.objective.ParetoOptimizer;
 import org.chocosolver.solver.search.limits.ACounter;
+import org.chocosolver.solver.search.loop.monitors.SolutionPool;
+import org.chocosolver.solver.search.loop.monitors.SolutionSink;
 import org.chocosolver.solver.search.measure.IMeasures;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -145,6 +149,64 @@ public interface IResolutionHelper extends ISelf<Solver> {
         return solutions;
     }
 
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem,
+     * and records them in <i>pool</i> wrt to its eviction policy.
+     * <p>
+     * This method run the following instructions:
+     * <pre>
+     *     {@code
+     *     while (model.getSolver().solve()){
+     *          pool.record();
+     *     }
+     *     return pool;
+     *     }
+     * </pre>
+     *
+     * Note that it clears the current objective function, if any
+     *
+     * @param pool where to record solutions
+     * @param stop optional criterion to stop the search before finding all solutions
+     * @return <i>pool</i>
+     */
+    default SolutionPool findAllSolutions(SolutionPool pool, Criterion... stop) {
+        ref().getModel().clearObjective();
+        ref().addStopCriterion(stop);
+        while (ref().solve()) {
+            pool.record();
+        }
+        ref().removeStopCriterion(stop);
+        return pool;
+    }
+
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem,
+     * and writes each of them in <i>sink</i> as soon as it is found.
+     * The sink is flushed, but not closed, on return.
+     *
+     * Note that it clears the current objective function, if any
+     *
+     * @param sink where to write solutions
+     * @param stop optional criterion to stop the search before finding all solutions
+     * @return the number of solutions written
+     */
+    default long findAllSolutions(SolutionSink sink, Criterion... stop) {
+        ref().getModel().clearObjective();
+        ref().addStopCriterion(stop);
+        long count = 0;
+        while (ref().solve()) {
+            sink.onSolution();
+            count++;
+        }
+        ref().removeStopCriterion(stop);
+        try {
+            sink.flush();
+        } catch (IOException e) {
+            throw new SolverException("Cannot write solution: " + e.getMessage());
+        }
+        return count;
+    }
+
     /**
      * Attempts to find all solutions of the declared problem.
      * <ul>
@@ -0,0 +1,507 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * A bounded pool of solutions over integer variables.
+ * <p>
+ * Solutions are packed into a single array of integers, one row per solution and one column per variable,
+ * instead of one {@link Solution} (and its maps) per solution.
+ * When the pool is full, a new solution is kept or discarded wrt to the {@link Eviction} policy.
+ * Rows are not sorted, and removing a row moves the last one in its place.
+ * <p>
+ * The current solution is recorded by calling {@link #record()}, or on each solution when plugged as a monitor:
+ * <pre>
+ *     {@code
+ *     SolutionPool pool = SolutionPool.best(model, 10, obj, true, vars);
+ *     model.getSolver().plugMonitor(pool);
+ *     }
+ * </pre>
+ * A not instantiated variable is recorded with its lower bound.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class SolutionPool implements IMonitorSolution {
+
+    /**
+     * Policy applied when a solution is recorded in a full pool
+     */
+    public enum Eviction {
+        /**
+         * The new solution is discarded: the first solutions are kept
+         */
+        NONE,
+        /**
+         * The worst solution wrt to the objective is replaced by the new one, if it is better
+         */
+        BEST,
+        /**
+         * The solution with the closest neighbour (Hamming distance) is replaced by the new one,
+         * if it makes the pool more diverse
+         */
+        DIVERSE,
+        /**
+         * Only non-dominated solutions wrt to the objectives are kept.
+         * When the pool is full, the solution closest to the new one in the objective space (L1 distance) is replaced.
+         */
+        PARETO
+    }
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * Largest length of an array the JVM reliably allocates
+     */
+    private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final Model model;
+    private final IntVar[] vars;
+    private final IntVar[] objectives;
+    private final boolean maximize;
+    private final int capacity;
+    private final Eviction eviction;
+    /**
+     * Column of each variable, indexed by variable ID
+     */
+    private final TIntIntHashMap columns;
+    /**
+     * Values, one row of <i>vars.length</i> values per solution
+     */
+    private int[] values;
+    /**
+     * Objective values, one row of <i>objectives.length</i> values per solution
+     */
+    private int[] objs;
+    /**
+     * For {@link Eviction#DIVERSE}, distance to the closest other solution and its row
+     */
+    private int[] nearestDist, nearest;
+    /**
+     * Values of the current solution, and their distance to each row
+     */
+    private final int[] cur, curObj;
+    private int[] dist;
+    private int size;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    private SolutionPool(Model model, int capacity, Eviction eviction, IntVar[] objectives, boolean maximize, IntVar[] vars) {
+        if (capacity <= 0) {
+            throw new SolverException("The capacity of a solution pool should be positive");
+        }
+        this.model = model;
+        this.vars = vars.length == 0 ? model.retrieveIntVars(true) : vars.clone();
+        this.objectives = objectives.clone();
+        this.maximize = maximize;
+        this.capacity = capacity;
+        this.eviction = eviction;
+        this.columns = new TIntIntHashMap(this.vars.length, .5f, -1, -1);
+        for (int i = 0; i < this.vars.length; i++) {
+            columns.putIfAbsent(this.vars[i].getId(), i);
+        }
+        int rows = Math.min(capacity, 16);
+        this.values = new int[rows * this.vars.length];
+        this.objs = new int[rows * this.objectives.length];
+        this.cur = new int[this.vars.length];
+        this.curObj = new int[this.objectives.length];
+        if (eviction == Eviction.DIVERSE) {
+            this.nearestDist = new int[rows];
+            this.nearest = new int[rows];
+            this.dist = new int[rows];
+        }
+    }
+
+    /**
+     * Create an unbounded pool which keeps all solutions
+     *
+     * @param model the model
+     * @param vars  variables to record, all integer variables of <i>model</i> when empty
+     * @return a solution pool
+     */
+    public static SolutionPool all(Model model, IntVar... vars) {
+        return new SolutionPool(model, Integer.MAX_VALUE, Eviction.NONE, new IntVar[0], false, vars);
+    }
+
+    /**
+     * Create a pool which keeps the <i>capacity</i> first solutions
+     *
+     * @param model    the model
+     * @param capacity maximum number of solutions
+     * @param vars     variables to record, all integer variables of <i>model</i> when empty
+     * @return a solution pool
+     */
+    public static SolutionPool first(Model model, int capacity, IntVar... vars) {
+        return new SolutionPool(model, capacity, Eviction.NONE, new IntVar[0], false, vars);
+    }
+
+    /**
+     * Create a pool which keeps the <i>capacity</i> best solutions wrt to <i>objective</i>
+     *
+     * @param model     the model
+     * @param capacity  maximum number of solutions
+     * @param objective the objective variable
+     * @param maximize  set to <tt>true</tt> to keep the greatest values of <i>objective</i>
+     * @param vars      variables to record, all integer variables of <i>model</i> when empty
+     * @return a solution pool
+     */
+    public static SolutionPool best(Model model, int capacity, IntVar objective, boolean maximize, IntVar... vars) {
+        return new SolutionPool(model, capacity, Eviction.BEST, new IntVar[]{objective}, maximize, vars);
+    }
+
+    /**
+     * Create a pool which keeps <i>capacity</i> solutions as different as possible from each other
+     *
+     * @param model    the model
+     * @param capacity maximum number of solutions
+     * @param vars     variables to record, all integer variables of <i>model</i> when empty
+     * @return a solution pool
+     */
+    public static SolutionPool diverse(Model model, int capacity, IntVar... vars) {
+        return new SolutionPool(model, capacity, Eviction.DIVERSE, new IntVar[0], false, vars);
+    }
+
+    /**
+     * Create a pool which keeps at most <i>capacity</i> non-dominated solutions wrt to <i>objectives</i>
+     *
+     * @param model      the model
+     * @param capacity   maximum number of solutions
+     * @param objectives the objective variables
+     * @param maximize   set to <tt>true</tt> to maximize the objectives, <tt>false</tt> to minimize them
+     * @param vars       variables to record, all integer variables of <i>model</i> when empty
+     * @return a solution pool
+     */
+    public static SolutionPool pareto(Model model, int capacity, IntVar[] objectives, boolean maximize, IntVar... vars) {
+        return new SolutionPool(model, capacity, Eviction.PARETO, objectives, maximize, vars);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public void onSolution() {
+        record();
+    }
+
+    /**
+     * Record the current solution, wrt to the eviction policy
+     *
+     * @return <tt>true</tt> if the solution has been kept in the pool
+     */
+    public boolean record() {
+        for (int i = 0; i < vars.length; i++) {
+            cur[i] = vars[i].getLB();
+        }
+        for (int i = 0; i < objectives.length; i++) {
+            curObj[i] = objectives[i].getLB();
+        }
+        switch (eviction) {
+            case BEST:
+                return recordBest();
+            case DIVERSE:
+                return recordDiverse();
+            case PARETO:
+                return recordPareto();
+            case NONE:
+            default:
+                if (size == capacity) {
+                    return false;
+                }
+                set(size++);
+                return true;
+        }
+    }
+
+    private boolean recordBest() {
+        if (size < capacity) {
+            set(size++);
+            return true;
+        }
+        int worst = 0;
+        for (int r = 1; r < size; r++) {
+            if (better(objs[worst], objs[r])) {
+                worst = r;
+            }
+        }
+        if (better(curObj[0], objs[worst])) {
+            set(worst);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean better(int a, int b) {
+        return maximize ? a > b : a < b;
+    }
+
+    private boolean recordDiverse() {
+        int n = vars.length;
+        if (size < capacity) {
+            ensureCapacity(size + 1);
+        }
+        int dc = Integer.MAX_VALUE, nc = -1;
+        for (int r = 0; r < size; r++) {
+            int d = 0;
+            for (int i = 0, o = r * n; i < n; i++, o++) {
+                if (values[o] != cur[i]) {
+                    d++;
+                }
+            }
+            dist[r] = d;
+            if (d < dc) {
+                dc = d;
+                nc = r;
+            }
+        }
+        int slot;
+        if (size < capacity) {
+            slot = size++;
+        } else {
+            // the most crowded solution is replaced if the new one is farther from the others
+            slot = 0;
+            for (int r = 1; r < size; r++) {
+                if (nearestDist[r] < nearestDist[slot]) {
+                    slot = r;
+                }
+            }
+            dc = Integer.MAX_VALUE;
+            nc = -1;
+            for (int r = 0; r < size; r++) {
+                if (r != slot && dist[r] < dc) {
+                    dc = dist[r];
+                    nc = r;
+                }
+            }
+            if (dc <= nearestDist[slot]) {
+                return false;
+            }
+        }
+        set(slot);
+        nearestDist[slot] = dc;
+        nearest[slot] = nc;
+        for (int r = 0; r < size; r++) {
+            if (r != slot) {
+                if (nearest[r] == slot) {
+                    updateNearest(r);
+                } else if (dist[r] < nearestDist[r]) {
+                    nearestDist[r] = dist[r];
+                    nearest[r] = slot;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void updateNearest(int r) {
+        int n = vars.length;
+        nearestDist[r] = Integer.MAX_VALUE;
+        nearest[r] = -1;
+        for (int q = 0; q < size; q++) {
+            if (q != r) {
+                int d = 0;
+                for (int i = 0, o1 = r * n, o2 = q * n; i < n; i++, o1++, o2++) {
+                    if (values[o1] != values[o2]) {
+                        d++;
+                    }
+                }
+                if (d < nearestDist[r]) {
+                    nearestDist[r] = d;
+                    nearest[r] = q;
+                }
+            }
+        }
+    }
+
+    private boolean recordPareto() {
+        int m = objectives.length;
+        for (int r = 0; r < size; r++) {
+            if (weaklyDominates(r)) {
+                return false;
+            }
+        }
+        // remove the solutions dominated by the new one
+        for (int r = size - 1; r >= 0; r--) {
+            if (dominated(r)) {
+                remove(r);
+            }
+        }
+        if (size < capacity) {
+            set(size++);
+        } else {
+            int closest = 0;
+            long best = Long.MAX_VALUE;
+            for (int r = 0; r < size; r++) {
+                long d = 0;
+                for (int i = 0, o = r * m; i < m; i++, o++) {
+                    d += Math.abs((long) objs[o] - curObj[i]);
+                }
+                if (d < best) {
+                    best = d;
+                    closest = r;
+                }
+            }
+            set(closest);
+        }
+        return true;
+    }
+
+    /**
+     * @return <tt>true</tt> if the solution in row <i>r</i> is at least as good as the current one on each objective
+     */
+    private boolean weaklyDominates(int r) {
+        for (int i = 0, o = r * objectives.length; i < objectives.length; i++, o++) {
+            if (better(curObj[i], objs[o])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return <tt>true</tt> if the solution in row <i>r</i> is dominated by the current one
+     */
+    private boolean dominated(int r) {
+        boolean strict = false;
+        for (int i = 0, o = r * objectives.length; i < objectives.length; i++, o++) {
+            if (better(objs[o], curObj[i])) {
+                return false;
+            }
+            strict |= curObj[i] != objs[o];
+        }
+        return strict;
+    }
+
+    private void set(int r) {
+        ensureCapacity(r + 1);
+        System.arraycopy(cur, 0, values, r * vars.length, vars.length);
+        System.arraycopy(curObj, 0, objs, r * objectives.length, objectives.length);
+    }
+
+    private void remove(int r) {
+        size--;
+        System.arraycopy(values, size * vars.length, values, r * vars.length, vars.length);
+        System.arraycopy(objs, size * objectives.length, objs, r * objectives.length, objectives.length);
+    }
+
+    private void ensureCapacity(int rows) {
+        int n = vars.length;
+        if (rows * (long) n > values.length || (nearest != null && rows > nearest.length)) {
+            // rows are packed in arrays, whose length is bounded
+            long max = MAX_LENGTH / Math.max(Math.max(n, objectives.length), 1);
+            if (rows > max) {
+                throw new SolverException("A solution pool cannot store more than " + max + " solutions of "
+                        + n + " variables");
+            }
+            int nrows = (int) Math.min(Math.min(capacity, max),
+                    Math.max(rows, 2L * Math.max(values.length / Math.max(n, 1), 1)));
+            values = Arrays.copyOf(values, nrows * n);
+            objs = Arrays.copyOf(objs, nrows * objectives.length);
+            if (nearest != null) {
+                nearestDist = Arrays.copyOf(nearestDist, nrows);
+                nearest = Arrays.copyOf(nearest, nrows);
+                dist = Arrays.copyOf(dist, nrows);
+            }
+        }
+    }
+
+    /**
+     * Remove all solutions from the pool
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return the number of solutions in the pool
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of solutions in the pool
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the eviction policy of the pool
+     */
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    /**
+     * @return the recorded variables
+     */
+    public IntVar[] getVars() {
+        return vars.clone();
+    }
+
+    /**
+     * Get the value of <i>var</i> in the solution of row <i>r</i>
+     *
+     * @param r   a row, in [0, {@link #size()})
+     * @param var a recorded variable
+     * @return its value
+     * @throws SolverException if <i>var</i> is not recorded in this pool
+     */
+    public int getIntVal(int r, IntVar var) {
+        checkRow(r);
+        int c = columns.get(var.getId());
+        if (c == -1) {
+            throw new SolverException("Cannot access value of " + var + ": This variable is not recorded in the pool.");
+        }
+        return values[r * vars.length + c];
+    }
+
+    /**
+     * @param r a row, in [0, {@link #size()})
+     * @return a copy of the values of the solution of row <i>r</i>, in the order of {@link #getVars()}
+     */
+    public int[] getValues(int r) {
+        checkRow(r);
+        return Arrays.copyOfRange(values, r * vars.length, (r + 1) * vars.length);
+    }
+
+    /**
+     * @param r a row, in [0, {@link #size()})
+     * @return a new {@link Solution} storing the values of the solution of row <i>r</i>
+     */
+    public Solution getSolution(int r) {
+        checkRow(r);
+        Solution solution = new Solution(model, vars);
+        for (int i = 0, o = r * vars.length; i < vars.length; i++, o++) {
+            solution.setIntVal(vars[i], values[o]);
+        }
+        return solution;
+    }
+
+    private void checkRow(int r) {
+        if (r < 0 || r >= size) {
+            throw new SolverException("No solution in row " + r + " of the pool (size: " + size + ")");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A monitor which writes each solution as soon as it is found, instead of storing it.
+ * <p>
+ * The output is in CSV format: a header line with the names of the variables,
+ * then one line per solution with the values of the variables.
+ * <pre>
+ *     {@code
+ *     try (SolutionSink sink = new SolutionSink(Paths.get("solutions.csv"), vars)) {
+ *         model.getSolver().findAllSolutions(sink);
+ *     }
+ *     }
+ * </pre>
+ * A not instantiated variable is written with its lower bound.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class SolutionSink implements IMonitorSolution, Closeable {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final IntVar[] vars;
+    private final Writer out;
+    private final StringBuilder line;
+    private long count;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Create a sink writing the solutions in <i>out</i>
+     *
+     * @param out  where to write solutions
+     * @param vars variables to write
+     */
+    public SolutionSink(Writer out, IntVar... vars) {
+        this.vars = vars.clone();
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+        this.line = new StringBuilder();
+        for (int i = 0; i < vars.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(vars[i].getName());
+        }
+        write();
+    }
+
+    /**
+     * Create a sink writing the solutions in <i>channel</i>, in UTF-8
+     *
+     * @param channel where to write solutions
+     * @param vars    variables to write
+     */
+    public SolutionSink(WritableByteChannel channel, IntVar... vars) {
+        this(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1), vars);
+    }
+
+    /**
+     * Create a sink writing the solutions in the file <i>path</i>, in UTF-8.
+     * The file is created, or truncated if it already exists.
+     *
+     * @param path where to write solutions
+     * @param vars variables to write
+     * @throws IOException if the file cannot be opened
+     */
+    public SolutionSink(Path path, IntVar... vars) throws IOException {
+        this(Files.newBufferedWriter(path, StandardCharsets.UTF_8), vars);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public void onSolution() {
+        line.setLength(0);
+        for (int i = 0; i < vars.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(vars[i].getLB());
+        }
+        write();
+        count++;
+    }
+
+    private void write() {
+        try {
+            out.append(line).append('\n');
+        } catch (IOException e) {
+            throw new SolverException("Cannot write solution: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the number of solutions written
+     */
+    public long getSolutionCount() {
+        return count;
+    }
+
+    /**
+     * Flush the solutions written so far
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
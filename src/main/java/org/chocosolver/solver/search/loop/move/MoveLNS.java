@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.search.loop.move;
 
+import org.chocosolver.solver.ResolutionPolicy;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
@@ -15,6 +16,7 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.learn.Implications;
+import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.Neighbor;
 import org.chocosolver.solver.search.strategy.decision.RootDecision;
@@ -68,6 +70,11 @@ public class MoveLNS implements Move {
 
     private boolean canApplyNeighborhood;
 
+    /**
+     * A solution to restart from, imported on the next call to {@link #repair(Solver)}
+     */
+    private Solution pending;
+
     /**
      * Create a move which defines a Large Neighborhood Search.
      * @param move how the subtree is explored
@@ -200,12 +207,19 @@ public class MoveLNS implements Move {
                 assert solutions == solver.getSolutionCount() - 1;
                 solutions++;
                 neighbor.recordSolution();
+                if (pending != null && !improves(solver, pending)) {
+                    pending = null;
+                }
                 doRestart(solver);
             }
             // when posting the cut directly at root node fails
             else if (freshRestart) {
                 repair = false;
             }
+            // a solution has been imported
+            else if (pending != null) {
+                doRestart(solver);
+            }
             // the current sub-tree has been entirely explored
             else if (!(repair = move.repair(solver))) {
                 // but the neighbor cannot ensure completeness
@@ -242,6 +256,30 @@ public class MoveLNS implements Move {
         }
     }
 
+    /**
+     * Give a solution to restart from, once at least one solution has been found.
+     * Unlike {@link #loadFromSolution(Solution, Solver)}, the search is not restarted immediately:
+     * the solution is loaded on the next call to {@link #repair(Solver)}, which then restarts the search,
+     * unless a solution at least as good is found before.
+     * @param solution a solution to restart from, not modified afterwards
+     */
+    public void importSolution(Solution solution) {
+        pending = solution;
+    }
+
+    /**
+     * @return <tt>true</tt> if <i>solution</i> is strictly better than the best solution found by <i>solver</i>
+     */
+    private static boolean improves(Solver solver, Solution solution) {
+        IObjectiveManager<Variable> om = solver.getObjectiveManager();
+        if (!om.isOptimization() || !(om.getObjective() instanceof IntVar)) {
+            return false;
+        }
+        int val = solution.getIntVal((IntVar) om.getObjective());
+        int best = om.getBestSolutionValue().intValue();
+        return om.getPolicy() == ResolutionPolicy.MAXIMIZE ? val > best : val < best;
+    }
+
     @Override
     public void setTopDecisionPosition(int position) {
         move.setTopDecisionPosition(position);
@@ -263,6 +301,10 @@ public class MoveLNS implements Move {
      * @param solver SearchLoop
      */
     private void doRestart(Solver solver) {
+        if (pending != null) {
+            neighbor.loadFromSolution(pending);
+            pending = null;
+        }
         if (!freshRestart) {
             neighbor.restrictLess();
         }
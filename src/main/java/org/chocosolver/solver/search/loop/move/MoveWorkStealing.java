@@ -0,0 +1,102 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.parallel.Cube;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.IntMap;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * A move dedicated to run a Depth First Search with binary decisions, which gives away part of its search tree
+ * to idle workers (work stealing).
+ * <p>
+ * Before opening a new node, if some work is requested, the oldest open decision of the decision path
+ * (that is, the closest to the root node which has not been refuted yet) is given away:
+ * the path of decisions leading to its refutation is sent as a {@link Cube}
+ * and the decision is made not refutable, so that its right branch is not explored by this move.
+ * The receiver rebuilds the state by replaying the decisions of the cube on its own model.
+ * </p>
+ * <p>
+ * Only decisions on shared integer variables can be given away.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class MoveWorkStealing extends MoveBinaryDFS {
+
+    /**
+     * Map (variable id - index of the variable in the shared variables)
+     */
+    private final IntMap vid2idx;
+
+    /**
+     * Indicates whether some work is requested
+     */
+    private final BooleanSupplier requested;
+
+    /**
+     * Receives the work given away
+     */
+    private final Consumer<Cube> thief;
+
+    /**
+     * Create a DFS with binary decisions which gives away part of its search tree
+     *
+     * @param strategy  how (binary) decisions are selected
+     * @param shared    variables referred to by cubes
+     * @param requested indicates whether some work is requested
+     * @param thief     receives the work given away
+     */
+    public MoveWorkStealing(AbstractStrategy strategy, Variable[] shared, BooleanSupplier requested, Consumer<Cube> thief) {
+        super(strategy);
+        this.vid2idx = new IntMap(shared.length * 3 / 2 + 1, -1);
+        for (int i = 0; i < shared.length; i++) {
+            vid2idx.put(shared[i].getId(), i);
+        }
+        this.requested = requested;
+        this.thief = thief;
+    }
+
+    @Override
+    public boolean extend(Solver solver) {
+        if (requested.getAsBoolean()) {
+            giveAway(solver.getDecisionPath());
+        }
+        return super.extend(solver);
+    }
+
+    /**
+     * Give away the right branch of the oldest open decision of <i>path</i>, if any
+     *
+     * @param path the decision path
+     */
+    private void giveAway(DecisionPath path) {
+        for (int p = topDecisionPosition + 1; p < path.size(); p++) {
+            Decision decision = path.getDecision(p);
+            if (decision.hasNext()) {
+                Cube cube = Cube.of(path, p, vid2idx, true);
+                if (cube != null) {
+                    decision.setRefutable(false);
+                    thief.accept(cube);
+                }
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.IntMap;
+
+import java.util.Arrays;
+
+/**
+ * A sub-problem of a search tree, described by a conjunction of decisions
+ * (for instance, <i>x<sub>1</sub> = 3 &and; x<sub>4</sub> &ne; 2</i>).
+ * <p>
+ * A cube is independent of any model: variables are referred to by their index in an array of shared variables,
+ * so that it can be replayed in any copy of the model it comes from.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public final class Cube {
+
+    /**
+     * Index of the variable of each decision
+     */
+    private final int[] indices;
+
+    /**
+     * Operator of each decision
+     */
+    private final DecisionOperator<IntVar>[] operators;
+
+    /**
+     * Value of each decision
+     */
+    private final int[] values;
+
+    /**
+     * Create a cube
+     *
+     * @param indices   index of the variable of each decision
+     * @param operators operator of each decision
+     * @param values    value of each decision
+     */
+    public Cube(int[] indices, DecisionOperator<IntVar>[] operators, int[] values) {
+        if (indices.length != operators.length || indices.length != values.length) {
+            throw new IllegalArgumentException("indices, operators and values must have the same length");
+        }
+        this.indices = indices.clone();
+        this.operators = operators.clone();
+        this.values = values.clone();
+    }
+
+    /**
+     * Convert the decisions of <i>path</i>, from position 1 (ROOT is ignored) to position <i>last</i>, into a cube.
+     * Decisions are expressed as applied, that is, <i>x &ne; v</i> for a refuted decision <i>x = v</i>.
+     *
+     * @param path       a decision path
+     * @param last       position of the last decision to convert
+     * @param vid2idx    map (variable id - index of the variable in the shared variables)
+     * @param refuteLast set to <tt>true</tt> to express the last decision as refuted,
+     *                   that is, as it will be once its next branch is built
+     * @return a cube, or <tt>null</tt> if a decision is not based on a shared integer variable
+     */
+    @SuppressWarnings("unchecked")
+    public static Cube of(DecisionPath path, int last, IntMap vid2idx, boolean refuteLast) {
+        int[] indices = new int[last];
+        DecisionOperator<IntVar>[] operators = new DecisionOperator[last];
+        int[] values = new int[last];
+        for (int i = 0; i < last; i++) {
+            Decision d = path.getDecision(i + 1);
+            if (!(d instanceof IntDecision)) {
+                return null;
+            }
+            IntDecision decision = (IntDecision) d;
+            indices[i] = vid2idx.get(decision.getDecisionVariable().getId());
+            if (indices[i] < 0) {
+                return null;
+            }
+            int branch = decision.getArity() - decision.triesLeft();
+            if (i == last - 1 && refuteLast) {
+                branch++;
+            }
+            if (branch == 1) {
+                operators[i] = decision.getDecOp();
+                values[i] = decision.getDecisionValue();
+            } else {
+                IntDecision flip = decision.flip();
+                operators[i] = flip.getDecOp();
+                values[i] = flip.getDecisionValue();
+                flip.free();
+            }
+        }
+        return new Cube(indices, operators, values);
+    }
+
+    /**
+     * @return number of decisions in this cube
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * @param i index of a decision
+     * @return index of the variable of the <i>i</i>th decision
+     */
+    public int getIndex(int i) {
+        return indices[i];
+    }
+
+    /**
+     * @param i index of a decision
+     * @return operator of the <i>i</i>th decision
+     */
+    public DecisionOperator<IntVar> getOperator(int i) {
+        return operators[i];
+    }
+
+    /**
+     * @param i index of a decision
+     * @return value of the <i>i</i>th decision
+     */
+    public int getValue(int i) {
+        return values[i];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder("Cube[");
+        for (int i = 0; i < indices.length; i++) {
+            if (i > 0) {
+                st.append(", ");
+            }
+            st.append(indices[i]).append(operators[i]).append(values[i]);
+        }
+        return st.append(']').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Cube cube = (Cube) o;
+        return Arrays.equals(indices, cube.indices)
+                && Arrays.equals(operators, cube.operators)
+                && Arrays.equals(values, cube.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(indices);
+        result = 31 * result + Arrays.hashCode(operators);
+        result = 31 * result + Arrays.hashCode(values);
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * A search strategy which first replays the decisions of a {@link Cube}, then relies on another strategy.
+ * <p>
+ * The decisions of the cube are not refutable, so the search is restricted to the sub-tree described by the cube:
+ * once the first decision is backtracked, the search is over.
+ * Since the number of decisions already replayed is backtrackable, the cube is replayed again on restarts.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public class CubeStrategy extends AbstractStrategy<Variable> {
+
+    /**
+     * Strategy to apply once the cube has been replayed
+     */
+    private final AbstractStrategy<Variable> strategy;
+
+    /**
+     * Variables referred to by cubes
+     */
+    private final Variable[] shared;
+
+    /**
+     * Number of decisions of the cube already replayed
+     */
+    private final IStateInt next;
+
+    /**
+     * The cube to replay, can be <tt>null</tt>
+     */
+    private Cube cube;
+
+    /**
+     * Create a strategy which replays cubes before applying <i>strategy</i>
+     *
+     * @param model    the model
+     * @param shared   variables referred to by cubes
+     * @param strategy strategy to apply once a cube has been replayed
+     */
+    public CubeStrategy(Model model, Variable[] shared, AbstractStrategy<Variable> strategy) {
+        super(strategy.getVariables());
+        this.strategy = strategy;
+        this.shared = shared;
+        this.next = model.getEnvironment().makeInt(0);
+    }
+
+    /**
+     * Set the cube to replay on the next resolution, <tt>null</tt> to only apply the inner strategy.
+     * This must be called before the resolution starts, or after a reset.
+     *
+     * @param cube a cube
+     */
+    public void setCube(Cube cube) {
+        this.cube = cube;
+    }
+
+    /**
+     * @return the cube to replay, can be <tt>null</tt>
+     */
+    public Cube getCube() {
+        return cube;
+    }
+
+    /**
+     * @return the strategy applied once the cube has been replayed
+     */
+    public AbstractStrategy<Variable> getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public boolean init() {
+        return strategy.init();
+    }
+
+    @Override
+    public void remove() {
+        strategy.remove();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Decision<Variable> getDecision() {
+        if (cube != null) {
+            int i = next.get();
+            if (i < cube.size()) {
+                next.set(i + 1);
+                IntVar var = (IntVar) shared[cube.getIndex(i)];
+                IntDecision d = var.getModel().getSolver().getDecisionPath()
+                        .makeIntDecision(var, cube.getOperator(i), cube.getValue(i));
+                d.setRefutable(false);
+                return (Decision) d;
+            }
+        }
+        return strategy.getDecision();
+    }
+}
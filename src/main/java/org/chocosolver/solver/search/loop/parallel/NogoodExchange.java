@@ -0,0 +1,169 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free buffer to exchange nogoods between solvers running in parallel.
+ * <p>
+ * Any solver can publish a nogood and every solver reads the nogoods published by the others,
+ * each reader maintaining its own cursor.
+ * The buffer is circular: when a reader is too slow, the oldest nogoods are overwritten and thus lost for it.
+ * Since nogoods only strengthen the filtering, losing some of them does not alter the correctness of the resolution.
+ * </p>
+ * <p>
+ * A nogood is a clause, that is a disjunction of literals, stored in a model-independent way:
+ * each literal is a triplet <i>(index of the variable, value, flags)</i>,
+ * where the first bit of <i>flags</i> is set when the literal is positive,
+ * and the second bit of <i>flags</i> is set when the literal encodes '=' (it encodes '&le;' otherwise).
+ * The index of a variable refers to its position in the array of variables shared by all solvers.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public class NogoodExchange {
+
+    /**
+     * Flag set when a literal is positive
+     */
+    public static final int POSITIVE = 0b01;
+
+    /**
+     * Flag set when a literal encodes '='
+     */
+    public static final int EQUALITY = 0b10;
+
+    /**
+     * A shared nogood
+     */
+    public static final class Nogood {
+        /**
+         * Sequence number of this nogood in the exchange
+         */
+        private final long seq;
+        /**
+         * Identifier of the publisher
+         */
+        private final int source;
+        /**
+         * Literals, as triplets (index, value, flags)
+         */
+        private final int[] literals;
+
+        private Nogood(long seq, int source, int[] literals) {
+            this.seq = seq;
+            this.source = source;
+            this.literals = literals;
+        }
+
+        /**
+         * @return the number of literals in this nogood
+         */
+        public int size() {
+            return literals.length / 3;
+        }
+
+        /**
+         * @param i index of a literal
+         * @return the index of the variable of the i^th literal
+         */
+        public int getIndex(int i) {
+            return literals[3 * i];
+        }
+
+        /**
+         * @param i index of a literal
+         * @return the value of the i^th literal
+         */
+        public int getValue(int i) {
+            return literals[3 * i + 1];
+        }
+
+        /**
+         * @param i index of a literal
+         * @return the flags of the i^th literal
+         */
+        public int getFlags(int i) {
+            return literals[3 * i + 2];
+        }
+    }
+
+    /**
+     * Circular buffer of nogoods
+     */
+    private final AtomicReferenceArray<Nogood> buffer;
+
+    /**
+     * Mask to compute position in {@link #buffer}
+     */
+    private final int mask;
+
+    /**
+     * Sequence number of the next nogood to publish
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Create a buffer to exchange nogoods.
+     * @param capacity maximum number of nogoods stored, rounded to the next power of 2
+     */
+    public NogoodExchange(int capacity) {
+        int c = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(c);
+        this.mask = c - 1;
+    }
+
+    /**
+     * @return the maximum number of nogoods stored
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Publish a nogood.
+     * @param source identifier of the publisher
+     * @param literals literals, as triplets (index, value, flags).
+     *                 The array should not be modified once published.
+     */
+    public void publish(int source, int[] literals) {
+        long seq = head.getAndIncrement();
+        buffer.set((int) (seq & mask), new Nogood(seq, source, literals));
+    }
+
+    /**
+     * Consume nogoods published by other publishers than <i>reader</i>, from sequence number <i>from</i>.
+     * Nogoods that are overwritten are skipped.
+     * @param reader identifier of the reader
+     * @param from sequence number of the first nogood to read (0 on the first call)
+     * @param consumer action to execute on each nogood
+     * @return the sequence number to use on the next call
+     */
+    public long pull(int reader, long from, Consumer<Nogood> consumer) {
+        long to = head.get();
+        long s = Math.max(from, to - capacity());
+        for (; s < to; s++) {
+            Nogood ng = buffer.get((int) (s & mask));
+            if (ng == null || ng.seq < s) {
+                // not published yet, will be read later
+                break;
+            }
+            if (ng.seq == s && ng.source != reader) {
+                consumer.accept(ng);
+            }
+        }
+        return s;
+    }
+}
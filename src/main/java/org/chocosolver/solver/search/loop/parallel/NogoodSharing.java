@@ -0,0 +1,156 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import org.chocosolver.sat.PropNogoods;
+import org.chocosolver.sat.SatSolver;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.IntMap;
+
+/**
+ * A search monitor which shares the nogoods learnt by a solver with other solvers, through a {@link NogoodExchange}.
+ * <p>
+ * Each clause added to the nogood store of the model (see {@link Model#getNogoodStore()}),
+ * for instance by {@link org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts},
+ * is published if it is short enough and only involves shared variables.
+ * Nogoods published by other solvers are imported on restarts.
+ * </p>
+ * <p>
+ * All solvers must declare the same shared variables, in the same order.
+ * Nogoods learnt while running a LNS are not published since they only hold in a neighborhood.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public class NogoodSharing implements IMonitorRestart {
+
+    /**
+     * The shared buffer
+     */
+    private final NogoodExchange exchange;
+
+    /**
+     * Identifier of this in the exchange
+     */
+    private final int id;
+
+    /**
+     * Maximum number of literals of a nogood to be published
+     */
+    private final int maxSize;
+
+    /**
+     * Variables shared among solvers
+     */
+    private final Variable[] shared;
+
+    /**
+     * Map (variable id - index of the variable in {@link #shared})
+     */
+    private final IntMap vid2idx;
+
+    /**
+     * The nogood store of the observed model
+     */
+    private final PropNogoods png;
+
+    /**
+     * The observed solver
+     */
+    private final Solver solver;
+
+    /**
+     * Sequence number of the next nogood to read from {@link #exchange}
+     */
+    private long cursor;
+
+    /**
+     * Set to <tt>true</tt> when importing nogoods, to avoid publishing them back
+     */
+    private boolean importing;
+
+    /**
+     * Create a monitor to share nogoods of <i>model</i>.
+     * @param model the model to observe
+     * @param shared variables shared among solvers, in the same order in all solvers
+     * @param exchange the shared buffer
+     * @param id identifier of this, unique among solvers
+     * @param maxSize maximum number of literals of a nogood to be published
+     */
+    public NogoodSharing(Model model, Variable[] shared, NogoodExchange exchange, int id, int maxSize) {
+        this.solver = model.getSolver();
+        this.shared = shared;
+        this.exchange = exchange;
+        this.id = id;
+        this.maxSize = maxSize;
+        this.vid2idx = new IntMap(shared.length * 3 / 2 + 1, -1);
+        for (int i = 0; i < shared.length; i++) {
+            vid2idx.put(shared[i].getId(), i);
+        }
+        this.png = model.getNogoodStore().getPropNogoods();
+        this.png.setLearntObserver(this::publish);
+    }
+
+    /**
+     * Publish a clause, if it is short enough and only involves shared variables.
+     * @param lits literals of the clause
+     */
+    private void publish(int[] lits) {
+        if (importing || lits.length > maxSize || solver.getMove() instanceof MoveLNS) {
+            return;
+        }
+        int[] literals = new int[3 * lits.length];
+        for (int i = 0; i < lits.length; i++) {
+            int idx = vid2idx.get(png.getVariable(lits[i]).getId());
+            if (idx == -1) {
+                return;
+            }
+            literals[3 * i] = idx;
+            literals[3 * i + 1] = png.getValue(lits[i]);
+            literals[3 * i + 2] = (png.isPositive(lits[i]) ? NogoodExchange.POSITIVE : 0)
+                    | (png.isEquality(lits[i]) ? NogoodExchange.EQUALITY : 0);
+        }
+        exchange.publish(id, literals);
+    }
+
+    /**
+     * Add a nogood published by another solver to the nogood store.
+     * @param ng a nogood
+     */
+    private void load(NogoodExchange.Nogood ng) {
+        int[] lits = new int[ng.size()];
+        for (int i = 0; i < lits.length; i++) {
+            int flags = ng.getFlags(i);
+            lits[i] = png.Literal((IntVar) shared[ng.getIndex(i)], ng.getValue(i),
+                    (flags & NogoodExchange.EQUALITY) != 0);
+            if ((flags & NogoodExchange.POSITIVE) == 0) {
+                lits[i] = SatSolver.negated(lits[i]);
+            }
+        }
+        png.addLearnt(lits);
+    }
+
+    @Override
+    public void beforeRestart() {
+        importing = true;
+        try {
+            cursor = exchange.pull(id, cursor, this::load);
+        } finally {
+            importing = false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import org.chocosolver.solver.Solution;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free holder to exchange the incumbent solution between solvers running in parallel.
+ * <p>
+ * Only the last published solution is kept: it is expected to be the best one found so far by any solver.
+ * Each publication is stamped, so that a reader can tell whether the incumbent changed since its last read.
+ * A published solution must not be modified afterwards.
+ * </p>
+ * <p>
+ * Since a {@link Solution} stores values by variable identifiers,
+ * all solvers must declare the same variables, with the same identifiers.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class SolutionExchange {
+
+    /**
+     * A shared solution
+     */
+    public static final class Incumbent {
+        /**
+         * Stamp of this incumbent, strictly increasing with publications
+         */
+        private final long stamp;
+        /**
+         * Identifier of the publisher
+         */
+        private final int source;
+        /**
+         * The solution
+         */
+        private final Solution solution;
+
+        private Incumbent(long stamp, int source, Solution solution) {
+            this.stamp = stamp;
+            this.source = source;
+            this.solution = solution;
+        }
+
+        /**
+         * @return the stamp of this incumbent, strictly increasing with publications
+         */
+        public long getStamp() {
+            return stamp;
+        }
+
+        /**
+         * @return the identifier of the publisher
+         */
+        public int getSource() {
+            return source;
+        }
+
+        /**
+         * @return the solution
+         */
+        public Solution getSolution() {
+            return solution;
+        }
+    }
+
+    /**
+     * The last published solution, <tt>null</tt> if none
+     */
+    private final AtomicReference<Incumbent> incumbent = new AtomicReference<>();
+
+    /**
+     * Publish a new incumbent solution.
+     * @param source identifier of the publisher
+     * @param solution a recorded solution, not modified once published
+     */
+    public void publish(int source, Solution solution) {
+        incumbent.updateAndGet(i -> new Incumbent(i == null ? 1 : i.stamp + 1, source, solution));
+    }
+
+    /**
+     * @return the last published solution, or <tt>null</tt> if none was published
+     */
+    public Incumbent get() {
+        return incumbent.get();
+    }
+}
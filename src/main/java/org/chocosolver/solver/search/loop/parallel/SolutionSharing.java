@@ -0,0 +1,82 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+
+/**
+ * A search monitor which seeds a Large Neighborhood Search with the incumbent solution
+ * published by other solvers in a {@link SolutionExchange}.
+ * <p>
+ * Before opening a node, if another solver published a new incumbent,
+ * it is given to {@link MoveLNS#importSolution(org.chocosolver.solver.Solution)}:
+ * on the next repair, the LNS restarts the search and builds the next neighborhoods around it.
+ * The search is not restarted from this monitor, which is called while extending the decision path.
+ * A solution is only imported once the observed solver has found one on its own,
+ * the LNS being not active before that.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class SolutionSharing implements IMonitorOpenNode {
+
+    /**
+     * The shared incumbent
+     */
+    private final SolutionExchange exchange;
+
+    /**
+     * Identifier of this in the exchange
+     */
+    private final int id;
+
+    /**
+     * The observed solver
+     */
+    private final Solver solver;
+
+    /**
+     * The LNS of the observed solver
+     */
+    private final MoveLNS lns;
+
+    /**
+     * Stamp of the last incumbent read from {@link #exchange}
+     */
+    private long stamp;
+
+    /**
+     * Create a monitor to import incumbent solutions in <i>solver</i>.
+     * @param solver the solver to observe, whose move is a {@link MoveLNS}
+     * @param exchange the shared incumbent
+     * @param id identifier of this, unique among solvers
+     */
+    public SolutionSharing(Solver solver, SolutionExchange exchange, int id) {
+        this.solver = solver;
+        this.lns = (MoveLNS) solver.getMove();
+        this.exchange = exchange;
+        this.id = id;
+    }
+
+    @Override
+    public void beforeOpenNode() {
+        SolutionExchange.Incumbent inc = exchange.get();
+        if (inc != null && inc.getStamp() > stamp && solver.getSolutionCount() > 0) {
+            stamp = inc.getStamp();
+            if (inc.getSource() != id) {
+                lns.importSolution(inc.getSolution());
+            }
+        }
+    }
+}
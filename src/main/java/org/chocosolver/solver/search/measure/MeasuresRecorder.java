@@ -9,6 +9,7 @@
 package org.chocosolver.solver.search.measure;
 
 import org.chocosolver.solver.objective.IBoundsManager;
+import org.chocosolver.solver.propagation.PropagationProfiler;
 import org.chocosolver.solver.search.SearchState;
 
 import java.io.IOException;
@@ -34,6 +35,11 @@ public final class MeasuresRecorder extends Measures {
 
     transient private LongSupplier currentNanoTime;
 
+    /**
+     * Statistics on propagators, <tt>null</tt> unless propagation is profiled
+     */
+    transient private PropagationProfiler propagationProfiler;
+
     /**
      * Create a measures recorder
      */
@@ -105,6 +111,25 @@ public final class MeasuresRecorder extends Measures {
         restartCount = 0;
         depth = 0;
         maxDepth = 0;
+        if (propagationProfiler != null) {
+            propagationProfiler.reset();
+        }
+    }
+
+    /**
+     * @return statistics on propagators, or <tt>null</tt> if propagation is not profiled
+     * @see org.chocosolver.solver.Solver#profilePropagation()
+     */
+    public PropagationProfiler getPropagationProfiler() {
+        return propagationProfiler;
+    }
+
+    /**
+     * Set the statistics on propagators, reset with the other measures
+     * @param propagationProfiler statistics on propagators
+     */
+    public void setPropagationProfiler(PropagationProfiler propagationProfiler) {
+        this.propagationProfiler = propagationProfiler;
     }
 
     //****************************************************************************************************************//
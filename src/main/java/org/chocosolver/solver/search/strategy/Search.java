@@ -275,6 +275,18 @@ public class Search {
         return new DomOverWDeg(vars, 0, new IntDomainMin());
     }
 
+    /**
+     * Assignment strategy which selects a variable according to <code>DomOverVarWeight</code> and assign it to its lower bound.
+     * Unlike <code>DomOverWDeg</code>, failures are counted on variables instead of propagators.
+     * Variables are maintained in a heap, which makes this strategy suited for models with many variables.
+     * @param vars list of variables
+     * @return assignment strategy
+     * @see DomOverVarWeight
+     */
+    public static AbstractStrategy<IntVar> domOverVarWeightSearch(IntVar... vars) {
+        return new DomOverVarWeight(vars, new IntDomainMin());
+    }
+
     /**
      * Create an Activity based search strategy.
      * <p>
@@ -246,7 +246,9 @@ public interface IVariableFactory extends ISelf<Model> {
 
     /**
      * Create an integer variable of initial domain <i>values</i>
-     * Uses an enumerated domain that supports holes
+     * Uses an enumerated domain that supports holes.
+     * When <i>values</i> are spread over a large span but mostly form ranges of consecutive values,
+     * the domain is stored as a list of ranges.
      * @param name name of the variable
      * @param values initial domain
      * @return an IntVar of domain <i>values</i>
@@ -260,7 +262,20 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else {
             int gap = values[values.length - 1] - values[0];
-            if (gap > 30 && gap / values.length > 5) {
+            boolean sparse = gap > 30 && gap / values.length > 5;
+            if (sparse || gap >= ref().getSettings().getMaxDomSizeForEnumerated()) {
+                int ranges = 1;
+                for (int i = 1; i < values.length; i++) {
+                    if (values[i] > values[i - 1] + 1) {
+                        ranges++;
+                    }
+                }
+                // in average, at least 4 consecutive values per range
+                if (ranges * 4 <= values.length) {
+                    return new RangeSetIntVarImpl(name, values, ref());
+                }
+            }
+            if (sparse) {
                 return new BitsetArrayIntVarImpl(name, values, ref());
             } else {
                 return new BitsetIntVarImpl(name, values, ref());
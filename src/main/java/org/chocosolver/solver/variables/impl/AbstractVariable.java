@@ -466,12 +466,20 @@ public abstract class AbstractVariable implements Variable {
         assert cause != null:"an event's cause is not supposed to be null";
         if(this.cause == null){
             this.cause = cause;
-        }else{
+        }else if(this.cause != cause || !isIdempotent(cause)){
             this.cause = Cause.Null;
         }
         mask |= m;
     }
 
+    /**
+     * @return <tt>true</tt> if <i>cause</i> is a propagator which declares itself idempotent,
+     * and thus does not need to be scheduled again on the successive events it causes
+     */
+    private static boolean isIdempotent(ICause cause) {
+        return cause instanceof Propagator && ((Propagator<?>) cause).isIdempotent();
+    }
+
     @Override
     public void clearEvents() {
         this.cause = null;
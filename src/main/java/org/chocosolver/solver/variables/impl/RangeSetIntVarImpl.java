@@ -0,0 +1,966 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.AbstractEventObserver;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IIntervalDelta;
+import org.chocosolver.solver.variables.delta.IntervalDelta;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.IntervalDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * <br/>IntVar implementation for large domains made of few ranges of consecutive values,
+ * e.g. {[0,999], [5000,5999], [100000,100999]}.
+ * <p>
+ * As in {@link IntIterableRangeSet}, the domain is stored as a sorted list of disjoint ranges,
+ * so the memory footprint depends on the number of ranges, not on the number of values nor on the span of the domain.
+ * Contrary to {@link IntervalIntVarImpl}, holes are maintained.
+ * Looking for a value, the next or the previous one is done by a dichotomic search over the ranges.
+ * <p>
+ * Modifications of the list are recorded in an undo log, which is replayed lazily on backtrack,
+ * the first time the domain is accessed.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public final class RangeSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Undo log entry: {@link #FIRST} is modified
+     */
+    private static final int OP_FIRST = 0;
+
+    /**
+     * Undo log entry: {@link #LAST} is modified
+     */
+    private static final int OP_LAST = 1;
+
+    /**
+     * Undo log entry: some ranges are replaced by others
+     */
+    private static final int OP_REPLACE = 2;
+
+    /**
+     * Valuated to <tt>true</tt> when removed values are stored.
+     */
+    private boolean reactOnRemoval = false;
+
+    /**
+     * Bounds of the ranges, by pairs: the i^th range is [ELEMENTS[2i], ELEMENTS[2i+1]]
+     */
+    private int[] ELEMENTS;
+
+    /**
+     * Index of the first range of the current domain
+     */
+    private int FIRST;
+
+    /**
+     * Index of the last range of the current domain
+     */
+    private int LAST;
+
+    /**
+     * Size of the current domain
+     */
+    private final IStateInt SIZE;
+
+    /**
+     * Undo log of the modifications made to {@link #ELEMENTS}, {@link #FIRST} and {@link #LAST}
+     */
+    private int[] HISTORY;
+
+    /**
+     * Number of ints of {@link #HISTORY} the current domain relies on
+     */
+    private int top;
+
+    /**
+     * Number of ints of {@link #HISTORY} wrt the current world, restored on backtrack
+     */
+    private final IStateInt TOP;
+
+    /**
+     * Ranges to insert in the list, by pairs
+     */
+    private final int[] pieces = new int[4];
+
+    /**
+     * Delta object to store removed values
+     */
+    private IIntervalDelta delta = NoDelta.singleton;
+
+    /**
+     * Disposable values iterator
+     */
+    private DisposableValueIterator _viterator;
+
+    /**
+     * Disposable ranges iterator
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    //////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an {@link IntVar} whose initial domain is <i>domain</i>.
+     * @param name name of the variable
+     * @param domain domain values, should not be empty
+     * @param model the model to declare this variable in
+     */
+    public RangeSetIntVarImpl(String name, IntIterableRangeSet domain, Model model) {
+        super(name, model);
+        IEnvironment env = this.model.getEnvironment();
+        int n = domain.getNbRanges();
+        this.ELEMENTS = new int[2 * n + 2];
+        for (int i = 0; i < n; i++) {
+            ELEMENTS[2 * i] = domain.minOfRange(i);
+            ELEMENTS[2 * i + 1] = domain.maxOfRange(i);
+        }
+        this.FIRST = 0;
+        this.LAST = n - 1;
+        this.SIZE = env.makeInt(domain.size());
+        this.HISTORY = new int[16];
+        this.TOP = env.makeInt(0);
+    }
+
+    /**
+     * Creates an {@link IntVar} based on an array of ordered values.
+     * @param name name of the variable
+     * @param sortedValues domain values
+     * @param model the model to declare this variable in
+     */
+    public RangeSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        this(name, new IntIterableRangeSet(sortedValues), model);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            return false;
+        }
+        model.getSolver().getEventObserver().removeValue(this, value, cause);
+        if (SIZE.get() == 1) {
+            this.contradiction(cause, MSG_REMOVE);
+        }
+        IntEventType e = IntEventType.REMOVE;
+        if (value == getLB()) {
+            shrinkLB(value + 1, cause);
+            e = IntEventType.INCLOW;
+        } else if (value == getUB()) {
+            shrinkUB(value - 1, cause);
+            e = IntEventType.DECUPP;
+        } else {
+            removeHoles(value, value, cause);
+        }
+        if (this.isInstantiated()) {
+            e = IntEventType.INSTANTIATE;
+        }
+        this.notifyPropagators(e, cause);
+        return true;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int nlb = values.nextValue(olb - 1);
+        int nub = values.previousValue(oub + 1);
+        if (nlb > oub || nub < olb) {
+            return false;
+        }
+        // look for the new bounds, skipping ranges of removed values
+        while (olb <= oub && values.contains(olb)) {
+            olb = nextValue(values.nextValueOut(olb) - 1);
+        }
+        while (olb <= oub && values.contains(oub)) {
+            oub = previousValue(values.previousValueOut(oub) + 1);
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(olb, oub, cause);
+        // now deal with holes, range by range
+        int ub = getUB();
+        boolean hasRemoved = false;
+        int from = values.nextValue(getLB());
+        while (from < ub) {
+            int to = Math.min(values.nextValueOut(from) - 1, ub - 1);
+            observeRemovals(from, to, cause);
+            hasRemoved |= removeHoles(from, to, cause) > 0;
+            from = values.nextValue(nextValue(to) - 1);
+        }
+        if (hasRemoved) {
+            this.notifyPropagators(IntEventType.REMOVE, cause);
+        }
+        return hasRemoved || hasChanged;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = getUB();
+        // look for the new bounds, skipping ranges of removed values
+        int nlb = values.nextValue(getLB() - 1);
+        while (nlb <= oub && !contains(nlb)) {
+            nlb = values.nextValue(nextValue(nlb) - 1);
+        }
+        int nub = values.previousValue(oub + 1);
+        while (nub >= nlb && !contains(nub)) {
+            nub = values.previousValue(previousValue(nub) + 1);
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(nlb, nub, cause);
+        // now deal with holes, that are the ranges out of values
+        int ub = getUB();
+        boolean hasRemoved = false;
+        int value = getLB();
+        while (value < ub) {
+            int from = values.nextValueOut(value);
+            if (from >= ub) {
+                break;
+            }
+            int to = Math.min(values.nextValue(from) - 1, ub - 1);
+            observeRemovals(from, to, cause);
+            hasRemoved |= removeHoles(from, to, cause) > 0;
+            value = to + 1;
+        }
+        if (hasRemoved) {
+            this.notifyPropagators(IntEventType.REMOVE, cause);
+        }
+        return hasRemoved || hasChanged;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB()) {
+            return updateLowerBound(to + 1, cause);
+        } else if (getUB() <= to) {
+            return updateUpperBound(from - 1, cause);
+        } else if (from <= to) {
+            observeRemovals(from, to, cause);
+            if (removeHoles(from, to, cause) > 0) {
+                this.notifyPropagators(IntEventType.REMOVE, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            if (getLB() < value) {
+                shrinkLB(value, cause);
+            }
+            if (value < getUB()) {
+                shrinkUB(value, cause);
+            }
+            assert SIZE.get() == 1;
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            if (this.getUB() < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                IntEventType e = IntEventType.INCLOW;
+                shrinkLB(value, cause);
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getUB();
+        if (old > value) {
+            model.getSolver().getEventObserver().updateUpperBound(this, value, old, cause);
+            if (this.getLB() > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                IntEventType e = IntEventType.DECUPP;
+                shrinkUB(value, cause);
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || ub < oub) {
+            IntEventType e = null;
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                shrinkLB(lb, cause);
+            }
+            if (this.getLB() > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                shrinkUB(ub, cause);
+            }
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    /**
+     * Removes all values smaller than <i>value</i>, which is supposed to be greater than the lower bound
+     * and not greater than the upper bound.
+     * Neither the event observer nor propagators are informed.
+     */
+    private void shrinkLB(int value, ICause cause) {
+        int r = rangeOf(value);
+        int removed = 0;
+        for (int i = FIRST; i < r; i++) {
+            removed += ELEMENTS[2 * i + 1] - ELEMENTS[2 * i] + 1;
+            if (reactOnRemoval) {
+                delta.add(ELEMENTS[2 * i], ELEMENTS[2 * i + 1], cause);
+            }
+        }
+        int from = ELEMENTS[2 * r];
+        if (from < value) {
+            removed += value - from;
+            if (reactOnRemoval) {
+                delta.add(from, value - 1, cause);
+            }
+            pieces[0] = value;
+            pieces[1] = ELEMENTS[2 * r + 1];
+            replace(r, 1, 1);
+        }
+        if (r != FIRST) {
+            ensureHistory(2);
+            HISTORY[top++] = FIRST;
+            HISTORY[top++] = OP_FIRST;
+            TOP.set(top);
+            FIRST = r;
+        }
+        SIZE.add(-removed);
+    }
+
+    /**
+     * Removes all values greater than <i>value</i>, which is supposed to be smaller than the upper bound
+     * and not smaller than the lower bound.
+     * Neither the event observer nor propagators are informed.
+     */
+    private void shrinkUB(int value, ICause cause) {
+        int r = rangeOf(value);
+        if (r > LAST || ELEMENTS[2 * r] > value) {
+            r--;
+        }
+        int removed = 0;
+        for (int i = LAST; i > r; i--) {
+            removed += ELEMENTS[2 * i + 1] - ELEMENTS[2 * i] + 1;
+            if (reactOnRemoval) {
+                delta.add(ELEMENTS[2 * i], ELEMENTS[2 * i + 1], cause);
+            }
+        }
+        int to = ELEMENTS[2 * r + 1];
+        if (value < to) {
+            removed += to - value;
+            if (reactOnRemoval) {
+                delta.add(value + 1, to, cause);
+            }
+            pieces[0] = ELEMENTS[2 * r];
+            pieces[1] = value;
+            replace(r, 1, 1);
+        }
+        if (r != LAST) {
+            ensureHistory(2);
+            HISTORY[top++] = LAST;
+            HISTORY[top++] = OP_LAST;
+            TOP.set(top);
+            LAST = r;
+        }
+        SIZE.add(-removed);
+    }
+
+    /**
+     * Removes the values in [<i>from</i>, <i>to</i>], which is supposed to be strictly included
+     * in [lower bound, upper bound].
+     * Neither the event observer nor propagators are informed.
+     *
+     * @return the number of values removed
+     */
+    private int removeHoles(int from, int to, ICause cause) {
+        int a = rangeOf(from);
+        int b = rangeOf(to);
+        if (ELEMENTS[2 * b] > to) {
+            b--;
+        }
+        if (a > b) {
+            return 0;
+        }
+        int removed = 0;
+        for (int i = a; i <= b; i++) {
+            int f = Math.max(ELEMENTS[2 * i], from);
+            int t = Math.min(ELEMENTS[2 * i + 1], to);
+            removed += t - f + 1;
+            if (reactOnRemoval) {
+                delta.add(f, t, cause);
+            }
+        }
+        int n = 0;
+        if (ELEMENTS[2 * a] < from) {
+            pieces[n++] = ELEMENTS[2 * a];
+            pieces[n++] = from - 1;
+        }
+        if (to < ELEMENTS[2 * b + 1]) {
+            pieces[n++] = to + 1;
+            pieces[n++] = ELEMENTS[2 * b + 1];
+        }
+        replace(a, b - a + 1, n >> 1);
+        SIZE.add(-removed);
+        return removed;
+    }
+
+    /**
+     * Informs the event observer of the removal of values of the domain in [<i>from</i>, <i>to</i>].
+     * Nothing is done when events are not observed, to avoid iterating over large intervals.
+     */
+    private void observeRemovals(int from, int to, ICause cause) {
+        AbstractEventObserver observer = model.getSolver().getEventObserver();
+        if (observer != AbstractEventObserver.SILENT_OBSERVER) {
+            for (int v = nextValue(from - 1); v <= to; v = nextValue(v)) {
+                observer.removeValue(this, v, cause);
+            }
+        }
+    }
+
+    /**
+     * Replaces the <i>m</i> ranges starting at index <i>a</i> by the <i>n</i> ranges stored in {@link #pieces},
+     * and records how to undo it.
+     */
+    private void replace(int a, int m, int n) {
+        int d = n - m;
+        ensureHistory(2 * m + 2 * Math.max(d, 0) + 4);
+        System.arraycopy(ELEMENTS, 2 * a, HISTORY, top, 2 * m);
+        top += 2 * m;
+        if (d > 0) {
+            // ranges beyond LAST may be restored later on, they are saved too
+            if (2 * (LAST + 1 + d) > ELEMENTS.length) {
+                ELEMENTS = Arrays.copyOf(ELEMENTS, Math.max(ELEMENTS.length * 3 / 2, 2 * (LAST + 1 + d)));
+            }
+            System.arraycopy(ELEMENTS, 2 * (LAST + 1), HISTORY, top, 2 * d);
+            top += 2 * d;
+        }
+        System.arraycopy(ELEMENTS, 2 * (a + m), ELEMENTS, 2 * (a + n), 2 * (LAST - a - m + 1));
+        System.arraycopy(pieces, 0, ELEMENTS, 2 * a, 2 * n);
+        LAST += d;
+        HISTORY[top++] = a;
+        HISTORY[top++] = m;
+        HISTORY[top++] = n;
+        HISTORY[top++] = OP_REPLACE;
+        TOP.set(top);
+    }
+
+    private void ensureHistory(int n) {
+        if (top + n > HISTORY.length) {
+            HISTORY = Arrays.copyOf(HISTORY, Math.max(HISTORY.length * 3 / 2, top + n));
+        }
+    }
+
+    /**
+     * Undoes the modifications recorded since the current world was reached, if any.
+     * Must be called before any access to {@link #ELEMENTS}, {@link #FIRST} or {@link #LAST}.
+     */
+    private void restore() {
+        int t = TOP.get();
+        while (top > t) {
+            switch (HISTORY[--top]) {
+                case OP_FIRST:
+                    FIRST = HISTORY[--top];
+                    break;
+                case OP_LAST:
+                    LAST = HISTORY[--top];
+                    break;
+                default:
+                    int n = HISTORY[--top];
+                    int m = HISTORY[--top];
+                    int a = HISTORY[--top];
+                    int d = n - m;
+                    System.arraycopy(ELEMENTS, 2 * (a + n), ELEMENTS, 2 * (a + m), 2 * (LAST - a - n + 1));
+                    LAST -= d;
+                    if (d > 0) {
+                        top -= 2 * d;
+                        System.arraycopy(HISTORY, top, ELEMENTS, 2 * (LAST + 1), 2 * d);
+                    }
+                    top -= 2 * m;
+                    System.arraycopy(HISTORY, top, ELEMENTS, 2 * a, 2 * m);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @param value a value
+     * @return the index of the first range of the current domain whose upper bound is not smaller than <i>value</i>,
+     * {@link #LAST} + 1 if none
+     */
+    private int rangeOf(int value) {
+        restore();
+        int lo = FIRST;
+        int hi = LAST;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ELEMENTS[2 * mid + 1] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        int r = rangeOf(aValue);
+        return r <= LAST && ELEMENTS[2 * r] <= aValue;
+    }
+
+    /**
+     * Retrieves the current value of the variable if instantiated, otherwier the lower bound.
+     *
+     * @return the current value (or lower bound if not yet instantiated).
+     */
+    @Override
+    public int getValue() {
+        assert isInstantiated() : name + " not instantiated";
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        restore();
+        return ELEMENTS[2 * FIRST];
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        restore();
+        return ELEMENTS[2 * LAST + 1];
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        int lb = getLB();
+        if (aValue < lb) return lb;
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        int r = rangeOf(aValue + 1);
+        return Math.max(ELEMENTS[2 * r], aValue + 1);
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        int r = rangeOf(aValue + 1);
+        if (r <= LAST && ELEMENTS[2 * r] <= aValue + 1) {
+            return ELEMENTS[2 * r + 1] + 1;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        int ub = getUB();
+        if (aValue > ub) return ub;
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        int r = rangeOf(aValue - 1);
+        if (ELEMENTS[2 * r] <= aValue - 1) {
+            return aValue - 1;
+        }
+        return ELEMENTS[2 * r - 1];
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        int r = rangeOf(aValue - 1);
+        if (r <= LAST && ELEMENTS[2 * r] <= aValue - 1) {
+            return ELEMENTS[2 * r] - 1;
+        }
+        return aValue - 1;
+    }
+
+    /**
+     * @return the number of ranges of the current domain
+     */
+    public int getNbRanges() {
+        restore();
+        return LAST - FIRST + 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IIntervalDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            s.append('{').append(getLB());
+            int nb = 5;
+            for (int i = nextValue(getLB()); i < Integer.MAX_VALUE && nb > 0; i = nextValue(i)) {
+                s.append(',').append(i);
+                nb--;
+            }
+            if (nb == 0 && SIZE.get() > 6) {
+                s.append("...,").append(this.getUB());
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new IntervalDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new IntervalDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Index of the current range
+                 */
+                int index;
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    restore();
+                    index = FIRST;
+                    value = ELEMENTS[2 * index];
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    restore();
+                    index = LAST;
+                    value = ELEMENTS[2 * index + 1];
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return index <= LAST;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return index >= FIRST;
+                }
+
+                @Override
+                public int next() {
+                    int old = value;
+                    if (value < ELEMENTS[2 * index + 1]) {
+                        value++;
+                    } else if (++index <= LAST) {
+                        value = ELEMENTS[2 * index];
+                    }
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = value;
+                    if (value > ELEMENTS[2 * index]) {
+                        value--;
+                    } else if (--index >= FIRST) {
+                        value = ELEMENTS[2 * index + 1];
+                    }
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Index of the current range
+                 */
+                int index;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    restore();
+                    this.index = FIRST;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    restore();
+                    this.index = LAST;
+                }
+
+                public boolean hasNext() {
+                    return this.index <= LAST;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.index >= FIRST;
+                }
+
+                public void next() {
+                    this.index++;
+                }
+
+                @Override
+                public void previous() {
+                    this.index--;
+                }
+
+                @Override
+                public int min() {
+                    return ELEMENTS[2 * index];
+                }
+
+                @Override
+                public int max() {
+                    return ELEMENTS[2 * index + 1];
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+}
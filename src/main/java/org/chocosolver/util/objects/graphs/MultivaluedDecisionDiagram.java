@@ -15,6 +15,7 @@ import org.chocosolver.solver.variables.IntVar;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * A Multi-valued Decision Diagram (MDD for short) to store
@@ -191,8 +192,9 @@ public class MultivaluedDecisionDiagram  {
     public boolean addTuples(Tuples TUPLES) {
         if (sortTuples) TUPLES.sort();
         boolean atLeastOne = false;
+        int[] tuple = new int[TUPLES.arity()];
         for (int t = 0; t < TUPLES.nbTuples(); t++) {
-            atLeastOne |= addTuple(TUPLES.get(t));
+            atLeastOne |= addTuple(TUPLES.get(t, tuple));
         }
         return atLeastOne;
     }
@@ -494,6 +496,43 @@ public class MultivaluedDecisionDiagram  {
         return mdd[k];
     }
 
+    /**
+     * Return the transitions of the MDD, as expected by {@link #MultivaluedDecisionDiagram(IntVar[], int[][])}:
+     * nodes are numbered layer by layer, the root node being labeled '0' and the terminal node '-1'.
+     *
+     * @return list of transitions <f, v, t>
+     */
+    public int[][] getTransitions() {
+        List<int[]> transitions = new ArrayList<>();
+        TIntIntHashMap labels = new TIntIntHashMap(16, .5f, -2, -2);
+        labels.put(0, 0);
+        TIntArrayList layer = new TIntArrayList();
+        layer.add(0);
+        for (int l = 0; l < nbLayers; l++) {
+            TIntArrayList next = new TIntArrayList();
+            for (int n = 0; n < layer.size(); n++) {
+                int node = layer.getQuick(n);
+                for (int j = 0; j < sizes[l]; j++) {
+                    int child = mdd[node + j];
+                    if (child != EMPTY) {
+                        int label = TERMINAL;
+                        if (child != TERMINAL) {
+                            label = labels.get(child);
+                            if (label == -2) {
+                                label = labels.size();
+                                labels.put(child, label);
+                                next.add(child);
+                            }
+                        }
+                        transitions.add(new int[]{labels.get(node), offsets[l] + j, label});
+                    }
+                }
+            }
+            layer = next;
+        }
+        return transitions.toArray(new int[0][]);
+    }
+
     /**
      * Return true is PATH has a support in the mdd
      *
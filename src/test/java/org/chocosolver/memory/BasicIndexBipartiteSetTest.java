@@ -9,7 +9,7 @@
 package org.chocosolver.memory;
 
 import org.chocosolver.memory.structure.BasicIndexedBipartiteSet;
-import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.copy.EnvironmentCopying;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -24,14 +24,16 @@ public class BasicIndexBipartiteSetTest {
 
     @DataProvider(name = "env")
     public Object[][] getEnvs(){
-        return new EnvironmentTrailing[][]{
+        return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromContiguous().build()},
+                {new EnvironmentCopying()}
         };
     }
 
     @Test(groups="1s", timeOut=60000, dataProvider = "env")
-    public void testBasicIndexedBipartiteSet(EnvironmentTrailing env){
+    public void testBasicIndexedBipartiteSet(IEnvironment env){
         BasicIndexedBipartiteSet set = new BasicIndexedBipartiteSet(env, 2);
 
         int b1 = set.add();
@@ -8,7 +8,7 @@
  */
 package org.chocosolver.memory;
 
-import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.copy.EnvironmentCopying;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -23,15 +23,17 @@ public class DynamicAdditionTest {
 
     @DataProvider(name = "env")
     public Object[][] getEnvs(){
-        return new EnvironmentTrailing[][]{
+        return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromContiguous().build()},
+                {new EnvironmentCopying()}
         };
     }
 
 
     @Test(groups="1s", timeOut=60000, dataProvider = "env")
-    public void test1(EnvironmentTrailing environment) {
+    public void test1(IEnvironment environment) {
         environment.buildFakeHistoryOn(new Except_0());
         IStateInt a = environment.makeInt(10);
         a.set(11);
@@ -93,7 +95,7 @@ public class DynamicAdditionTest {
     }
 
     @Test(groups="1s", timeOut=60000, dataProvider = "env")
-    public void test2(EnvironmentTrailing environment){
+    public void test2(IEnvironment environment){
         environment.buildFakeHistoryOn(new Except_0());
         int n = 100;
         int m = 100;
@@ -122,7 +124,7 @@ public class DynamicAdditionTest {
     }
 
     @Test(groups="10s", timeOut=300000, dataProvider = "env")
-    public void test3(EnvironmentTrailing environment) {
+    public void test3(IEnvironment environment) {
         environment.buildFakeHistoryOn(new Except_0());
         int n = 5000;
         int m = 3000;
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.copy.EnvironmentCopying;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -24,7 +25,9 @@ public class EnvironmentTest {
     private Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromContiguous().build()},
+                {new EnvironmentCopying()}
         };
     }
 
@@ -84,6 +87,36 @@ public class EnvironmentTest {
         Assert.assertEquals(prim.toString(), "10.2");
     }
 
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testMixed(IEnvironment environment) {
+        IStateInt i = environment.makeInt(0);
+        IStateLong l = environment.makeLong(0L);
+        IStateDouble d = environment.makeFloat(0d);
+        IStateBool b = environment.makeBool(false);
+        int n = 1000;
+        for (int w = 1; w <= n; w++) {
+            environment.worldPush();
+            i.set(w);
+            l.set(-w * 10000000000L);
+            d.set(w / 3d);
+            if (w % 3 == 0) {
+                b.set(!b.get());
+            }
+            i.set(w + 1);
+        }
+        for (int w = n; w > 0; w--) {
+            Assert.assertEquals(i.get(), w + 1);
+            Assert.assertEquals(l.get(), -w * 10000000000L);
+            Assert.assertEquals(d.get(), w / 3d);
+            Assert.assertEquals(b.get(), (w / 3) % 2 == 1);
+            environment.worldPop();
+        }
+        Assert.assertEquals(i.get(), 0);
+        Assert.assertEquals(l.get(), 0L);
+        Assert.assertEquals(d.get(), 0d);
+        Assert.assertEquals(b.get(), false);
+    }
+
     @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
     public void testBitset1(IEnvironment environment) {
         testBitset(environment, 16, 48, 8, 9, 10);
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.copy.EnvironmentCopying;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -17,14 +18,16 @@ public class PopTest {
 
     @DataProvider(name = "env")
     public Object[][] getEnvs(){
-        return new EnvironmentTrailing[][]{
+        return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromContiguous().build()},
+                {new EnvironmentCopying()}
         };
     }
 
     @Test(groups="1s", timeOut=60000, dataProvider = "env")
-    public void testEnvTPop(EnvironmentTrailing env) {
+    public void testEnvTPop(IEnvironment env) {
         try {
             env.worldPop();
             Assert.fail("poping above 0 is forbidden");
@@ -32,7 +35,7 @@ public class PopTest {
     }
 
     @Test(groups="1s", timeOut=60000, dataProvider = "env")
-    public void testEnvPushPop(EnvironmentTrailing env) {
+    public void testEnvPushPop(IEnvironment env) {
         env.worldPush();
         env.worldPop();
         env = new EnvironmentTrailing();
@@ -0,0 +1,229 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copy;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class EnvironmentCopyingTest {
+
+    private static Model queens(IEnvironment environment) {
+        Model model = new Model(environment, "queens");
+        int n = 8;
+        IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+        IntVar[] diag1 = new IntVar[n];
+        IntVar[] diag2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            diag1[i] = model.intOffsetView(vars[i], i);
+            diag2[i] = model.intOffsetView(vars[i], -i);
+        }
+        model.allDifferent(vars, "AC").post();
+        model.allDifferent(diag1, "BC").post();
+        model.allDifferent(diag2, "BC").post();
+        return model;
+    }
+
+    private static Model golomb(IEnvironment environment) {
+        Model model = new Model(environment, "golomb");
+        int m = 7;
+        IntVar[] ticks = model.intVarArray("a", m, 0, 50, true);
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, 50, true);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.scalar(new IntVar[]{ticks[j], ticks[i]}, new int[]{1, -1}, "=", diffs[k]).post();
+            }
+        }
+        model.allDifferent(diffs, "BC").post();
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        model.getSolver().setSearch(inputOrderLBSearch(ticks));
+        return model;
+    }
+
+    private static Model scheduling(IEnvironment environment) {
+        Model model = new Model(environment, "scheduling");
+        Random rnd = new Random(0);
+        int n = 8;
+        Task[] tasks = new Task[n];
+        IntVar[] heights = new IntVar[n];
+        IntVar[] starts = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = model.intVar("s" + i, 0, 30);
+            tasks[i] = model.taskVar(starts[i], 1 + rnd.nextInt(5));
+            heights[i] = model.intVar(1 + rnd.nextInt(3));
+        }
+        IntVar makespan = model.intVar("makespan", 0, 30);
+        for (Task t : tasks) {
+            model.arithm(t.getEnd(), "<=", makespan).post();
+        }
+        model.cumulative(tasks, heights, model.intVar(4)).post();
+        model.setObjective(Model.MINIMIZE, makespan);
+        Solver solver = model.getSolver();
+        solver.setSearch(domOverWDegSearch(ArrayUtils.append(starts, new IntVar[]{makespan})));
+        solver.setGeometricalRestart(10, 1.1d, new FailCounter(model, 0), 100);
+        return model;
+    }
+
+    private static Model sets(IEnvironment environment) {
+        Model model = new Model(environment, "sets");
+        SetVar[] sets = model.setVarArray("S", 3, new int[]{}, new int[]{1, 2, 3, 4, 5});
+        model.allDisjoint(sets).post();
+        model.nbEmpty(sets, model.intVar(1)).post();
+        return model;
+    }
+
+    private static void compare(Function<IEnvironment, Model> maker) {
+        Model m1 = maker.apply(new EnvironmentBuilder().fromFlat().build());
+        Model m2 = maker.apply(new EnvironmentCopying());
+        while (m1.getSolver().solve()) ;
+        while (m2.getSolver().solve()) ;
+        Assert.assertEquals(m2.getSolver().getSolutionCount(), m1.getSolver().getSolutionCount());
+        Assert.assertEquals(m2.getSolver().getNodeCount(), m1.getSolver().getNodeCount());
+        Assert.assertEquals(m2.getSolver().getFailCount(), m1.getSolver().getFailCount());
+        if (m1.getObjective() != null) {
+            Assert.assertEquals(m2.getSolver().getBestSolutionValue(), m1.getSolver().getBestSolutionValue());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testQueens() {
+        compare(EnvironmentCopyingTest::queens);
+        Model model = queens(new EnvironmentCopying());
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGolomb() {
+        compare(EnvironmentCopyingTest::golomb);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testScheduling() {
+        compare(EnvironmentCopyingTest::scheduling);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSets() {
+        compare(EnvironmentCopyingTest::sets);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testVector() {
+        EnvironmentCopying environment = new EnvironmentCopying();
+        IStateIntVector vector = environment.makeIntVector(2, 7);
+        environment.worldPush();
+        vector.add(3);
+        vector.set(0, 1);
+        environment.worldPush();
+        for (int i = 0; i < 20; i++) {
+            vector.add(i);
+        }
+        Assert.assertEquals(vector.quickGet(22), 19);
+        environment.worldPop();
+        Assert.assertEquals(vector.quickGet(0), 1);
+        Assert.assertEquals(vector.quickGet(1), 7);
+        Assert.assertEquals(vector.quickGet(2), 3);
+        environment.worldPop();
+        Assert.assertEquals(vector.quickGet(0), 7);
+        Assert.assertEquals(vector.quickGet(1), 7);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCommit() {
+        EnvironmentCopying environment = new EnvironmentCopying();
+        IStateInt a = environment.makeInt(0);
+        a.set(1);
+        environment.worldPush();
+        a.set(2);
+        environment.worldPush();
+        a.set(3);
+        environment.worldCommit();
+        Assert.assertEquals(environment.getWorldIndex(), 1);
+        Assert.assertEquals(a.get(), 3);
+        environment.worldPop();
+        Assert.assertEquals(a.get(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDataCreatedDuringSearch() {
+        EnvironmentCopying environment = new EnvironmentCopying();
+        IStateInt a = environment.makeInt(0);
+        int copied = environment.getNbCopiedData();
+        environment.worldPush();
+        IStateInt b = environment.makeInt(5);
+        IStateIntVector vector = environment.makeIntVector(2, 7);
+        for (int i = 0; i < 100; i++) {
+            environment.worldPush();
+            a.set(i);
+            b.set(i);
+            vector.set(0, i);
+            vector.add(i);
+            environment.makeInt(i);
+        }
+        // data created during search are trailed, not copied
+        Assert.assertEquals(environment.getNbCopiedData(), copied);
+        for (int i = 99; i > 0; i--) {
+            environment.worldPop();
+            Assert.assertEquals(a.get(), i - 1);
+            Assert.assertEquals(b.get(), i - 1);
+            Assert.assertEquals(vector.quickGet(0), i - 1);
+            Assert.assertEquals(vector.quickGet(i + 1), i - 1);
+        }
+        environment.worldPop();
+        Assert.assertEquals(a.get(), 0);
+        Assert.assertEquals(b.get(), 5);
+        Assert.assertEquals(vector.quickGet(0), 7);
+        environment.worldPop();
+        Assert.assertEquals(environment.getNbCopiedData(), copied);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCommitDataCreatedDuringSearch() {
+        EnvironmentCopying environment = new EnvironmentCopying();
+        environment.worldPush();
+        IStateInt a = environment.makeInt(0);
+        environment.worldPush();
+        a.set(1);
+        environment.worldPush();
+        a.set(2);
+        environment.worldCommit();
+        a.set(3);
+        environment.worldPush();
+        a.set(4);
+        environment.worldPop();
+        Assert.assertEquals(a.get(), 3);
+        environment.worldPop();
+        Assert.assertEquals(a.get(), 0);
+    }
+}
@@ -0,0 +1,241 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * @author agent
+ * @since 16/10/2026
+ */
+public class EmbarrassinglyParallelSearchTest {
+
+    private static Model queens(int n) {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(n);
+        model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("vars")));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testQueens() {
+        int[] expected = {1, 0, 0, 2, 10, 4, 40, 92};
+        for (int depth = 0; depth < 6; depth++) {
+            for (int n = 1; n <= 8; n++) {
+                EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(depth);
+                for (int i = 0; i < 4; i++) {
+                    eps.addModel(queens(n));
+                }
+                Assert.assertEquals(eps.streamSolutions().count(), expected[n - 1], "n=" + n + ", depth=" + depth);
+                Assert.assertEquals(eps.getSolutionCount(), expected[n - 1]);
+                Assert.assertTrue(eps.isSearchCompleted());
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDistinctSolutions() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(4);
+        eps.addModels(() -> queens(8), 3);
+        Assert.assertEquals(eps.getModels().size(), 3);
+        IntVar[] vars = (IntVar[]) eps.getModels().get(0).getHook("vars");
+        Set<String> solutions = eps.streamSolutions()
+                .map(s -> Stream.of(vars).map(v -> Integer.toString(s.getIntVal(v))).collect(Collectors.joining(",")))
+                .collect(Collectors.toSet());
+        Assert.assertEquals(solutions.size(), 92);
+        Assert.assertTrue(eps.getNbCubes() > 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCostasWithRestarts() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(3);
+        for (int i = 0; i < 4; i++) {
+            Model model = ProblemMaker.makeCostasArrays(7);
+            IntVar[] vectors = (IntVar[]) model.getHook("vectors");
+            Solver r = model.getSolver();
+            r.setSearch(domOverWDegSearch(vectors));
+            r.setGeometricalRestart(vectors.length * 3, 1.1d, new FailCounter(model, 0), 1000);
+            r.setNoGoodRecordingFromSolutions((IntVar[]) model.getHook("vars"));
+            eps.addModel(model);
+        }
+        Model model = ProblemMaker.makeCostasArrays(7);
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(eps.streamSolutions().count(), model.getSolver().getSolutionCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(5);
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(knapsack());
+        }
+        IntVar power = (IntVar) eps.getModels().get(0).getObjective();
+        List<Integer> values = eps.streamSolutions().map(s -> s.getIntVal(power)).collect(Collectors.toList());
+        Assert.assertFalse(values.isEmpty());
+        for (int i = 1; i < values.size(); i++) {
+            Assert.assertTrue(values.get(i - 1) < values.get(i));
+        }
+        Assert.assertEquals(values.get(values.size() - 1).intValue(), 51);
+        Assert.assertTrue(eps.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGolomb() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(4);
+        for (int i = 0; i < 4; i++) {
+            Model model = ProblemMaker.makeGolombRuler(8);
+            model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("ticks")));
+            eps.addModel(model);
+        }
+        IntVar[] ticks = (IntVar[]) eps.getModels().get(0).getHook("ticks");
+        Solution last = eps.streamSolutions().reduce((s1, s2) -> s2).orElse(null);
+        Assert.assertNotNull(last);
+        Assert.assertEquals(last.getIntVal(ticks[ticks.length - 1]), 34);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(3);
+        for (int i = 0; i < 2; i++) {
+            eps.addModel(queens(3));
+        }
+        Assert.assertEquals(eps.streamSolutions().count(), 0);
+        Assert.assertTrue(eps.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStop() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(4);
+        for (int i = 0; i < 2; i++) {
+            eps.addModel(queens(12));
+        }
+        try (Stream<Solution> solutions = eps.streamSolutions()) {
+            Assert.assertEquals(solutions.limit(10).count(), 10);
+        }
+        Assert.assertFalse(eps.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompletedOnceWorkersEnd() throws InterruptedException {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(0);
+        Model model = queens(8);
+        CountDownLatch latch = new CountDownLatch(1);
+        // the worker is held on its second solution, once the only cube has been taken
+        model.getSolver().plugMonitor((IMonitorSolution) () -> {
+            if (model.getSolver().getSolutionCount() == 2) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        eps.addModel(model);
+        Iterator<Solution> it = eps.streamSolutions().iterator();
+        Assert.assertTrue(it.hasNext());
+        it.next();
+        Assert.assertEquals(eps.getNbRunningWorkers(), 1);
+        Assert.assertFalse(eps.isSearchCompleted());
+        latch.countDown();
+        int n = 1;
+        while (it.hasNext()) {
+            it.next();
+            n++;
+        }
+        Assert.assertEquals(n, 92);
+        Assert.assertEquals(eps.getNbRunningWorkers(), 0);
+        Assert.assertTrue(eps.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWorkStealingQueens() {
+        int[] expected = {1, 0, 0, 2, 10, 4, 40, 92};
+        for (int depth = 0; depth < 3; depth++) {
+            for (int n = 1; n <= 8; n++) {
+                EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(depth);
+                for (int i = 0; i < 4; i++) {
+                    eps.addModel(queens(n));
+                }
+                eps.enableWorkStealing();
+                Assert.assertEquals(eps.streamSolutions().count(), expected[n - 1], "n=" + n + ", depth=" + depth);
+                Assert.assertTrue(eps.isSearchCompleted());
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWorkStealingDistinctSolutions() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(0);
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(queens(10));
+        }
+        eps.enableWorkStealing();
+        IntVar[] vars = (IntVar[]) eps.getModels().get(0).getHook("vars");
+        List<String> solutions = eps.streamSolutions()
+                .map(s -> Stream.of(vars).map(v -> Integer.toString(s.getIntVal(v))).collect(Collectors.joining(",")))
+                .collect(Collectors.toList());
+        Assert.assertEquals(solutions.size(), 724);
+        Assert.assertEquals(solutions.stream().distinct().count(), 724);
+        Assert.assertEquals(eps.getNbCubes(), 1);
+        Assert.assertTrue(eps.getNbSteals() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWorkStealingGolomb() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(0);
+        for (int i = 0; i < 4; i++) {
+            Model model = ProblemMaker.makeGolombRuler(8);
+            model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("ticks")));
+            eps.addModel(model);
+        }
+        eps.enableWorkStealing();
+        IntVar[] ticks = (IntVar[]) eps.getModels().get(0).getHook("ticks");
+        Solution last = eps.streamSolutions().reduce((s1, s2) -> s2).orElse(null);
+        Assert.assertNotNull(last);
+        Assert.assertEquals(last.getIntVal(ticks[ticks.length - 1]), 34);
+        Assert.assertTrue(eps.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testWorkStealingAfterStart() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(2);
+        eps.addModel(queens(4));
+        eps.streamSolutions().count();
+        eps.enableWorkStealing();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoModel() {
+        new EmbarrassinglyParallelSearch(2).streamSolutions();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testRunTwice() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(2);
+        eps.addModel(queens(4));
+        eps.streamSolutions().count();
+        eps.streamSolutions();
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.copy.EnvironmentCopying;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ModelSnapshotTest {
+
+    private static Model model() {
+        return model(new EnvironmentBuilder().fromFlat().build());
+    }
+
+    private static Model model(IEnvironment environment) {
+        Model model = new Model(environment, "snapshot");
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        BoolVar[] b = model.boolVarArray("b", 3);
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < 5; i++) {
+            tuples.add(i, (i + 1) % 5, (i + 3) % 5);
+            tuples.add(i, (i + 2) % 5, i);
+        }
+        model.table(new IntVar[]{x[0], x[1], x[2]}, tuples, "CT+").post();
+        // the tuples are shared, and stored once
+        model.table(new IntVar[]{x[0], x[1], x[2]}, tuples, "CT+").post();
+        model.mddc(new IntVar[]{x[2], x[3], x[4]}, new MultivaluedDecisionDiagram(new IntVar[]{x[2], x[3], x[4]}, tuples)).post();
+        model.arithm(x[0], "<", x[4]).reifyWith(b[0]);
+        model.member(x[4], new int[]{0, 2, 3, 4}).reifyWith(b[1]);
+        model.arithm(b[0], "+", b[1], ">=", 1).post();
+        model.notMember(x[3], 1, 2).post();
+        IntVar y = model.intVar("y", new int[]{-3, -1, 0, 5, 7});
+        model.allDifferent(new IntVar[]{y, model.intOffsetView(x[0], -2), model.intMinusView(x[1])}, "AC").post();
+        model.arithm(b[2].not(), "=", 1).post();
+        model.element(x[1], new int[]{4, 3, 2, 1, 0}, x[3]).post();
+        IntVar obj = model.intVar("obj", 0, 60);
+        model.scalar(x, new int[]{1, 2, 3, 4, 5}, "=", obj).post();
+        model.setObjective(Model.MAXIMIZE, obj);
+        return model;
+    }
+
+    private static long[] solve(Model model) {
+        IntVar[] vars = model.retrieveIntVars(true);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+        int best = -1;
+        while (model.getSolver().solve()) {
+            best = ((IntVar) model.getObjective()).getValue();
+        }
+        return new long[]{best, model.getSolver().getSolutionCount(), model.getSolver().getNodeCount()};
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBuffer() throws IOException {
+        Model model = model();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        model.saveSnapshot(bos);
+        Model read = Model.loadSnapshot(ByteBuffer.wrap(bos.toByteArray()), new DefaultSettings());
+        Assert.assertEquals(read.getName(), model.getName());
+        Assert.assertEquals(read.getNbVars(), model.getNbVars());
+        Assert.assertEquals(read.getNbCstrs(), model.getNbCstrs());
+        Assert.assertEquals(read.getResolutionPolicy(), ResolutionPolicy.MAXIMIZE);
+        for (int i = 0; i < model.getNbVars(); i++) {
+            Assert.assertSame(read.getVar(i).getModel(), read);
+            Assert.assertEquals(read.getVar(i).toString(), model.getVar(i).toString());
+        }
+        long[] expected = solve(model);
+        Assert.assertTrue(expected[1] > 0);
+        Assert.assertEquals(solve(read), expected);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFile() throws IOException {
+        Path path = Files.createTempFile("model", ".snap");
+        try {
+            Model model = model();
+            model.saveSnapshot(path);
+            Model read = Model.loadSnapshot(path);
+            // a snapshot can be read several times
+            Model again = Model.loadSnapshot(path);
+            long[] expected = solve(model);
+            Assert.assertEquals(solve(read), expected);
+            Assert.assertEquals(solve(again), expected);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyingEnvironment() throws IOException {
+        // the environment is not part of the snapshot
+        Model model = model(new EnvironmentCopying());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        model.saveSnapshot(bos);
+        Model read = Model.loadSnapshot(ByteBuffer.wrap(bos.toByteArray()), new DefaultSettings());
+        Assert.assertEquals(solve(read), solve(model));
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testUnsupportedConstraint() throws IOException {
+        Model model = new Model("circuit");
+        model.circuit(model.intVarArray("x", 4, 0, 3)).post();
+        model.saveSnapshot(new ByteArrayOutputStream());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testAfterResolution() throws IOException {
+        Model model = model();
+        model.getSolver().solve();
+        model.saveSnapshot(new ByteArrayOutputStream());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testWrongFormat() {
+        Model.loadSnapshot(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}), new DefaultSettings());
+    }
+}
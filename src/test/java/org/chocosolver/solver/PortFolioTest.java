@@ -8,7 +8,10 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.util.ProblemMaker;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -216,4 +219,50 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNogoodSharing1() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int i = 0; i < 4; i++) {
+            pares.addModel(knapsack());
+        }
+        pares.enableNogoodSharing(8);
+        while(pares.solve());
+        Model finder = pares.getBestModel();
+        Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNogoodSharing2() {
+        ParallelPortfolio pares = new ParallelPortfolio(false);
+        for (int i = 0; i < 4; i++) {
+            Model m = ProblemMaker.makeCostasArrays(10);
+            IntVar[] vars = (IntVar[]) m.getHook("vars");
+            Solver s = m.getSolver();
+            s.setSearch(randomSearch(vars, i));
+            s.setNoGoodRecordingFromRestarts();
+            s.setLubyRestart(50, new FailCounter(m, 0), 1000);
+            pares.addModel(m);
+        }
+        pares.enableNogoodSharing(10);
+        Assert.assertTrue(pares.solve());
+        Assert.assertEquals(pares.getBestModel().getSolver().isSatisfied(), org.chocosolver.util.ESat.TRUE);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testNogoodSharing3() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModel(knapsack());
+        pares.addModel(ProblemMaker.makeGolombRuler(5));
+        pares.enableNogoodSharing(8);
+        pares.solve();
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSolutionSharing() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModels(() -> ProblemMaker.makeGolombRuler(7), 8);
+        while(pares.solve());
+        Assert.assertEquals(pares.getBestModel().getSolver().getBestSolutionValue(), 25);
+    }
 }
@@ -0,0 +1,174 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class TuplesTest {
+
+    private static void assertMatrix(int[][] actual, int[][] expected) {
+        Assert.assertTrue(Arrays.deepEquals(actual, expected),
+                Arrays.deepToString(actual) + " != " + Arrays.deepToString(expected));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAddAndGet() {
+        Tuples tuples = new Tuples(true);
+        Assert.assertEquals(tuples.arity(), 0);
+        for (int i = 0; i < 1000; i++) {
+            tuples.add(i, -i, i % 7);
+        }
+        Assert.assertEquals(tuples.nbTuples(), 1000);
+        Assert.assertEquals(tuples.arity(), 3);
+        Assert.assertEquals(tuples.get(42), new int[]{42, -42, 0});
+        Assert.assertEquals(tuples.get(999, 1), -999);
+        int[] tuple = new int[3];
+        Assert.assertSame(tuples.get(10, tuple), tuple);
+        Assert.assertEquals(tuple, new int[]{10, -10, 3});
+        Assert.assertEquals(tuples.min(0), 0);
+        Assert.assertEquals(tuples.max(0), 999);
+        Assert.assertEquals(tuples.min(1), -999);
+        Assert.assertEquals(tuples.max(2), 6);
+        // the tuple added is copied
+        int[] t = {1, 2, 3};
+        tuples.add(t);
+        t[0] = 5;
+        Assert.assertEquals(tuples.get(1000, 0), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testArity() {
+        Tuples tuples = new Tuples(true);
+        tuples.ensureCapacity(10);
+        tuples.add(1, 2);
+        tuples.add(1, 2, 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSort() {
+        Random rnd = new Random(0);
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < 500; i++) {
+            tuples.add(rnd.nextInt(5) - 2, rnd.nextInt(5), rnd.nextInt(100) - 50);
+        }
+        int[][] before = tuples.toMatrix();
+        tuples.sort();
+        Assert.assertEquals(tuples.nbTuples(), 500);
+        for (int i = 1; i < tuples.nbTuples(); i++) {
+            int[] t1 = tuples.get(i - 1);
+            int[] t2 = tuples.get(i);
+            int j = 0;
+            while (j < 3 && t1[j] == t2[j]) {
+                j++;
+            }
+            Assert.assertTrue(j == 3 || t1[j] < t2[j]);
+        }
+        Arrays.sort(before, (t1, t2) -> {
+            for (int j = 0; j < 3; j++) {
+                if (t1[j] != t2[j]) return Integer.compare(t1[j], t2[j]);
+            }
+            return 0;
+        });
+        assertMatrix(tuples.toMatrix(), before);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReadText() throws IOException {
+        String text = "0 1 2\n3,4,5\r\n\n-6;7\t-8\n  9 10 -11";
+        Tuples tuples = TuplesFactory.read(new StringReader(text), false);
+        Assert.assertFalse(tuples.isFeasible());
+        Assert.assertEquals(tuples.nbTuples(), 4);
+        assertMatrix(tuples.toMatrix(), new int[][]{{0, 1, 2}, {3, 4, 5}, {-6, 7, -8}, {9, 10, -11}});
+        // the storage is trimmed once read, tuples can still be added
+        tuples.add(12, 13, 14);
+        assertMatrix(tuples.toMatrix(), new int[][]{{0, 1, 2}, {3, 4, 5}, {-6, 7, -8}, {9, 10, -11}, {12, 13, 14}});
+        tuples = TuplesFactory.read(new StringReader("2147483647 -2147483648\n"), true);
+        Assert.assertEquals(tuples.get(0), new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE});
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testReadTextArity() throws IOException {
+        TuplesFactory.read(new StringReader("0 1 2\n3 4\n"), true);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testReadTextCharacter() throws IOException {
+        TuplesFactory.read(new StringReader("0 1 2\n3 a 4\n"), true);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testReadTextOverflow() throws IOException {
+        TuplesFactory.read(new StringReader("2147483648\n"), true);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReadBuffer() {
+        IntBuffer buffer = IntBuffer.wrap(new int[]{1, 2, 3, 4, 5, 6});
+        Tuples tuples = TuplesFactory.read(buffer, 2, true);
+        assertMatrix(tuples.toMatrix(), new int[][]{{1, 2}, {3, 4}, {5, 6}});
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testReadBufferArity() {
+        TuplesFactory.read(IntBuffer.wrap(new int[]{1, 2, 3}), 2, true);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReadFiles() throws IOException {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 3, 0, 3);
+        Tuples expected = TuplesFactory.allDifferent(vars);
+        Path text = Files.createTempFile("tuples", ".txt");
+        Path binary = Files.createTempFile("tuples", ".bin");
+        try {
+            StringBuilder st = new StringBuilder();
+            ByteBuffer bytes = ByteBuffer.allocate(expected.nbTuples() * 3 * Integer.BYTES);
+            for (int i = 0; i < expected.nbTuples(); i++) {
+                for (int j = 0; j < 3; j++) {
+                    st.append(expected.get(i, j)).append(' ');
+                    bytes.putInt(expected.get(i, j));
+                }
+                st.append('\n');
+            }
+            Files.write(text, st.toString().getBytes());
+            Files.write(binary, bytes.array());
+            assertMatrix(TuplesFactory.read(text, true).toMatrix(), expected.toMatrix());
+            try (FileChannel channel = FileChannel.open(binary)) {
+                IntBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asIntBuffer();
+                Tuples tuples = TuplesFactory.read(buffer, 3, true);
+                assertMatrix(tuples.toMatrix(), expected.toMatrix());
+                model.table(vars, tuples, "CT+").post();
+                while (model.getSolver().solve()) ;
+                Assert.assertEquals(model.getSolver().getSolutionCount(), 24);
+            }
+        } finally {
+            Files.deleteIfExists(text);
+            Files.deleteIfExists(binary);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.nary.SupportIndex.Supports;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SupportIndexTest {
+
+    private static Tuples random(long seed, int nbTuples, int arity, int range) {
+        Random rnd = new Random(seed);
+        Tuples tuples = new Tuples(true);
+        for (int t = 0; t < nbTuples; t++) {
+            int[] tuple = new int[arity];
+            for (int i = 0; i < arity; i++) {
+                tuple[i] = rnd.nextInt(range) - range / 2;
+            }
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
+    private static int count(Supports s) {
+        int c = 0;
+        for (int k = 0; k < s.size(); k++) {
+            c += Long.bitCount(s.word(k));
+        }
+        return c;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSupports() {
+        for (int range : new int[]{2, 10, 500}) {
+            Tuples tuples = random(range, 3000, 3, range);
+            SupportIndex index = SupportIndex.get(tuples, false);
+            Assert.assertEquals(index.nbWords(), 47);
+            for (int i = 0; i < 3; i++) {
+                int total = 0;
+                for (int v = -range; v <= range; v++) {
+                    Supports s = index.supports(i, v);
+                    Assert.assertSame(index.incSupports(i, v), s);
+                    for (int t = 0; t < tuples.nbTuples(); t++) {
+                        Assert.assertEquals(s.get(t), tuples.get(t, i) == v);
+                    }
+                    total += count(s);
+                }
+                Assert.assertEquals(total, tuples.nbTuples());
+            }
+        }
+        // dense for few values, compressed for many values
+        Assert.assertTrue(SupportIndex.get(random(1, 3000, 3, 2), false).supports(0, 0).isDense());
+        Assert.assertFalse(SupportIndex.get(random(1, 3000, 3, 500), false).supports(0, 0).isDense());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSpreadValues() {
+        Tuples tuples = new Tuples(true);
+        tuples.add(0, Integer.MIN_VALUE + 1, 0);
+        tuples.add(1_000_000_000, Integer.MAX_VALUE - 1, 1);
+        tuples.add(0, 5, 2);
+        SupportIndex index = SupportIndex.get(tuples, false);
+        Assert.assertEquals(count(index.supports(0, 0)), 2);
+        Assert.assertTrue(index.supports(0, 1_000_000_000).get(1));
+        Assert.assertEquals(count(index.supports(0, 1)), 0);
+        Assert.assertEquals(count(index.supports(1, Integer.MIN_VALUE + 1)), 1);
+        Assert.assertTrue(index.supports(1, Integer.MAX_VALUE - 1).get(1));
+        Assert.assertEquals(count(index.supports(1, Integer.MAX_VALUE)), 0);
+        long[] counts = new long[2];
+        String[] algos = {"CT+", "GAC3rm"};
+        for (int a = 0; a < 2; a++) {
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 3, -10, 10);
+            model.table(x, tuples, algos[a]).post();
+            while (model.getSolver().solve()) ;
+            counts[a] = model.getSolver().getSolutionCount();
+        }
+        Assert.assertEquals(counts[0], 1);
+        Assert.assertEquals(counts[1], 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUniversalValue() {
+        Tuples tuples = new Tuples(true);
+        tuples.setUniversalValue(-1);
+        tuples.add(0, -1);
+        tuples.add(-1, 2);
+        tuples.add(1, 1);
+        SupportIndex index = SupportIndex.get(tuples, true);
+        Assert.assertTrue(index.supports(0, 0).get(0));
+        Assert.assertTrue(index.supports(0, 0).get(1));
+        Assert.assertFalse(index.supports(0, 0).get(2));
+        Assert.assertTrue(index.supports(0, 5).get(1));
+        Assert.assertEquals(count(index.supports(0, 5)), 1);
+        Assert.assertEquals(count(index.incSupports(0, 0)), 1);
+        Assert.assertEquals(count(index.incSupports(0, 5)), 0);
+        Assert.assertEquals(count(index.supports(1, 2)), 2);
+        // the universal value is a regular value otherwise
+        Assert.assertEquals(count(SupportIndex.get(tuples, false).supports(0, -1)), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testShared() {
+        Tuples tuples = random(0, 100, 2, 5);
+        SupportIndex index = SupportIndex.get(tuples, false);
+        Assert.assertSame(SupportIndex.get(tuples, false), index);
+        Assert.assertNotSame(SupportIndex.get(random(0, 100, 2, 5), false), index);
+        Model m1 = new Model();
+        IntVar[] x = m1.intVarArray("x", 2, -2, 2);
+        IntVar[] y = m1.intVarArray("y", 2, -1, 3);
+        PropCompactTable p1 = new PropCompactTable(x, tuples);
+        PropCompactTable p2 = new PropCompactTable(y, tuples);
+        Model m2 = new Model();
+        PropCompactTable p3 = new PropCompactTable(m2.intVarArray("z", 2, 0, 1), tuples);
+        Assert.assertSame(p1.index, index);
+        Assert.assertSame(p2.index, index);
+        Assert.assertSame(p3.index, index);
+        tuples.add(2, 2);
+        index = SupportIndex.get(tuples, false);
+        Assert.assertNotSame(index, p1.index);
+        tuples.sort();
+        Assert.assertNotSame(SupportIndex.get(tuples, false), index);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedTables() {
+        for (int seed = 0; seed < 20; seed++) {
+            Tuples tuples = random(seed, 200, 3, 6);
+            long[] counts = new long[2];
+            String[] algos = {"CT+", "GAC3rm"};
+            for (int a = 0; a < 2; a++) {
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 5, -3, 3);
+                model.table(new IntVar[]{x[0], x[1], x[2]}, tuples, algos[a]).post();
+                model.table(new IntVar[]{x[2], x[3], x[4]}, tuples, algos[a]).post();
+                model.table(new IntVar[]{x[4], x[1], x[3]}, tuples, algos[a]).post();
+                while (model.getSolver().solve()) ;
+                counts[a] = model.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[0], counts[1], "seed=" + seed);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.alldifferent;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class ExplAllDiffBCTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test1() throws ContradictionException {
+        Model mo = new Model();
+        IntVar a = mo.intVar("a", 0, 6);
+        IntVar b = mo.intVar("b", 0, 6);
+        IntVar c = mo.intVar("c", 0, 6);
+        IntVar d = mo.intVar("d", 0, 6);
+        PropAllDiffBC prop = new PropAllDiffBC(new IntVar[]{a, b, c, d});
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> {
+                            b.updateBounds(0, 1, Cause.Null);
+                            c.updateBounds(0, 1, Cause.Null);
+                        }, prop, a);
+        Assert.assertTrue(lits.containsKey(a));
+        Assert.assertTrue(lits.containsKey(b));
+        Assert.assertTrue(lits.containsKey(c));
+        Assert.assertFalse(lits.containsKey(d));
+        IntIterableRangeSet rng = new IntIterableRangeSet(2, 6);
+        Assert.assertEquals(lits.get(a), rng);
+        Assert.assertEquals(lits.get(b), rng);
+        Assert.assertEquals(lits.get(c), rng);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test2() throws ContradictionException {
+        Model mo = new Model();
+        IntVar a = mo.intVar("a", 0, 6);
+        IntVar b = mo.intVar("b", 0, 6);
+        IntVar c = mo.intVar("c", 0, 6);
+        IntVar d = mo.intVar("d", 0, 6);
+        PropAllDiffBC prop = new PropAllDiffBC(new IntVar[]{a, b, c, d});
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> {
+                            b.updateBounds(5, 6, Cause.Null);
+                            c.updateBounds(5, 6, Cause.Null);
+                        }, prop, a);
+        Assert.assertTrue(lits.containsKey(a));
+        Assert.assertTrue(lits.containsKey(b));
+        Assert.assertTrue(lits.containsKey(c));
+        Assert.assertFalse(lits.containsKey(d));
+        IntIterableRangeSet rng = new IntIterableRangeSet(0, 4);
+        Assert.assertEquals(lits.get(a), rng);
+        Assert.assertEquals(lits.get(b), rng);
+        Assert.assertEquals(lits.get(c), rng);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test3() throws ContradictionException {
+        Model mo = new Model();
+        IntVar a = mo.intVar("a", 0, 6);
+        IntVar b = mo.intVar("b", 0, 6);
+        IntVar c = mo.intVar("c", 0, 6);
+        IntVar d = mo.intVar("d", 0, 6);
+        PropAllDiffBC prop = new PropAllDiffBC(new IntVar[]{a, b, c, d});
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> {
+                            a.updateBounds(1, 6, Cause.Null);
+                            b.updateBounds(1, 2, Cause.Null);
+                            c.updateBounds(1, 2, Cause.Null);
+                        }, prop, a);
+        // the smallest Hall interval, [1,2], is retained
+        Assert.assertTrue(lits.containsKey(a));
+        Assert.assertTrue(lits.containsKey(b));
+        Assert.assertTrue(lits.containsKey(c));
+        Assert.assertFalse(lits.containsKey(d));
+        IntIterableRangeSet rng = new IntIterableRangeSet(3, 6);
+        rng.add(0);
+        Assert.assertEquals(lits.get(a), rng);
+        Assert.assertEquals(lits.get(b), rng);
+        Assert.assertEquals(lits.get(c), rng);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test4() {
+        for (int seed = 0; seed < 20; seed++) {
+            long[] counts = new long[2];
+            for (int l = 0; l < 2; l++) {
+                Random rnd = new Random(seed);
+                Model mo = new Model();
+                IntVar[] x = new IntVar[6];
+                for (int i = 0; i < x.length; i++) {
+                    int lb = rnd.nextInt(5);
+                    x[i] = mo.intVar("x" + i, lb, lb + 1 + rnd.nextInt(4), true);
+                }
+                mo.post(new Constraint("test", new PropAllDiffBC(x), new PropAllDiffInst(x)));
+                mo.arithm(x[0], "+", x[1], "<", x[2]).post();
+                if (l == 1) {
+                    mo.getSolver().setLearningSignedClauses();
+                }
+                while (mo.getSolver().solve()) ;
+                counts[l] = mo.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed=" + seed);
+        }
+    }
+}
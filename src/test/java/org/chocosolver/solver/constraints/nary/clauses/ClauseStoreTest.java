@@ -0,0 +1,181 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.clauses;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderUBSearch;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ClauseStoreTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedRanges() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        ClauseStore store = model.getClauseConstraint().getClauseStore();
+        // two clauses watching the same range of x[0]
+        store.add(new IntVar[]{x[0], x[1]},
+                new IntIterableRangeSet[]{new IntIterableRangeSet(0, 1), new IntIterableRangeSet(4, 5)});
+        store.add(new IntVar[]{x[0], x[2]},
+                new IntIterableRangeSet[]{new IntIterableRangeSet(0, 1), new IntIterableRangeSet(3, 3)});
+        IntIterableRangeSet holes = new IntIterableRangeSet(0, 1);
+        holes.addBetween(3, 5);
+        store.add(new IntVar[]{x[1], x[2]},
+                new IntIterableRangeSet[]{holes, new IntIterableRangeSet(0, 4)});
+        Assert.assertEquals(store.getNbClauses(), 3);
+        model.getSolver().setSearch(inputOrderLBSearch(x));
+        int count = 0;
+        while (model.getSolver().solve()) {
+            int a = x[0].getValue(), b = x[1].getValue(), c = x[2].getValue();
+            Assert.assertTrue(a <= 1 || b >= 4);
+            Assert.assertTrue(a <= 1 || c == 3);
+            Assert.assertTrue(b != 2 || c <= 4);
+            count++;
+        }
+        int expected = 0;
+        for (int a = 0; a < 6; a++) {
+            for (int b = 0; b < 6; b++) {
+                for (int c = 0; c < 6; c++) {
+                    if ((a <= 1 || b >= 4) && (a <= 1 || c == 3) && (b != 2 || c <= 4)) {
+                        expected++;
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(count, expected);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReduce() {
+        for (int seed = 0; seed < 10; seed++) {
+            long[] counts = new long[3];
+            for (int l = 0; l < 3; l++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 6, 0, 5, true);
+                model.allDifferent(x, "BC").post();
+                for (int i = 0; i < 6; i++) {
+                    int a = rnd.nextInt(6), b = rnd.nextInt(6);
+                    if (a != b) {
+                        model.arithm(x[a], "-", x[b], "!=", 1 + rnd.nextInt(3)).post();
+                    }
+                }
+                if (l > 0) {
+                    if (l == 2) {
+                        // force frequent reductions of the store
+                        model.getSettings().setNbMaxLearntClauses(4);
+                    }
+                    model.getSolver().setLearningSignedClauses();
+                }
+                model.getSolver().setSearch(inputOrderLBSearch(x));
+                while (model.getSolver().solve()) ;
+                counts[l] = model.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed=" + seed);
+            Assert.assertEquals(counts[2], counts[0], "seed=" + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTiers() {
+        // {core LBD, tier-2 LBD}
+        int[][] tiers = {{2, 6}, {0, 0}, {0, Integer.MAX_VALUE}, {Integer.MAX_VALUE, Integer.MAX_VALUE}};
+        for (int seed = 0; seed < 5; seed++) {
+            long[] counts = new long[tiers.length + 1];
+            for (int l = 0; l <= tiers.length; l++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 6, 0, 5, true);
+                model.allDifferent(x, "BC").post();
+                for (int i = 0; i < 6; i++) {
+                    int a = rnd.nextInt(6), b = rnd.nextInt(6);
+                    if (a != b) {
+                        model.arithm(x[a], "-", x[b], "!=", 1 + rnd.nextInt(3)).post();
+                    }
+                }
+                if (l > 0) {
+                    model.getSettings().setNbMaxLearntClauses(4);
+                    model.getSettings().setLearntClausesCoreLBD(tiers[l - 1][0]);
+                    model.getSettings().setLearntClausesTier2LBD(tiers[l - 1][1]);
+                    model.getSolver().setLearningSignedClauses();
+                }
+                model.getSolver().setSearch(inputOrderLBSearch(x));
+                while (model.getSolver().solve()) ;
+                counts[l] = model.getSolver().getSolutionCount();
+                ClauseStore store = model.getClauseConstraint().getClauseStore();
+                Assert.assertTrue(store.getNbCoreLearntClauses() <= store.getNbLearntClauses());
+                if (l == 2 || l == 3) {
+                    Assert.assertEquals(store.getNbCoreLearntClauses(), 0);
+                }
+                if (l == 4) {
+                    Assert.assertEquals(store.getNbCoreLearntClauses(), store.getNbLearntClauses());
+                }
+            }
+            for (int l = 1; l <= tiers.length; l++) {
+                Assert.assertEquals(counts[l], counts[0], "seed=" + seed + ", tiers=" + l);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLBD() {
+        Model model = new Model();
+        model.getSettings().setLearntClausesCoreLBD(1);
+        model.getSettings().setLearntClausesTier2LBD(2);
+        IntVar a = model.intVar("a", 0, 1);
+        IntVar b = model.intVar("b", 0, 1);
+        IntVar d = model.intVar("d", 0, 1);
+        IntVar e = model.intVar("e", 0, 1);
+        IntVar y = model.intVar("y", 0, 1);
+        IntVar z = model.intVar("z", 0, 1);
+        model.arithm(a, "=", d).post();
+        model.arithm(a, "=", e).post();
+        model.sum(new IntVar[]{y, d, b}, "<=", 2).post();
+        model.sum(new IntVar[]{z, e, b}, "<=", 2).post();
+        model.arithm(y, "!=", z).post();
+        model.getSolver().setLearningSignedClauses();
+        model.getSolver().setSearch(inputOrderUBSearch(a, b, y, z));
+        // a = 1 at level 1 implies d = e = 1, then b = 1 at level 2 implies y = z = 0
+        Assert.assertTrue(model.getSolver().solve());
+        ClauseStore store = model.getClauseConstraint().getClauseStore();
+        Assert.assertEquals(store.getNbLearntClauses(), 1);
+        // d != 1 or e != 1 or b != 1: d and e are falsified at the same level
+        ClauseStore.SignedClause learnt = store.getLearntClause(0);
+        Assert.assertEquals(learnt.cardinality(), 3);
+        Assert.assertEquals(learnt.getLBD(), 2);
+        Assert.assertEquals(learnt.getTier(), ClauseStore.TIER2);
+        Assert.assertEquals(store.getNbCoreLearntClauses(), 0);
+
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        IntIterableRangeSet[] ranges = {new IntIterableRangeSet(0, 1),
+                new IntIterableRangeSet(2, 3), new IntIterableRangeSet(4, 5)};
+        store.add(x, ranges, 1);
+        Assert.assertEquals(store.getLearntClause(1).getLBD(), 1);
+        Assert.assertEquals(store.getLearntClause(1).getTier(), ClauseStore.CORE);
+        store.add(x, ranges, 3);
+        Assert.assertEquals(store.getLearntClause(2).getLBD(), 3);
+        Assert.assertEquals(store.getLearntClause(2).getTier(), ClauseStore.LOCAL);
+        // unknown LBD, bounded by the number of variables
+        store.add(new IntVar[]{x[0], x[1]}, new IntIterableRangeSet[]{ranges[0], ranges[1]});
+        Assert.assertEquals(store.getLearntClause(3).getLBD(), 2);
+        Assert.assertEquals(store.getLearntClause(3).getTier(), ClauseStore.TIER2);
+        Assert.assertEquals(store.getNbCoreLearntClauses(), 1);
+    }
+}
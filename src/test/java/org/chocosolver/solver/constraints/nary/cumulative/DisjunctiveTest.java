@@ -0,0 +1,134 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DisjunctiveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDetectablePrecedences() throws ContradictionException {
+        // the third task cannot start before the first one ends
+        Model model = new Model();
+        IntVar[] s = {model.intVar("s0", 0, 1), model.intVar("s1", 6, 10), model.intVar("s2", 0, 10)};
+        Task[] tasks = new Task[3];
+        for (int i = 0; i < 3; i++) {
+            tasks[i] = model.taskVar(s[i], 4);
+        }
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(s[2].getLB(), 4);
+        Assert.assertEquals(s[0].getUB(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFail() {
+        Model model = new Model();
+        Task[] tasks = {model.taskVar(model.intVar(0), 3), model.taskVar(model.intVar(2), 3)};
+        model.disjunctive(tasks).post();
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertEquals(model.getSolver().getNodeCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptional() throws ContradictionException {
+        // the second task does not fit in the resource
+        Model model = new Model();
+        IntVar[] s = {model.intVar("s0", 0), model.intVar("s1", 1, 3), model.intVar("s2", 5, 10)};
+        Task[] tasks = {model.taskVar(s[0], 5), model.taskVar(s[1], 3), model.taskVar(s[2], 1)};
+        BoolVar[] p = model.boolVarArray("p", 3);
+        p[0].eq(1).post();
+        model.disjunctive(tasks, p).post();
+        model.getSolver().propagate();
+        Assert.assertTrue(p[1].isInstantiatedTo(0));
+        Assert.assertFalse(p[2].isInstantiated());
+        Assert.assertEquals(s[1].getLB(), 1);
+        Assert.assertEquals(s[2].getLB(), 5);
+        p[2].instantiateTo(1, Cause.Null);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[2].getLB(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAbsent() {
+        // absent tasks are not constrained
+        Model model = new Model();
+        Task[] tasks = {model.taskVar(model.intVar(0), 3), model.taskVar(model.intVar(2), 3)};
+        BoolVar[] p = model.boolVarArray("p", 2);
+        model.disjunctive(tasks, p).post();
+        model.getSolver().setSearch(inputOrderLBSearch(p));
+        while (model.getSolver().solve()) {
+            Assert.assertEquals(model.getSolver().isSatisfied(), ESat.TRUE);
+        }
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 20; seed++) {
+            long[] counts = new long[2];
+            for (int f = 0; f < 2; f++) {
+                Random rnd = new Random(seed);
+                int n = 4;
+                Model model = new Model();
+                IntVar[] s = new IntVar[n];
+                Task[] tasks = new Task[n];
+                BoolVar[] p = new BoolVar[n];
+                for (int i = 0; i < n; i++) {
+                    int a = rnd.nextInt(5);
+                    s[i] = model.intVar("s" + i, a, a + 2 + rnd.nextInt(6));
+                    tasks[i] = model.taskVar(s[i], 1 + rnd.nextInt(3));
+                    p[i] = rnd.nextBoolean() ? model.boolVar(true) : model.boolVar("p" + i);
+                }
+                if (f == 0) {
+                    model.cumulative(tasks, p, model.intVar(1), false, Cumulative.Filter.TIME).post();
+                } else {
+                    model.disjunctive(tasks, p).post();
+                }
+                model.getSolver().setSearch(inputOrderLBSearch(ArrayUtils.append(p, s)));
+                while (model.getSolver().solve()) ;
+                counts[f] = model.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed=" + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLarge() {
+        // a single machine with many tasks that all fit
+        Model model = new Model();
+        int n = 200;
+        IntVar[] s = model.intVarArray("s", n, 0, 2 * n);
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            tasks[i] = model.taskVar(s[i], 2);
+        }
+        model.disjunctive(tasks).post();
+        model.getSolver().setSearch(inputOrderLBSearch(s));
+        Assert.assertTrue(model.getSolver().solve());
+        Assert.assertEquals(model.getSolver().getFailCount(), 0);
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class EdgeFindingCumulFilterTest {
+
+    /**
+     * Post a cumulative constraint over tasks with fixed durations and heights
+     */
+    private static IntVar[] post(Model model, int[][] starts, int[] d, int[] h, int capa, Cumulative.Filter... filters) {
+        int n = d.length;
+        IntVar[] s = new IntVar[n];
+        Task[] tasks = new Task[n];
+        IntVar[] hs = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            s[i] = model.intVar("s" + i, starts[i][0], starts[i][1]);
+            tasks[i] = model.taskVar(s[i], d[i]);
+            hs[i] = model.intVar(h[i]);
+        }
+        new Cumulative(tasks, hs, model.intVar(capa), false, filters).post();
+        return s;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        // the two first tasks fill [0,5) but 1 unit, the third one has to start after them
+        Model model = new Model();
+        IntVar[] s = post(model, new int[][]{{0, 3}, {0, 3}, {0, 10}}, new int[]{2, 2, 2}, new int[]{1, 1, 1}, 1,
+                Cumulative.Filter.EDGE_FINDING);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[2].getLB(), 4);
+        Assert.assertEquals(s[0].getLB(), 0);
+        Assert.assertEquals(s[0].getUB(), 3);
+        // time-table does not filter anything
+        model = new Model();
+        s = post(model, new int[][]{{0, 3}, {0, 3}, {0, 10}}, new int[]{2, 2, 2}, new int[]{1, 1, 1}, 1,
+                Cumulative.Filter.TIME);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[2].getLB(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCumulativeEdgeFinding() throws ContradictionException {
+        // capacity 2: the two first tasks require 8 units of energy out of 10 in [0,5),
+        // a task of height 2 has to end after them and can only start once they are done
+        Model model = new Model();
+        IntVar[] s = post(model, new int[][]{{0, 1}, {0, 1}, {0, 10}}, new int[]{4, 4, 2}, new int[]{1, 1, 2}, 2,
+                Cumulative.Filter.EDGE_FINDING);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[2].getLB(), 4);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNotLast() throws ContradictionException {
+        // the first task cannot end after the second one starts, it has to end before
+        Model model = new Model();
+        IntVar[] s = post(model, new int[][]{{0, 4}, {2, 6}}, new int[]{3, 3}, new int[]{1, 1}, 1,
+                Cumulative.Filter.NOT_FIRST_NOT_LAST);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[0].getUB(), 3);
+        Assert.assertEquals(s[1].getLB(), 3);
+        // tasks that may overlap are ignored
+        model = new Model();
+        s = post(model, new int[][]{{0, 4}, {2, 6}}, new int[]{3, 3}, new int[]{1, 1}, 2,
+                Cumulative.Filter.NOT_FIRST_NOT_LAST);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[0].getUB(), 4);
+        Assert.assertEquals(s[1].getLB(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeTableEdgeFinding() throws ContradictionException {
+        // the two first tasks fill [0,4), the third one is pushed out of this window
+        Model model = new Model();
+        IntVar[] s = post(model, new int[][]{{0, 2}, {0, 2}, {1, 10}}, new int[]{2, 2, 1}, new int[]{1, 1, 1}, 1,
+                Cumulative.Filter.TIME_TABLE_EDGE_FINDING);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[2].getLB(), 4);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverload() {
+        Model model = new Model();
+        post(model, new int[][]{{0, 2}, {0, 2}, {0, 2}}, new int[]{2, 2, 1}, new int[]{1, 1, 1}, 1,
+                Cumulative.Filter.EDGE_FINDING);
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertEquals(model.getSolver().getNodeCount(), 0);
+        model = new Model();
+        post(model, new int[][]{{0, 2}, {0, 2}, {0, 2}}, new int[]{2, 2, 1}, new int[]{1, 1, 1}, 1,
+                Cumulative.Filter.TIME_TABLE_EDGE_FINDING);
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertEquals(model.getSolver().getNodeCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        Cumulative.Filter[][] filters = {
+                {Cumulative.Filter.TIME},
+                {Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING},
+                {Cumulative.Filter.TIME, Cumulative.Filter.NOT_FIRST_NOT_LAST},
+                {Cumulative.Filter.TIME, Cumulative.Filter.TIME_TABLE_EDGE_FINDING},
+                {Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING,
+                        Cumulative.Filter.NOT_FIRST_NOT_LAST, Cumulative.Filter.TIME_TABLE_EDGE_FINDING},
+        };
+        for (int seed = 0; seed < 30; seed++) {
+            long[] counts = new long[filters.length];
+            for (int f = 0; f < filters.length; f++) {
+                Random rnd = new Random(seed);
+                int n = 4 + rnd.nextInt(2);
+                int capa = 1 + rnd.nextInt(3);
+                int[][] starts = new int[n][];
+                int[] d = new int[n];
+                int[] h = new int[n];
+                for (int i = 0; i < n; i++) {
+                    int a = rnd.nextInt(4);
+                    starts[i] = new int[]{a, a + 2 + rnd.nextInt(5)};
+                    d[i] = 1 + rnd.nextInt(3);
+                    h[i] = 1 + rnd.nextInt(capa);
+                }
+                Model model = new Model();
+                IntVar[] s = post(model, starts, d, h, capa, filters[f]);
+                model.getSolver().setSearch(inputOrderLBSearch(s));
+                while (model.getSolver().solve()) ;
+                counts[f] = model.getSolver().getSolutionCount();
+            }
+            for (int f = 1; f < filters.length; f++) {
+                Assert.assertEquals(counts[f], counts[0], "seed=" + seed + ", filters=" + f);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandomDurations() {
+        Cumulative.Filter[][] filters = {
+                {Cumulative.Filter.TIME},
+                {Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING,
+                        Cumulative.Filter.NOT_FIRST_NOT_LAST, Cumulative.Filter.TIME_TABLE_EDGE_FINDING},
+        };
+        for (int seed = 0; seed < 10; seed++) {
+            long[] counts = new long[filters.length];
+            for (int f = 0; f < filters.length; f++) {
+                Random rnd = new Random(seed);
+                int n = 3;
+                Model model = new Model();
+                IntVar[] s = model.intVarArray("s", n, 0, 4);
+                IntVar[] d = model.intVarArray("d", n, 1, 3);
+                IntVar[] h = model.intVarArray("h", n, 1, 2);
+                Task[] tasks = new Task[n];
+                for (int i = 0; i < n; i++) {
+                    tasks[i] = model.taskVar(s[i], d[i]);
+                    model.arithm(s[i], ">=", rnd.nextInt(3)).post();
+                }
+                IntVar c = model.intVar("c", 1, 3);
+                new Cumulative(tasks, h, c, false, filters[f]).post();
+                model.getSolver().setSearch(inputOrderLBSearch(ArrayUtils.append(s, d, h, new IntVar[]{c})));
+                while (model.getSolver().solve()) ;
+                counts[f] = model.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed=" + seed);
+        }
+    }
+}
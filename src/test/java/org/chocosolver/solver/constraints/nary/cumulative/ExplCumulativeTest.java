@@ -0,0 +1,129 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class ExplCumulativeTest {
+
+    private static PropCumulative post(Model mo, IntVar[] s, int[] d, IntVar[] e, int capa) {
+        IntVar[] dv = new IntVar[s.length];
+        IntVar[] hv = new IntVar[s.length];
+        for (int i = 0; i < s.length; i++) {
+            dv[i] = mo.intVar(d[i]);
+            hv[i] = mo.intVar(1);
+        }
+        PropCumulative prop = new PropCumulative(s, dv, e, hv, mo.intVar(capa), Cumulative.Filter.TIME.make(s.length));
+        mo.post(new Constraint("test", prop));
+        return prop;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test1() throws ContradictionException {
+        Model mo = new Model();
+        IntVar[] s = mo.intVarArray("s", 3, 0, 10);
+        IntVar[] e = new IntVar[]{mo.intVar("e0", 3, 13), mo.intVar("e1", 2, 12), mo.intVar("e2", 4, 14)};
+        PropCumulative prop = post(mo, s, new int[]{3, 2, 4}, e, 2);
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> {
+                            s[1].instantiateTo(2, Cause.Null);
+                            e[1].instantiateTo(4, Cause.Null);
+                            s[2].updateBounds(0, 1, Cause.Null);
+                            e[2].updateBounds(4, 5, Cause.Null);
+                        }, prop, s[0]);
+        Assert.assertTrue(lits.containsKey(s[0]));
+        Assert.assertTrue(lits.containsKey(s[1]));
+        Assert.assertTrue(lits.containsKey(e[1]));
+        Assert.assertTrue(lits.containsKey(s[2]));
+        Assert.assertFalse(lits.containsKey(e[0]));
+        Assert.assertFalse(lits.containsKey(e[2]));
+        Assert.assertEquals(lits.size(), 4);
+        Assert.assertEquals(lits.get(s[0]), new IntIterableRangeSet(4, 10));
+        Assert.assertEquals(lits.get(s[1]), new IntIterableRangeSet(3, 10));
+        Assert.assertEquals(lits.get(e[1]), new IntIterableRangeSet(2, 3));
+        Assert.assertEquals(lits.get(s[2]), new IntIterableRangeSet(3, 10));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test2() throws ContradictionException {
+        Model mo = new Model();
+        IntVar[] s = mo.intVarArray("s", 3, 0, 10);
+        IntVar[] e = new IntVar[]{mo.intVar("e0", 3, 13), mo.intVar("e1", 2, 12), mo.intVar("e2", 4, 14)};
+        PropCumulative prop = post(mo, s, new int[]{3, 2, 4}, e, 2);
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> {
+                            s[1].instantiateTo(9, Cause.Null);
+                            e[1].instantiateTo(11, Cause.Null);
+                            s[2].updateBounds(8, 9, Cause.Null);
+                            e[2].updateBounds(12, 13, Cause.Null);
+                        }, prop, e[0]);
+        Assert.assertTrue(lits.containsKey(e[0]));
+        Assert.assertTrue(lits.containsKey(s[1]));
+        Assert.assertTrue(lits.containsKey(e[1]));
+        Assert.assertTrue(lits.containsKey(s[2]));
+        Assert.assertTrue(lits.containsKey(e[2]));
+        Assert.assertFalse(lits.containsKey(s[0]));
+        Assert.assertEquals(lits.get(e[0]), new IntIterableRangeSet(3, 9));
+        Assert.assertEquals(lits.get(s[1]), new IntIterableRangeSet(10, 10));
+        Assert.assertEquals(lits.get(e[1]), new IntIterableRangeSet(2, 10));
+        Assert.assertEquals(lits.get(s[2]), new IntIterableRangeSet(10, 10));
+        Assert.assertEquals(lits.get(e[2]), new IntIterableRangeSet(4, 10));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test3() {
+        for (int seed = 0; seed < 20; seed++) {
+            long[] counts = new long[2];
+            for (int l = 0; l < 2; l++) {
+                Random rnd = new Random(seed);
+                Model mo = new Model();
+                int n = 4;
+                Task[] tasks = new Task[n];
+                IntVar[] starts = new IntVar[n];
+                IntVar[] heights = new IntVar[n];
+                for (int i = 0; i < n; i++) {
+                    starts[i] = mo.intVar("s" + i, 0, 6);
+                    tasks[i] = mo.taskVar(starts[i], 1 + rnd.nextInt(3));
+                    heights[i] = mo.intVar(1 + rnd.nextInt(2));
+                }
+                mo.cumulative(tasks, heights, mo.intVar(2)).post();
+                mo.getSolver().setSearch(inputOrderLBSearch(starts));
+                if (l == 1) {
+                    mo.getSolver().setLearningSignedClauses();
+                }
+                while (mo.getSolver().solve()) ;
+                counts[l] = mo.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed=" + seed);
+        }
+    }
+}
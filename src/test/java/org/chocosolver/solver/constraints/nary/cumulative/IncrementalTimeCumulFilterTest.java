@@ -0,0 +1,116 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class IncrementalTimeCumulFilterTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testProfileTree() {
+        Random rnd = new Random(0);
+        int lo = -7, hi = 50;
+        ProfileTree tree = new ProfileTree(lo, hi);
+        long[] load = new long[hi - lo];
+        for (int k = 0; k < 500; k++) {
+            int a = lo - 3 + rnd.nextInt(hi - lo + 6);
+            int b = a + rnd.nextInt(10);
+            int v = rnd.nextInt(5) - 1;
+            tree.add(a, b, v);
+            for (int t = Math.max(a, lo); t < Math.min(b, hi); t++) {
+                load[t - lo] += v;
+            }
+            a = lo - 3 + rnd.nextInt(hi - lo + 6);
+            b = a + rnd.nextInt(20);
+            long thr = rnd.nextInt(8);
+            long max = 0;
+            int first = b, last = a - 1;
+            for (int t = a; t < b; t++) {
+                long l = t < lo || t >= hi ? 0 : load[t - lo];
+                max = Math.max(max, l);
+                if (l > thr) {
+                    first = Math.min(first, t);
+                    last = t;
+                }
+            }
+            Assert.assertEquals(tree.max(a, b), max);
+            Assert.assertEquals(tree.firstAbove(a, b, thr), first);
+            Assert.assertEquals(tree.lastAbove(a, b, thr), last);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFilter() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] s = {model.intVar("s0", 2, 3), model.intVar("s1", 0, 10)};
+        Task[] tasks = {model.taskVar(s[0], 4), model.taskVar(s[1], 2)};
+        IntVar[] h = {model.intVar(2), model.intVar(1)};
+        new Cumulative(tasks, h, model.intVar(2), true, Cumulative.Filter.INCREMENTAL_TIME).post();
+        model.getSolver().propagate();
+        // [3,6) is full, but the second task can start at 0
+        Assert.assertEquals(s[1].getLB(), 0);
+        Assert.assertEquals(s[1].getUB(), 10);
+        model.getEnvironment().worldPush();
+        s[1].updateLowerBound(2, Cause.Null);
+        model.getSolver().propagate();
+        Assert.assertEquals(s[1].getLB(), 6);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(s[1].getLB(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 20; seed++) {
+            long[] counts = new long[3];
+            for (int f = 0; f < 3; f++) {
+                Random rnd = new Random(seed);
+                int n = 4;
+                int capa = 1 + rnd.nextInt(3);
+                Model model = new Model();
+                IntVar[] s = new IntVar[n];
+                IntVar[] h = new IntVar[n];
+                Task[] tasks = new Task[n];
+                for (int i = 0; i < n; i++) {
+                    int a = rnd.nextInt(4);
+                    s[i] = model.intVar("s" + i, a, a + 2 + rnd.nextInt(5));
+                    tasks[i] = model.taskVar(s[i], 1 + rnd.nextInt(3));
+                    h[i] = rnd.nextBoolean() ? model.intVar(1 + rnd.nextInt(capa)) : model.intVar("h" + i, 0, capa);
+                }
+                IntVar c = model.intVar("c", 0, capa);
+                if (f == 0) {
+                    new Cumulative(tasks, h, c, false, Cumulative.Filter.TIME).post();
+                } else {
+                    new Cumulative(tasks, h, c, f == 2, Cumulative.Filter.INCREMENTAL_TIME).post();
+                }
+                IntVar[] vars = ArrayUtils.append(s, h, new IntVar[]{c});
+                model.getSolver().setSearch(f == 2 ? randomSearch(vars, seed) : inputOrderLBSearch(vars));
+                while (model.getSolver().solve()) ;
+                counts[f] = model.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed=" + seed);
+            Assert.assertEquals(counts[2], counts[0], "seed=" + seed);
+        }
+    }
+}
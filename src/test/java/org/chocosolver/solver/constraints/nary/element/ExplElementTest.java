@@ -0,0 +1,131 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.element;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class ExplElementTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test1() throws ContradictionException {
+        Model mo = new Model();
+        IntVar v = mo.intVar("v", 0, 10);
+        IntVar[] x = mo.intVarArray("x", 3, 0, 10);
+        IntVar i = mo.intVar("i", 0, 2);
+        PropElementV_fast prop = new PropElementV_fast(v, x, i, 0, true);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        k -> {
+                            v.updateLowerBound(5, Cause.Null);
+                            x[0].updateUpperBound(3, Cause.Null);
+                        }, prop, i);
+        Assert.assertEquals(lits.size(), 3);
+        Assert.assertEquals(lits.get(i), new IntIterableRangeSet(1, 2));
+        Assert.assertEquals(lits.get(v), new IntIterableRangeSet(0, 4));
+        Assert.assertEquals(lits.get(x[0]), new IntIterableRangeSet(5, 10));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test2() throws ContradictionException {
+        Model mo = new Model();
+        IntVar v = mo.intVar("v", 0, 10);
+        IntVar[] x = mo.intVarArray("x", 3, 0, 10);
+        IntVar i = mo.intVar("i", 0, 2);
+        PropElementV_fast prop = new PropElementV_fast(v, x, i, 0, true);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        k -> {
+                            i.updateUpperBound(1, Cause.Null);
+                            x[0].updateBounds(2, 5, Cause.Null);
+                            x[1].updateBounds(3, 7, Cause.Null);
+                        }, prop, v);
+        Assert.assertEquals(lits.size(), 4);
+        Assert.assertEquals(lits.get(v), new IntIterableRangeSet(2, 7));
+        Assert.assertEquals(lits.get(i), new IntIterableRangeSet(2, 2));
+        IntIterableRangeSet rng = new IntIterableRangeSet(0, 1);
+        rng.addBetween(8, 10);
+        Assert.assertEquals(lits.get(x[0]), rng);
+        Assert.assertEquals(lits.get(x[1]), rng);
+        Assert.assertFalse(lits.containsKey(x[2]));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test3() throws ContradictionException {
+        Model mo = new Model();
+        IntVar v = mo.intVar("v", 0, 10);
+        IntVar[] x = mo.intVarArray("x", 3, 0, 10);
+        IntVar i = mo.intVar("i", 0, 2);
+        PropElementV_fast prop = new PropElementV_fast(v, x, i, 0, true);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        k -> {
+                            i.instantiateTo(1, Cause.Null);
+                            v.updateBounds(3, 5, Cause.Null);
+                        }, prop, x[1]);
+        Assert.assertEquals(lits.size(), 3);
+        Assert.assertEquals(lits.get(x[1]), new IntIterableRangeSet(3, 5));
+        IntIterableRangeSet rng = new IntIterableRangeSet(0, 2);
+        rng.addBetween(6, 10);
+        Assert.assertEquals(lits.get(v), rng);
+        rng.clear();
+        rng.add(0);
+        rng.add(2);
+        Assert.assertEquals(lits.get(i), rng);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test4() {
+        for (int seed = 0; seed < 20; seed++) {
+            for (boolean fast : new boolean[]{true, false}) {
+                long[] counts = new long[2];
+                for (int l = 0; l < 2; l++) {
+                    Random rnd = new Random(seed);
+                    Model mo = new Model();
+                    IntVar v = mo.intVar("v", 0, 6);
+                    IntVar[] x = new IntVar[4];
+                    for (int j = 0; j < x.length; j++) {
+                        int lb = rnd.nextInt(5);
+                        x[j] = mo.intVar("x" + j, lb, lb + rnd.nextInt(4), rnd.nextBoolean());
+                    }
+                    IntVar i = mo.intVar("i", 0, 4);
+                    mo.post(new Constraint("test", new PropElementV_fast(v, x, i, 1, fast)));
+                    mo.arithm(v, "!=", x[rnd.nextInt(4)]).post();
+                    if (l == 1) {
+                        mo.getSolver().setLearningSignedClauses();
+                    }
+                    while (mo.getSolver().solve()) ;
+                    counts[l] = mo.getSolver().getSolutionCount();
+                }
+                Assert.assertEquals(counts[1], counts[0], "seed=" + seed + ", fast=" + fast);
+            }
+        }
+    }
+}
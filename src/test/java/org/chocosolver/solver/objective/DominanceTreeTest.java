@@ -0,0 +1,112 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DominanceTreeTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int d = 1; d <= 4; d++) {
+            Random rnd = new Random(d);
+            DominanceTree tree = new DominanceTree(d);
+            List<int[]> points = new ArrayList<>();
+            boolean[] alive = new boolean[2000];
+            TIntArrayList removed = new TIntArrayList();
+            for (int k = 0; k < 2000; k++) {
+                int[] v = new int[d];
+                for (int i = 0; i < d; i++) {
+                    v[i] = rnd.nextInt(50) - 10;
+                }
+                boolean dominated = false;
+                for (int j = 0; j < points.size(); j++) {
+                    dominated |= alive[j] && dominates(points.get(j), v);
+                }
+                Assert.assertEquals(tree.isWeaklyDominated(v), dominated);
+                removed.resetQuick();
+                tree.removeDominated(v, removed);
+                removed.sort();
+                TIntArrayList expected = new TIntArrayList();
+                for (int j = 0; j < points.size(); j++) {
+                    if (alive[j] && dominates(v, points.get(j))) {
+                        expected.add(j);
+                        alive[j] = false;
+                    }
+                }
+                Assert.assertEquals(removed, expected);
+                Assert.assertEquals(tree.add(v), points.size());
+                points.add(v);
+                alive[k] = true;
+                int live = 0;
+                for (int j = 0; j < points.size(); j++) {
+                    live += alive[j] ? 1 : 0;
+                }
+                Assert.assertEquals(tree.size(), live);
+            }
+        }
+    }
+
+    private static boolean dominates(int[] a, int[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] < b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParetoMinimize() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 4);
+        IntVar a = model.intVar("a", 0, 12);
+        IntVar b = model.intVar("b", -20, 20);
+        model.sum(x, "=", a).post();
+        model.scalar(x, new int[]{-3, 1, -1}, "=", b).post();
+        model.sum(x, ">=", 4).post();
+        ParetoOptimizer pareto = new ParetoOptimizer(Model.MINIMIZE, new IntVar[]{a, b});
+        model.getSolver().plugMonitor(pareto);
+        while (model.getSolver().solve()) ;
+        List<Solution> front = pareto.getParetoFront();
+        // brute force
+        List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i <= 4; i++) {
+            for (int j = 0; j <= 4; j++) {
+                for (int k = 0; k <= 4; k++) {
+                    if (i + j + k >= 4) {
+                        int[] v = {-(i + j + k), 3 * i - j + k};
+                        expected.removeIf(w -> dominates(v, w));
+                        if (expected.stream().noneMatch(w -> dominates(w, v))) {
+                            expected.add(v);
+                        }
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(front.size(), expected.size());
+        for (Solution s : front) {
+            int[] v = {-s.getIntVal(a), -s.getIntVal(b)};
+            Assert.assertTrue(expected.stream().anyMatch(w -> w[0] == v[0] && w[1] == v[1]));
+        }
+    }
+}
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.propagation;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
@@ -21,6 +22,8 @@ import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 import static java.util.Arrays.sort;
 import static org.chocosolver.solver.Cause.Null;
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
@@ -209,4 +212,192 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDynamicAdditionAndDeletion() throws ContradictionException {
+        Model model = new Model();
+        Solver solver = model.getSolver();
+        IntVar[] X = model.intVarArray("X", 6, 0, 2);
+        model.arithm(X[0], "<=", X[5]).post();
+        solver.propagate();
+        Constraint[] cs = new Constraint[5];
+        for (int i = 0; i < 5; i++) {
+            cs[i] = model.arithm(X[i], "!=", X[i + 1]);
+            cs[i].post();
+        }
+        model.unpost(cs[1], cs[3]);
+        model.unpost(cs[0]);
+        for (Constraint c : model.getCstrs()) {
+            int p = c.getPropagator(0).getPosition();
+            Assert.assertTrue(p > -1 && p < 3, c + " at " + p);
+        }
+        Assert.assertEquals(cs[0].getPropagator(0).getPosition(), -1);
+        solver.reset();
+        while (solver.solve()) ;
+        // X0 <= X5, X2 != X3, X4 != X5
+        assertEquals(solver.getSolutionCount(), 3 * 6 * 12);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testProfiling() {
+        Model model = makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        Assert.assertNull(solver.getMeasures().getPropagationProfiler());
+        PropagationProfiler profiler = solver.profilePropagation();
+        Assert.assertSame(solver.getMeasures().getPropagationProfiler(), profiler);
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 92);
+        List<PropagationProfiler.Record> records = profiler.getRecords();
+        assertEquals(records.size(), model.getCstrs().length);
+        long failures = 0;
+        for (int i = 0; i < records.size(); i++) {
+            PropagationProfiler.Record r = records.get(i);
+            Assert.assertTrue(r.getCalls() > 0);
+            if (i > 0) {
+                Assert.assertTrue(records.get(i - 1).getTime() >= r.getTime());
+            }
+            failures += r.getFailures();
+        }
+        Assert.assertTrue(failures > 0 && failures <= solver.getFailCount());
+        List<PropagationProfiler.Record> perCstr = profiler.getRecordsPerConstraint();
+        long calls = perCstr.stream().mapToLong(PropagationProfiler.Record::getCalls).sum();
+        assertEquals(calls, records.stream().mapToLong(PropagationProfiler.Record::getCalls).sum());
+        Assert.assertNull(perCstr.get(0).getPropagator());
+        profiler.printReport(solver.getOut(), 5);
+        solver.reset();
+        Assert.assertTrue(profiler.getRecords().isEmpty());
+    }
+
+    private static int countCallsWithView(boolean idempotent, boolean bothBounds) throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intOffsetView(x, 1);
+        int[] calls = new int[1];
+        new Constraint("test", new Propagator<IntVar>(new IntVar[]{x, y}) {
+            @Override
+            public void propagate(int evtmask) throws ContradictionException {
+                calls[0]++;
+                x.updateUpperBound(5, this);
+                if (bothBounds) {
+                    x.updateLowerBound(2, this);
+                }
+            }
+
+            @Override
+            public boolean isIdempotent() {
+                return idempotent;
+            }
+
+            @Override
+            public ESat isEntailed() {
+                return ESat.UNDEFINED;
+            }
+        }).post();
+        model.getSolver().propagate();
+        assertEquals(y.getUB(), 6);
+        assertEquals(y.getLB(), bothBounds ? 3 : 1);
+        return calls[0];
+    }
+
+    private static int countCallsOnTwoEvents(boolean idempotent) throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        int[] calls = new int[1];
+        new Constraint("test", new Propagator<IntVar>(new IntVar[]{x}) {
+            @Override
+            public void propagate(int evtmask) throws ContradictionException {
+                calls[0]++;
+                x.updateUpperBound(5, this);
+                x.updateLowerBound(2, this);
+            }
+
+            @Override
+            public boolean isIdempotent() {
+                return idempotent;
+            }
+
+            @Override
+            public ESat isEntailed() {
+                return ESat.UNDEFINED;
+            }
+        }).post();
+        model.getSolver().propagate();
+        assertEquals(x.getLB(), 2);
+        assertEquals(x.getUB(), 5);
+        return calls[0];
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testIdempotence() throws ContradictionException {
+        // the modification of x is forwarded by y
+        assertEquals(countCallsWithView(false, false), 2);
+        assertEquals(countCallsWithView(true, false), 1);
+        assertEquals(countCallsWithView(false, true), 2);
+        assertEquals(countCallsWithView(true, true), 1);
+        // successive events with the same cause keep that cause only if it is idempotent
+        assertEquals(countCallsOnTwoEvents(false), 2);
+        assertEquals(countCallsOnTwoEvents(true), 1);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptive1() {
+        Model model = makeNQueenWithBinaryConstraints(8);
+        model.getSolver().setEngine(new AdaptivePropagationEngine(model));
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 92);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptive2() {
+        Model model = new Model(new DefaultSettings().setAdaptivePropagatorOrdering(true));
+        Assert.assertTrue(model.getSolver().getEngine() instanceof AdaptivePropagationEngine);
+        IntVar[] ticks = model.intVarArray("a", 7, 0, 50);
+        IntVar[] diffs = model.intVarArray("d", 21, 0, 50);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0, k = 0; i < 6; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+            for (int j = i + 1; j < 7; j++, k++) {
+                model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+            }
+        }
+        Constraint alldiff = model.allDifferent(diffs, "AC");
+        alldiff.post();
+        model.setObjective(Model.MINIMIZE, ticks[6]);
+        Solver solver = model.getSolver();
+        solver.setSearch(minDomLBSearch(ticks));
+        while (solver.solve()) ;
+        assertEquals(solver.getBestSolutionValue(), 25);
+        AdaptivePropagationEngine engine = (AdaptivePropagationEngine) solver.getEngine();
+        for (Constraint c : model.getCstrs()) {
+            Propagator p = c.getPropagator(0);
+            int q = engine.getQueue(p);
+            Assert.assertTrue(q >= 1 && q <= 7);
+        }
+        Assert.assertTrue(engine.getCost(alldiff.getPropagator(0)) > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptive3() throws ContradictionException {
+        Model model = new Model(new DefaultSettings().setAdaptivePropagatorOrdering(true));
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        Constraint c1 = model.arithm(x, "<", y);
+        c1.post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        AdaptivePropagationEngine engine = (AdaptivePropagationEngine) solver.getEngine();
+        x.updateLowerBound(3, Cause.Null);
+        solver.propagate();
+        Assert.assertTrue(engine.getCost(c1.getPropagator(0)) > -1);
+        // the slot of a removed propagator is released, then reused
+        model.unpost(c1);
+        assertEquals(engine.getCost(c1.getPropagator(0)), -1);
+        Constraint c2 = model.arithm(x, "<=", y);
+        c2.post();
+        solver.propagate();
+        x.updateLowerBound(6, Cause.Null);
+        solver.propagate();
+        Assert.assertTrue(engine.getCost(c2.getPropagator(0)) > -1);
+        assertEquals(engine.getCost(c1.getPropagator(0)), -1);
+    }
 }
@@ -0,0 +1,68 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.search.strategy.Search.domOverVarWeightSearch;
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+
+/**
+ * @author agent
+ * @since 16/10/2026
+ */
+public class DomOverVarWeightTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testQueens() {
+        for (int n = 4; n < 10; n++) {
+            Model s1 = ProblemMaker.makeNQueenWithBinaryConstraints(n);
+            s1.getSolver().setSearch(domOverWDegSearch((IntVar[]) s1.getHook("vars")));
+            Model s2 = ProblemMaker.makeNQueenWithBinaryConstraints(n);
+            s2.getSolver().setSearch(domOverVarWeightSearch((IntVar[]) s2.getHook("vars")));
+            while (s1.getSolver().solve()) ;
+            while (s2.getSolver().solve()) ;
+            Assert.assertEquals(s2.getSolver().getSolutionCount(), s1.getSolver().getSolutionCount());
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testCostasWithRestarts() {
+        Model s1 = ProblemMaker.makeCostasArrays(7);
+        Model s2 = ProblemMaker.makeCostasArrays(7);
+        s1.getSolver().setSearch(domOverWDegSearch((IntVar[]) s1.getHook("vectors")));
+        IntVar[] vectors = (IntVar[]) s2.getHook("vectors");
+        Solver r = s2.getSolver();
+        r.setSearch(domOverVarWeightSearch(vectors));
+        r.setGeometricalRestart(vectors.length * 3, 1.1d, new FailCounter(s2, 0), 1000);
+        r.setNoGoodRecordingFromSolutions((IntVar[]) s2.getHook("vars"));
+        while (s1.getSolver().solve()) ;
+        while (s2.getSolver().solve()) ;
+        Assert.assertEquals(s2.getSolver().getSolutionCount(), s1.getSolver().getSolutionCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGolomb() {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+        IntVar[] diffs = (IntVar[]) model.getHook("diffs");
+        IntVar[] vars = new IntVar[ticks.length + diffs.length];
+        System.arraycopy(ticks, 0, vars, 0, ticks.length);
+        System.arraycopy(diffs, 0, vars, ticks.length, diffs.length);
+        model.getSolver().setSearch(domOverVarWeightSearch(vars));
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 34);
+    }
+}
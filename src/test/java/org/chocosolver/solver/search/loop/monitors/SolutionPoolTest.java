@@ -0,0 +1,165 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SolutionPoolTest {
+
+    private static Model model() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 3);
+        model.allDifferent(x).post();
+        model.arithm(x[0], "+", x[1], "=", model.intVar("y", 0, 6)).post();
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAll() {
+        Model model = model();
+        IntVar[] x = model.retrieveIntVars(true);
+        SolutionPool pool = model.getSolver().findAllSolutions(SolutionPool.all(model));
+        Assert.assertEquals(pool.size(), 24);
+        Assert.assertEquals(pool.getVars().length, x.length);
+        Set<List<Integer>> sols = new HashSet<>();
+        for (int r = 0; r < pool.size(); r++) {
+            int[] vals = pool.getValues(r);
+            List<Integer> l = new ArrayList<>();
+            for (int v : vals) {
+                l.add(v);
+            }
+            sols.add(l);
+            Assert.assertEquals(pool.getIntVal(r, x[0]) + pool.getIntVal(r, x[1]), pool.getIntVal(r, x[3]));
+            Solution s = pool.getSolution(r);
+            Assert.assertEquals(s.getIntVal(x[2]), vals[2]);
+        }
+        Assert.assertEquals(sols.size(), 24);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFirst() {
+        Model model = model();
+        SolutionPool pool = SolutionPool.first(model, 5);
+        model.getSolver().plugMonitor(pool);
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 24);
+        Assert.assertEquals(pool.size(), 5);
+        Assert.assertEquals(pool.getCapacity(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testWrongVar() {
+        Model model = model();
+        IntVar[] x = model.retrieveIntVars(true);
+        SolutionPool pool = model.getSolver().findAllSolutions(SolutionPool.all(model, x[0], x[1]));
+        pool.getIntVal(0, x[2]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBest() {
+        Model model = model();
+        IntVar[] x = model.retrieveIntVars(true);
+        SolutionPool pool = model.getSolver().findAllSolutions(SolutionPool.best(model, 4, x[3], true, x));
+        Assert.assertEquals(pool.size(), 4);
+        for (int r = 0; r < pool.size(); r++) {
+            // 3 + 2 twice, then 3 + 1 twice
+            Assert.assertTrue(pool.getIntVal(r, x[3]) >= 4);
+        }
+        model.getSolver().reset();
+        pool = model.getSolver().findAllSolutions(SolutionPool.best(model, 2, x[3], false, x));
+        Assert.assertEquals(pool.size(), 2);
+        for (int r = 0; r < pool.size(); r++) {
+            Assert.assertEquals(pool.getIntVal(r, x[3]), 1);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDiverse() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 1);
+        SolutionPool pool = model.getSolver().findAllSolutions(SolutionPool.diverse(model, 2, x));
+        Assert.assertEquals(pool.size(), 2);
+        int d = 0;
+        for (int i = 0; i < 4; i++) {
+            if (pool.getIntVal(0, x[i]) != pool.getIntVal(1, x[i])) {
+                d++;
+            }
+        }
+        // the two solutions are complementary
+        Assert.assertEquals(d, 4);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPareto() {
+        Model model = new Model();
+        IntVar a = model.intVar("a", 0, 5);
+        IntVar b = model.intVar("b", 0, 5);
+        model.arithm(a, "+", b, "<=", 5).post();
+        SolutionPool pool = model.getSolver().findAllSolutions(SolutionPool.pareto(model, 100, new IntVar[]{a, b}, true, a, b));
+        // a + b = 5
+        Assert.assertEquals(pool.size(), 6);
+        for (int r = 0; r < pool.size(); r++) {
+            Assert.assertEquals(pool.getIntVal(r, a) + pool.getIntVal(r, b), 5);
+        }
+        model.getSolver().reset();
+        pool = model.getSolver().findAllSolutions(SolutionPool.pareto(model, 3, new IntVar[]{a, b}, true, a, b));
+        Assert.assertEquals(pool.size(), 3);
+        for (int r = 0; r < pool.size(); r++) {
+            Assert.assertEquals(pool.getIntVal(r, a) + pool.getIntVal(r, b), 5);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSink() throws IOException {
+        Model model = model();
+        IntVar[] x = model.retrieveIntVars(true);
+        StringWriter out = new StringWriter();
+        SolutionSink sink = new SolutionSink(out, x);
+        Assert.assertEquals(model.getSolver().findAllSolutions(sink), 24);
+        Assert.assertEquals(sink.getSolutionCount(), 24);
+        String[] lines = out.toString().split("\n");
+        Assert.assertEquals(lines.length, 25);
+        Assert.assertEquals(lines[0], "x[0],x[1],x[2],y");
+        for (int i = 1; i < lines.length; i++) {
+            String[] v = lines[i].split(",");
+            Assert.assertEquals(Integer.parseInt(v[0]) + Integer.parseInt(v[1]), Integer.parseInt(v[3]));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSinkFile() throws IOException {
+        Model model = model();
+        IntVar[] x = model.retrieveIntVars(true);
+        Path path = Files.createTempFile("solutions", ".csv");
+        try (SolutionSink sink = new SolutionSink(path, x)) {
+            model.getSolver().plugMonitor(sink);
+            while (model.getSolver().solve()) ;
+        }
+        Assert.assertEquals(Files.readAllLines(path).size(), 25);
+        Files.delete(path);
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 16/10/2026.
+ */
+public class NogoodExchangeTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCapacity() {
+        Assert.assertEquals(new NogoodExchange(1).capacity(), 2);
+        Assert.assertEquals(new NogoodExchange(8).capacity(), 8);
+        Assert.assertEquals(new NogoodExchange(9).capacity(), 16);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPublishAndPull() {
+        NogoodExchange exchange = new NogoodExchange(8);
+        exchange.publish(0, new int[]{0, 1, NogoodExchange.POSITIVE | NogoodExchange.EQUALITY});
+        exchange.publish(1, new int[]{1, 2, 0, 2, 3, NogoodExchange.EQUALITY});
+        List<NogoodExchange.Nogood> read = new ArrayList<>();
+        long c0 = exchange.pull(0, 0, read::add);
+        Assert.assertEquals(c0, 2);
+        Assert.assertEquals(read.size(), 1);
+        NogoodExchange.Nogood ng = read.get(0);
+        Assert.assertEquals(ng.size(), 2);
+        Assert.assertEquals(ng.getIndex(1), 2);
+        Assert.assertEquals(ng.getValue(1), 3);
+        Assert.assertEquals(ng.getFlags(1), NogoodExchange.EQUALITY);
+        read.clear();
+        long c1 = exchange.pull(1, 0, read::add);
+        Assert.assertEquals(c1, 2);
+        Assert.assertEquals(read.size(), 1);
+        Assert.assertEquals(read.get(0).getFlags(0), NogoodExchange.POSITIVE | NogoodExchange.EQUALITY);
+        read.clear();
+        Assert.assertEquals(exchange.pull(0, c0, read::add), 2);
+        Assert.assertTrue(read.isEmpty());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverwrite() {
+        NogoodExchange exchange = new NogoodExchange(4);
+        for (int i = 0; i < 10; i++) {
+            exchange.publish(0, new int[]{i, i, 0});
+        }
+        List<NogoodExchange.Nogood> read = new ArrayList<>();
+        Assert.assertEquals(exchange.pull(1, 0, read::add), 10);
+        Assert.assertEquals(read.size(), 4);
+        Assert.assertEquals(read.get(0).getIndex(0), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConcurrent() throws InterruptedException {
+        NogoodExchange exchange = new NogoodExchange(1 << 16);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    exchange.publish(id, new int[]{i, id, 0});
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        int[] count = new int[1];
+        Assert.assertEquals(exchange.pull(0, 0, ng -> count[0]++), 4000);
+        Assert.assertEquals(count[0], 3000);
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.parallel;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class SolutionSharingTest {
+
+    /**
+     * Fails when a restart occurs while opening a node
+     */
+    private static class NestingChecker implements IMonitorOpenNode, IMonitorRestart {
+        boolean opening;
+
+        @Override
+        public void beforeOpenNode() {
+            opening = true;
+        }
+
+        @Override
+        public void afterOpenNode() {
+            opening = false;
+        }
+
+        @Override
+        public void beforeRestart() {
+            Assert.assertFalse(opening);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testExchange() {
+        SolutionExchange exchange = new SolutionExchange();
+        Assert.assertNull(exchange.get());
+        Model model = new Model();
+        Solution s1 = new Solution(model);
+        Solution s2 = new Solution(model);
+        exchange.publish(3, s1);
+        Assert.assertEquals(exchange.get().getStamp(), 1);
+        Assert.assertEquals(exchange.get().getSource(), 3);
+        Assert.assertSame(exchange.get().getSolution(), s1);
+        exchange.publish(1, s2);
+        Assert.assertEquals(exchange.get().getStamp(), 2);
+        Assert.assertEquals(exchange.get().getSource(), 1);
+        Assert.assertSame(exchange.get().getSolution(), s2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testImport() {
+        Model source = ProblemMaker.makeGolombRuler(6);
+        Solution best = new Solution(source);
+        while (source.getSolver().solve()) {
+            best.record();
+        }
+        SolutionExchange exchange = new SolutionExchange();
+        exchange.publish(0, best);
+
+        Model target = ProblemMaker.makeGolombRuler(6);
+        IntVar[] ticks = (IntVar[]) target.getHook("ticks");
+        int[] loaded = new int[ticks.length + 1];
+        Solver solver = target.getSolver();
+        solver.setLNS(new RandomNeighborhood(ticks, 2, 0) {
+            @Override
+            public void loadFromSolution(Solution solution) {
+                super.loadFromSolution(solution);
+                System.arraycopy(values, 0, loaded, 0, ticks.length);
+                loaded[ticks.length]++;
+            }
+        });
+        // the incumbent is imported on repair, not while opening a node
+        solver.plugMonitor(new NestingChecker());
+        solver.plugMonitor(new SolutionSharing(solver, exchange, 1));
+        // LNS is not complete
+        solver.limitFail(5000);
+        Assert.assertTrue(solver.solve());
+        // nothing is imported before the first solution
+        Assert.assertEquals(loaded[ticks.length], 0);
+        while (solver.solve()) ;
+        Assert.assertEquals(loaded[ticks.length], 1);
+        for (int i = 0; i < ticks.length; i++) {
+            Assert.assertEquals(loaded[i], best.getIntVal(ticks[i]));
+        }
+        Assert.assertEquals(solver.getBestSolutionValue(), 17);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOwnSolutionIsNotImported() {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+        int[] loaded = new int[1];
+        Solver solver = model.getSolver();
+        solver.setLNS(new RandomNeighborhood(ticks, 2, 0) {
+            @Override
+            public void loadFromSolution(Solution solution) {
+                super.loadFromSolution(solution);
+                loaded[0]++;
+            }
+        });
+        SolutionExchange exchange = new SolutionExchange();
+        solver.plugMonitor(new SolutionSharing(solver, exchange, 0));
+        // LNS is not complete
+        solver.limitFail(5000);
+        solver.plugMonitor((IMonitorSolution) () ->
+                exchange.publish(0, new Solution(model).record()));
+        while (solver.solve()) ;
+        Assert.assertEquals(loaded[0], 0);
+        Assert.assertEquals(solver.getBestSolutionValue(), 17);
+    }
+}
@@ -0,0 +1,307 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.RangeSetIntVarImpl;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.procedure.IntProcedure;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class RangeSetIntVarImplTest {
+
+	private static IntVar make(Model model) {
+		IntIterableRangeSet dom = new IntIterableRangeSet();
+		dom.addBetween(-5, -5);
+		dom.addBetween(0, 9);
+		dom.addBetween(100, 199);
+		return new RangeSetIntVarImpl("X", dom, model);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testContains() {
+		IntVar x = make(new Model());
+		Assert.assertEquals(x.getLB(), -5);
+		Assert.assertEquals(x.getUB(), 199);
+		Assert.assertEquals(x.getDomainSize(), 111);
+		Assert.assertEquals(x.getRange(), 205);
+		Assert.assertTrue(x.contains(-5));
+		Assert.assertFalse(x.contains(-4));
+		Assert.assertTrue(x.contains(9));
+		Assert.assertFalse(x.contains(10));
+		Assert.assertTrue(x.contains(150));
+		Assert.assertFalse(x.contains(200));
+		Assert.assertTrue(x.hasEnumeratedDomain());
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testNextPrevious() {
+		IntVar x = make(new Model());
+		Assert.assertEquals(x.nextValue(-6), -5);
+		Assert.assertEquals(x.nextValue(-5), 0);
+		Assert.assertEquals(x.nextValue(5), 6);
+		Assert.assertEquals(x.nextValue(9), 100);
+		Assert.assertEquals(x.nextValue(199), Integer.MAX_VALUE);
+		Assert.assertEquals(x.previousValue(200), 199);
+		Assert.assertEquals(x.previousValue(100), 9);
+		Assert.assertEquals(x.previousValue(0), -5);
+		Assert.assertEquals(x.previousValue(-5), Integer.MIN_VALUE);
+		Assert.assertEquals(x.nextValueOut(-6), -4);
+		Assert.assertEquals(x.nextValueOut(3), 10);
+		Assert.assertEquals(x.nextValueOut(10), 11);
+		Assert.assertEquals(x.previousValueOut(150), 99);
+		Assert.assertEquals(x.previousValueOut(1), -1);
+		Assert.assertEquals(x.previousValueOut(-4), -6);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testRemoveInterval() throws ContradictionException {
+		Model model = new Model();
+		IntVar x = make(model);
+		model.getEnvironment().worldPush();
+		Assert.assertFalse(x.removeInterval(10, 99, Cause.Null));
+		Assert.assertTrue(x.removeInterval(120, 129, Cause.Null));
+		Assert.assertEquals(((RangeSetIntVarImpl) x).getNbRanges(), 4);
+		Assert.assertTrue(x.removeInterval(5, 150, Cause.Null));
+		Assert.assertEquals(((RangeSetIntVarImpl) x).getNbRanges(), 3);
+		Assert.assertEquals(x.getDomainSize(), 1 + 5 + 49);
+		Assert.assertEquals(x.nextValue(4), 151);
+		Assert.assertTrue(x.removeInterval(-10, 0, Cause.Null));
+		Assert.assertEquals(x.getLB(), 1);
+		model.getEnvironment().worldPop();
+		Assert.assertEquals(((RangeSetIntVarImpl) x).getNbRanges(), 3);
+		Assert.assertEquals(x.getDomainSize(), 111);
+		Assert.assertEquals(x.getLB(), -5);
+		Assert.assertEquals(x.nextValue(9), 100);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testUpdateBounds() throws ContradictionException {
+		Model model = new Model();
+		IntVar x = make(model);
+		Assert.assertFalse(x.updateBounds(-10, 200, Cause.Null));
+		Assert.assertTrue(x.updateBounds(-4, 98, Cause.Null));
+		Assert.assertEquals(x.getLB(), 0);
+		Assert.assertEquals(x.getUB(), 9);
+		Assert.assertEquals(x.getDomainSize(), 10);
+		Assert.assertTrue(x.instantiateTo(3, Cause.Null));
+		Assert.assertTrue(x.isInstantiatedTo(3));
+	}
+
+	@Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
+	public void testUpdateBounds2() throws ContradictionException {
+		IntVar x = make(new Model());
+		x.updateBounds(10, 99, Cause.Null);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testRemoveValues() throws ContradictionException {
+		IntVar x = make(new Model());
+		IntIterableRangeSet rems = new IntIterableRangeSet();
+		rems.addBetween(-5, 4);
+		rems.addBetween(150, 300);
+		Assert.assertTrue(x.removeValues(rems, Cause.Null));
+		Assert.assertEquals(x.getLB(), 5);
+		Assert.assertEquals(x.getUB(), 149);
+		Assert.assertEquals(x.getDomainSize(), 55);
+		rems.clear();
+		rems.addBetween(6, 120);
+		Assert.assertTrue(x.removeAllValuesBut(rems, Cause.Null));
+		Assert.assertEquals(x.getLB(), 6);
+		Assert.assertEquals(x.getUB(), 120);
+		Assert.assertEquals(x.getDomainSize(), 25);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testIterators() throws ContradictionException {
+		IntVar x = make(new Model());
+		x.removeInterval(2, 7, Cause.Null);
+		x.updateUpperBound(101, Cause.Null);
+		DisposableValueIterator vit = x.getValueIterator(true);
+		TIntArrayList values = new TIntArrayList();
+		while (vit.hasNext()) {
+			values.add(vit.next());
+		}
+		vit.dispose();
+		Assert.assertEquals(values.toArray(), new int[]{-5, 0, 1, 8, 9, 100, 101});
+		vit = x.getValueIterator(false);
+		values.clear();
+		while (vit.hasPrevious()) {
+			values.add(vit.previous());
+		}
+		vit.dispose();
+		Assert.assertEquals(values.toArray(), new int[]{101, 100, 9, 8, 1, 0, -5});
+		DisposableRangeIterator rit = x.getRangeIterator(true);
+		values.clear();
+		while (rit.hasNext()) {
+			values.add(rit.min());
+			values.add(rit.max());
+			rit.next();
+		}
+		rit.dispose();
+		Assert.assertEquals(values.toArray(), new int[]{-5, -5, 0, 1, 8, 9, 100, 101});
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testDelta() throws ContradictionException {
+		IntVar x = make(new Model());
+		IIntDeltaMonitor d = x.monitorDelta(Cause.Null);
+		x.removeInterval(3, 120, Cause.Null);
+		x.updateLowerBound(1, Cause.Null);
+		d.freeze();
+		TIntArrayList remvals = new TIntArrayList();
+		d.forEachRemVal((IntProcedure) remvals::add);
+		d.unfreeze();
+		Assert.assertEquals(remvals.size(), 7 + 21 + 2);
+		Assert.assertTrue(remvals.contains(-5));
+		Assert.assertTrue(remvals.contains(0));
+		Assert.assertTrue(remvals.contains(120));
+		Assert.assertFalse(remvals.contains(121));
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testFactory() {
+		Model model = new Model();
+		int[] values = new int[400];
+		for (int i = 0; i < 200; i++) {
+			values[i] = i;
+			values[200 + i] = 10000 + i;
+		}
+		IntVar x = model.intVar("x", values);
+		Assert.assertTrue(x instanceof RangeSetIntVarImpl);
+		Assert.assertEquals(x.getDomainSize(), 400);
+		IntVar y = model.intVar("y", new int[]{-51900, 42, 235923});
+		Assert.assertFalse(y instanceof RangeSetIntVarImpl);
+		IntVar z = model.intVar("z", new int[]{0, 1, 2, 3, 4, 5});
+		Assert.assertFalse(z instanceof RangeSetIntVarImpl);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testRandom() throws ContradictionException {
+		for (int seed = 0; seed < 50; seed++) {
+			Random rnd = new Random(seed);
+			Model model = new Model();
+			IEnvironment env = model.getEnvironment();
+			IntIterableRangeSet dom = new IntIterableRangeSet();
+			for (int i = 0; i < 8; i++) {
+				int f = rnd.nextInt(200);
+				dom.addBetween(f, f + rnd.nextInt(20));
+			}
+			IntVar x = new RangeSetIntVarImpl("X", dom, model);
+			IntVar y = new BitsetIntVarImpl("Y", dom.toArray(), model);
+			for (int k = 0; k < 200; k++) {
+				int r = rnd.nextInt(10);
+				if (r < 2) {
+					env.worldPush();
+				} else if (r < 4) {
+					if (env.getWorldIndex() > 0) {
+						env.worldPop();
+					}
+				} else {
+					int a = rnd.nextInt(230) - 5;
+					int b = a + rnd.nextInt(r < 8 ? 4 : 30);
+					env.worldPush();
+					boolean rx = false, ry = false, cx = false, cy = false;
+					try {
+						ry = apply(y, r, a, b);
+					} catch (ContradictionException e) {
+						cy = true;
+					}
+					try {
+						rx = apply(x, r, a, b);
+					} catch (ContradictionException e) {
+						cx = true;
+					}
+					Assert.assertEquals(cx, cy, "seed " + seed);
+					Assert.assertEquals(rx, ry, "seed " + seed);
+					if (cx) {
+						env.worldPop();
+					}
+				}
+				Assert.assertEquals(x.getDomainSize(), y.getDomainSize(), "seed " + seed);
+				Assert.assertEquals(x.getLB(), y.getLB(), "seed " + seed);
+				Assert.assertEquals(x.getUB(), y.getUB(), "seed " + seed);
+				for (int v = y.getLB(); v < Integer.MAX_VALUE; v = y.nextValue(v)) {
+					Assert.assertTrue(x.contains(v), "seed " + seed);
+					Assert.assertEquals(x.nextValue(v), y.nextValue(v), "seed " + seed);
+					Assert.assertEquals(x.previousValue(v), y.previousValue(v), "seed " + seed);
+					Assert.assertEquals(x.nextValueOut(v), y.nextValueOut(v), "seed " + seed);
+					Assert.assertEquals(x.previousValueOut(v), y.previousValueOut(v), "seed " + seed);
+				}
+			}
+		}
+	}
+
+	private static boolean apply(IntVar v, int r, int a, int b) throws ContradictionException {
+		switch (r) {
+			case 4:
+				return v.removeValue(a, Cause.Null);
+			case 5:
+				return v.updateLowerBound(a, Cause.Null) | v.updateUpperBound(b, Cause.Null);
+			case 6:
+				IntIterableBitSet set = new IntIterableBitSet();
+				set.setOffset(a);
+				set.addAll(a, a + 2, b);
+				return v.removeValues(set, Cause.Null);
+			case 7:
+				set = new IntIterableBitSet();
+				set.setOffset(a);
+				set.addAll(a, a + 1, a + 2, b);
+				return v.removeAllValuesBut(set, Cause.Null);
+			default:
+				return v.removeInterval(a, b, Cause.Null);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testSolve() {
+		int[] sols = new int[2];
+		for (int k = 0; k < 2; k++) {
+			Model model = new Model();
+			IntVar[] xs = new IntVar[4];
+			for (int i = 0; i < xs.length; i++) {
+				IntIterableRangeSet dom = new IntIterableRangeSet();
+				dom.addBetween(0, 3);
+				dom.addBetween(1000, 1003);
+				dom.addBetween(2000, 2003);
+				xs[i] = k == 0 ?
+						new RangeSetIntVarImpl("x" + i, dom, model) :
+						new BitsetIntVarImpl("x" + i, dom.toArray(), model);
+			}
+			model.allDifferent(xs).post();
+			model.sum(xs, "=", 3006).post();
+			model.arithm(xs[0], "<", xs[1]).post();
+			while (model.getSolver().solve()) {
+				sols[k]++;
+			}
+		}
+		Assert.assertTrue(sols[0] > 0);
+		Assert.assertEquals(sols[0], sols[1]);
+	}
+}